@@ -0,0 +1,37 @@
+package com.inditex.product.offer.service;
+
+import com.inditex.product.offer.port.dao.BrandDao;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class responsible for checking the brands offers may belong to. It interacts with the {@link BrandDao} to look the
+ * brands up.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+public class BrandGetService {
+
+    private final BrandDao brandDao;
+
+    /**
+     * Constructs an instance of BrandGetService with the specified BrandDao.
+     *
+     * @param brandDao the DAO used for brand lookups
+     */
+    public BrandGetService(BrandDao brandDao) {
+        this.brandDao = brandDao;
+    }
+
+    /**
+     * Checks whether a brand exists.
+     *
+     * @param brandId the brand identifier
+     * @return {@code true} if a brand has that identifier
+     */
+    public boolean existsBrand(Integer brandId) {
+        LOGGER.debug("Checking brand with id: [{}]", brandId);
+        return brandId != null && brandDao.exists(brandId);
+    }
+}
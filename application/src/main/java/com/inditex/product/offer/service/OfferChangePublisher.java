@@ -0,0 +1,101 @@
+package com.inditex.product.offer.service;
+
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.port.listener.OfferChangeListener;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class responsible for publishing offer changes to the registered {@link OfferChangeListener} instances.
+ * <p>
+ * The services call this publisher once the persistence operation has finished, so the listeners always observe committed
+ * data.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+public class OfferChangePublisher {
+
+    private final List<OfferChangeListener> offerChangeListeners;
+
+    /**
+     * Constructs an instance of OfferChangePublisher with the specified listeners.
+     *
+     * @param offerChangeListeners the listeners notified on every offer change
+     */
+    public OfferChangePublisher(List<OfferChangeListener> offerChangeListeners) {
+        this.offerChangeListeners = List.copyOf(offerChangeListeners);
+    }
+
+    /**
+     * Publishes the creation of an offer.
+     *
+     * @param offer the created offer
+     */
+    public void publishCreated(Offer offer) {
+        LOGGER.debug("Publishing offer created: {}", offer);
+        offerChangeListeners.forEach(listener -> listener.offerCreated(offer));
+    }
+
+    /**
+     * Publishes the creation of several offers together.
+     *
+     * @param offers the created offers
+     */
+    public void publishAllCreated(List<Offer> offers) {
+        LOGGER.debug("Publishing [{}] offers created", offers.size());
+        offerChangeListeners.forEach(listener -> listener.offersCreated(offers));
+    }
+
+    /**
+     * Publishes the update of an offer.
+     *
+     * @param offer the updated offer
+     */
+    public void publishUpdated(Offer offer) {
+        LOGGER.debug("Publishing offer updated: {}", offer);
+        offerChangeListeners.forEach(listener -> listener.offerUpdated(offer));
+    }
+
+    /**
+     * Publishes the deletion of an offer.
+     *
+     * @param id the unique identifier of the deleted offer
+     */
+    public void publishDeleted(Long id) {
+        LOGGER.debug("Publishing offer deleted: [{}]", id);
+        offerChangeListeners.forEach(listener -> listener.offerDeleted(id));
+    }
+
+    /**
+     * Publishes the deletion of all the offers of a brand.
+     *
+     * @param brandId the brand identifier
+     */
+    public void publishBrandDeleted(Integer brandId) {
+        LOGGER.debug("Publishing offers of brand deleted: [{}]", brandId);
+        offerChangeListeners.forEach(listener -> listener.brandOffersDeleted(brandId));
+    }
+
+    /**
+     * Publishes the deletion of all the offers of a product.
+     *
+     * @param brandId           the brand identifier
+     * @param productPartNumber the product part number
+     */
+    public void publishProductDeleted(Integer brandId, String productPartNumber) {
+        LOGGER.debug("Publishing offers of product deleted: brandId=[{}], productPartNumber=[{}]", brandId,
+          productPartNumber);
+        offerChangeListeners.forEach(listener -> listener.productOffersDeleted(brandId, productPartNumber));
+    }
+
+    /**
+     * Publishes the deletion of all the offers.
+     */
+    public void publishAllDeleted() {
+        LOGGER.debug("Publishing all offers deleted");
+        offerChangeListeners.forEach(OfferChangeListener::allOffersDeleted);
+    }
+
+}
@@ -2,6 +2,7 @@ package com.inditex.product.offer.service;
 
 import com.inditex.product.offer.model.Offer;
 import com.inditex.product.offer.port.repository.OfferRepository;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 
 
@@ -19,13 +20,17 @@ public class OfferCreateService {
 
     private final OfferRepository offerRepository;
 
+    private final OfferChangePublisher offerChangePublisher;
+
     /**
      * Constructs an instance of OfferCreateService with the specified OfferRepository.
      *
-     * @param offerRepository the repository used for offer persistence
+     * @param offerRepository      the repository used for offer persistence
+     * @param offerChangePublisher the publisher used to notify the created offers
      */
-    public OfferCreateService(OfferRepository offerRepository) {
+    public OfferCreateService(OfferRepository offerRepository, OfferChangePublisher offerChangePublisher) {
         this.offerRepository = offerRepository;
+        this.offerChangePublisher = offerChangePublisher;
     }
 
     /**
@@ -36,7 +41,36 @@ public class OfferCreateService {
      */
     public Offer createOffer(Offer offer) {
         LOGGER.info("Creating offer: {}", offer);
-        return offerRepository.create(offer);
+        var createdOffer = offerRepository.create(offer);
+        offerChangePublisher.publishCreated(createdOffer);
+        return createdOffer;
+    }
+
+    /**
+     * Creates several offers and persists them together using the repository, skipping those whose identifier already
+     * exists.
+     *
+     * @param offers the offers to be created
+     * @return the created offers, without the skipped ones
+     */
+    public List<Offer> createOffers(List<Offer> offers) {
+        LOGGER.info("Creating [{}] offers", offers.size());
+        var createdOffers = offerRepository.createAll(offers);
+        offerChangePublisher.publishAllCreated(createdOffers);
+        return createdOffers;
+    }
+
+    /**
+     * Creates or replaces several offers and persists them together using the repository.
+     *
+     * @param offers the offers to be created or replaced
+     * @return the saved offers
+     */
+    public List<Offer> upsertOffers(List<Offer> offers) {
+        LOGGER.info("Upserting [{}] offers", offers.size());
+        var savedOffers = offerRepository.upsertAll(offers);
+        offerChangePublisher.publishAllCreated(savedOffers);
+        return savedOffers;
     }
 
 }
@@ -6,8 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Service class responsible for handling the deletion of offers.
  * <p>
- * This class provides methods to delete all offers or a specific offer by its ID. It interacts with the
- * {@link OfferRepository} to perform the deletion operations.
+ * This class provides methods to delete all offers, the offers of a brand or of a product, or a specific offer by its ID.
+ * It interacts with the {@link OfferRepository} to perform the deletion operations.
  *
  * @author [product-offers@inditex.es]
  * @since 1.0.0
@@ -17,13 +17,17 @@ public class OfferDeleteService {
 
     private final OfferRepository offerRepository;
 
+    private final OfferChangePublisher offerChangePublisher;
+
     /**
      * Constructs an instance of OfferDeleteService with the specified OfferRepository.
      *
-     * @param offerRepository the repository used for offer persistence
+     * @param offerRepository      the repository used for offer persistence
+     * @param offerChangePublisher the publisher used to notify the deleted offers
      */
-    public OfferDeleteService(OfferRepository offerRepository) {
+    public OfferDeleteService(OfferRepository offerRepository, OfferChangePublisher offerChangePublisher) {
         this.offerRepository = offerRepository;
+        this.offerChangePublisher = offerChangePublisher;
     }
 
     /**
@@ -32,16 +36,49 @@ public class OfferDeleteService {
     public void deleteAllOffers() {
         LOGGER.info("Deleting all offers");
         offerRepository.deleteAll();
+        offerChangePublisher.publishAllDeleted();
     }
 
     /**
      * Deletes a specific offer by its id unique identifier.
      *
      * @param id the unique identifier of the offer to be deleted
+     * @return {@code true} if the offer existed and was deleted
      */
-    public void deleteOfferById(Long id) {
+    public boolean deleteOfferById(Long id) {
         LOGGER.info("Deleting offer with id: [{}]", id);
-        offerRepository.deleteById(id);
+        if (offerRepository.deleteById(id) == 0) {
+            return false;
+        }
+        offerChangePublisher.publishDeleted(id);
+        return true;
+    }
+
+    /**
+     * Deletes all the offers of a brand.
+     *
+     * @param brandId the brand identifier
+     * @return the number of deleted offers
+     */
+    public int deleteOffersByBrand(Integer brandId) {
+        LOGGER.info("Deleting offers of brandId: [{}]", brandId);
+        var deletedOffers = offerRepository.deleteByBrandId(brandId);
+        offerChangePublisher.publishBrandDeleted(brandId);
+        return deletedOffers;
+    }
+
+    /**
+     * Deletes all the offers of a product.
+     *
+     * @param brandId           the brand identifier
+     * @param productPartNumber the product part number
+     * @return the number of deleted offers
+     */
+    public int deleteOffersByCriteria(Integer brandId, String productPartNumber) {
+        LOGGER.info("Deleting offers by criteria: brandId=[{}], productPartNumber=[{}]", brandId, productPartNumber);
+        var deletedOffers = offerRepository.deleteByCriteria(brandId, productPartNumber);
+        offerChangePublisher.publishProductDeleted(brandId, productPartNumber);
+        return deletedOffers;
     }
 
 }
@@ -2,14 +2,16 @@ package com.inditex.product.offer.service;
 
 import com.inditex.product.offer.model.Offer;
 import com.inditex.product.offer.port.dao.OfferDao;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service class responsible for handling the retrieval of offers.
  * <p>
- * This class provides methods to retrieve offers by ID, all offers, or offers based on specific criteria. It interacts with
- * the {@link OfferDao} to perform the retrieval operations.
+ * This class provides methods to retrieve offers by ID, by a list of IDs, all offers, or offers based on specific criteria.
+ * It interacts with the {@link OfferDao} to perform the retrieval operations.
  *
  * @author [product-offers@inditex.es]
  * @since 1.0.0
@@ -39,6 +41,17 @@ public class OfferGetService {
         return offerDao.getById(id);
     }
 
+    /**
+     * Retrieves the offers with the given IDs at once, skipping the IDs of no offer.
+     *
+     * @param ids the IDs of the offers to be retrieved
+     * @return the offers found, ordered by ID
+     */
+    public List<Offer> getOffersByIds(Collection<Long> ids) {
+        LOGGER.info("Retrieving [{}] offers by id", ids.size());
+        return offerDao.getByIds(ids);
+    }
+
     /**
      * Retrieves all offers.
      *
@@ -49,6 +62,28 @@ public class OfferGetService {
         return offerDao.getAll();
     }
 
+    /**
+     * Retrieves a page of offers ordered by identifier.
+     *
+     * @param afterOfferId the identifier of the last offer of the previous page, {@code 0} for the first page
+     * @param limit        the maximum number of offers of the page
+     * @return the offers of the page
+     */
+    public List<Offer> getOffersPage(Long afterOfferId, int limit) {
+        LOGGER.info("Retrieving [{}] offers after id: [{}]", limit, afterOfferId);
+        return offerDao.getPage(afterOfferId, limit);
+    }
+
+    /**
+     * Exports all offers, ordered by identifier, passing each one to the given action as it is read.
+     *
+     * @param action the action applied to every offer
+     */
+    public void exportOffers(Consumer<Offer> action) {
+        LOGGER.info("Exporting all offers");
+        offerDao.forEach(action);
+    }
+
     /**
      * Retrieves offers based on specific criteria.
      *
@@ -0,0 +1,48 @@
+package com.inditex.product.offer.service;
+
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
+import com.inditex.product.offer.port.repository.OfferRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service class responsible for handling the partial updates of offers.
+ * <p>
+ * This class provides a method to change some fields of an existing offer in place. It interacts with the
+ * {@link OfferRepository} to perform the update and publishes the updated offer.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+public class OfferUpdateService {
+
+    private final OfferRepository offerRepository;
+
+    private final OfferChangePublisher offerChangePublisher;
+
+    /**
+     * Constructs an instance of OfferUpdateService with the specified OfferRepository.
+     *
+     * @param offerRepository      the repository used for offer persistence
+     * @param offerChangePublisher the publisher used to notify the updated offers
+     */
+    public OfferUpdateService(OfferRepository offerRepository, OfferChangePublisher offerChangePublisher) {
+        this.offerRepository = offerRepository;
+        this.offerChangePublisher = offerChangePublisher;
+    }
+
+    /**
+     * Updates some fields of an offer.
+     *
+     * @param id          the unique identifier of the offer to be updated
+     * @param offerUpdate the fields to be changed
+     * @return the updated offer
+     */
+    public Offer updateOffer(Long id, OfferUpdate offerUpdate) {
+        LOGGER.info("Updating offer with id: [{}], {}", id, offerUpdate);
+        var updatedOffer = offerRepository.update(id, offerUpdate);
+        offerChangePublisher.publishUpdated(updatedOffer);
+        return updatedOffer;
+    }
+}
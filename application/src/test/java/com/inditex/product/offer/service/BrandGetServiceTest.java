@@ -0,0 +1,55 @@
+package com.inditex.product.offer.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.port.dao.BrandDao;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Unit test for the BrandGetService class.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class BrandGetServiceTest {
+
+    @Mock
+    private BrandDao brandDao;
+
+    @InjectMocks
+    private BrandGetService brandGetService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Test existsBrand - Known and unknown brands")
+    void testExistsBrand() {
+        when(brandDao.exists(1)).thenReturn(true);
+
+        assertTrue(brandGetService.existsBrand(1));
+        assertFalse(brandGetService.existsBrand(2));
+        verify(brandDao).exists(1);
+        verify(brandDao).exists(2);
+    }
+
+    @Test
+    @DisplayName("Test existsBrand - Missing brand is not looked up")
+    void testExistsBrandNull() {
+
+        assertFalse(brandGetService.existsBrand(null));
+        verify(brandDao, never()).exists(any());
+    }
+}
@@ -0,0 +1,108 @@
+package com.inditex.product.offer.service;
+
+import static org.mockito.Mockito.verify;
+
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.port.listener.OfferChangeListener;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Unit test for the OfferChangePublisher class.
+ * <p>
+ * This test class verifies that every offer change is published to all the registered listeners.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferChangePublisherTest {
+
+    @Mock
+    private OfferChangeListener firstOfferChangeListener;
+
+    @Mock
+    private OfferChangeListener secondOfferChangeListener;
+
+    private OfferChangePublisher offerChangePublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        offerChangePublisher = new OfferChangePublisher(List.of(firstOfferChangeListener, secondOfferChangeListener));
+    }
+
+    @Test
+    @DisplayName("Test publishCreated - Notifies all listeners")
+    void testPublishCreated() {
+        final var offer = new Offer();
+
+        offerChangePublisher.publishCreated(offer);
+
+        verify(firstOfferChangeListener).offerCreated(offer);
+        verify(secondOfferChangeListener).offerCreated(offer);
+    }
+
+    @Test
+    @DisplayName("Test publishAllCreated - Notifies all listeners once")
+    void testPublishAllCreated() {
+        final var offers = List.of(new Offer(), new Offer());
+
+        offerChangePublisher.publishAllCreated(offers);
+
+        verify(firstOfferChangeListener).offersCreated(offers);
+        verify(secondOfferChangeListener).offersCreated(offers);
+    }
+
+    @Test
+    @DisplayName("Test publishUpdated - Notifies all listeners")
+    void testPublishUpdated() {
+        final var offer = new Offer();
+
+        offerChangePublisher.publishUpdated(offer);
+
+        verify(firstOfferChangeListener).offerUpdated(offer);
+        verify(secondOfferChangeListener).offerUpdated(offer);
+    }
+
+    @Test
+    @DisplayName("Test publishDeleted - Notifies all listeners")
+    void testPublishDeleted() {
+        final Long offerId = 1L;
+
+        offerChangePublisher.publishDeleted(offerId);
+
+        verify(firstOfferChangeListener).offerDeleted(offerId);
+        verify(secondOfferChangeListener).offerDeleted(offerId);
+    }
+
+    @Test
+    @DisplayName("Test publishBrandDeleted - Notifies all listeners")
+    void testPublishBrandDeleted() {
+        offerChangePublisher.publishBrandDeleted(1);
+
+        verify(firstOfferChangeListener).brandOffersDeleted(1);
+        verify(secondOfferChangeListener).brandOffersDeleted(1);
+    }
+
+    @Test
+    @DisplayName("Test publishProductDeleted - Notifies all listeners")
+    void testPublishProductDeleted() {
+        offerChangePublisher.publishProductDeleted(1, "0001002");
+
+        verify(firstOfferChangeListener).productOffersDeleted(1, "0001002");
+        verify(secondOfferChangeListener).productOffersDeleted(1, "0001002");
+    }
+
+    @Test
+    @DisplayName("Test publishAllDeleted - Notifies all listeners")
+    void testPublishAllDeleted() {
+        offerChangePublisher.publishAllDeleted();
+
+        verify(firstOfferChangeListener).allOffersDeleted();
+        verify(secondOfferChangeListener).allOffersDeleted();
+    }
+}
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 
 import com.inditex.product.offer.model.Offer;
 import com.inditex.product.offer.port.repository.OfferRepository;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,9 @@ class OfferCreateServiceTest {
     @Mock
     private OfferRepository offerRepository;
 
+    @Mock
+    private OfferChangePublisher offerChangePublisher;
+
     @InjectMocks
     private OfferCreateService offerCreateService;
 
@@ -47,5 +51,53 @@ class OfferCreateServiceTest {
 
         assertEquals(mockOffer, result);
         verify(offerRepository).create(mockOffer);
+        verify(offerChangePublisher).publishCreated(mockOffer);
+    }
+
+    @Test
+    @DisplayName("Test createOffers - Success")
+    void testCreateOffersSuccess() {
+
+        final var firstOffer = mock(Offer.class);
+        final var secondOffer = mock(Offer.class);
+        final var offers = List.of(firstOffer, secondOffer);
+        when(offerRepository.createAll(offers)).thenReturn(offers);
+
+        final var result = offerCreateService.createOffers(offers);
+
+        assertEquals(offers, result);
+        verify(offerRepository).createAll(offers);
+        verify(offerChangePublisher).publishAllCreated(offers);
+    }
+
+    @Test
+    @DisplayName("Test createOffers - Only the created offers are published")
+    void testCreateOffersSkipsExisting() {
+
+        final var existingOffer = mock(Offer.class);
+        final var newOffer = mock(Offer.class);
+        final var offers = List.of(existingOffer, newOffer);
+        when(offerRepository.createAll(offers)).thenReturn(List.of(newOffer));
+
+        final var result = offerCreateService.createOffers(offers);
+
+        assertEquals(List.of(newOffer), result);
+        verify(offerChangePublisher).publishAllCreated(List.of(newOffer));
+    }
+
+    @Test
+    @DisplayName("Test upsertOffers - Success")
+    void testUpsertOffersSuccess() {
+
+        final var firstOffer = mock(Offer.class);
+        final var secondOffer = mock(Offer.class);
+        final var offers = List.of(firstOffer, secondOffer);
+        when(offerRepository.upsertAll(offers)).thenReturn(offers);
+
+        final var result = offerCreateService.upsertOffers(offers);
+
+        assertEquals(offers, result);
+        verify(offerRepository).upsertAll(offers);
+        verify(offerChangePublisher).publishAllCreated(offers);
     }
 }
\ No newline at end of file
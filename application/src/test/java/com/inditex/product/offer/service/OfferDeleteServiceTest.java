@@ -1,6 +1,11 @@
 package com.inditex.product.offer.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.inditex.product.offer.port.repository.OfferRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,8 +18,8 @@ import org.mockito.MockitoAnnotations;
 /**
  * Unit test for the OfferDeleteService class.
  * <p>
- * This test class verifies the functionality of the deleteOfferById and deleteAllOffers methods in the
- * OfferDeleteService class.
+ * This test class verifies the functionality of the deleteOfferById, deleteOffersByBrand, deleteOffersByCriteria and
+ * deleteAllOffers methods in the OfferDeleteService class.
  * </p>
  *
  * @author [product-offers@inditex.es]
@@ -25,6 +30,9 @@ class OfferDeleteServiceTest {
     @Mock
     private OfferRepository offerRepository;
 
+    @Mock
+    private OfferChangePublisher offerChangePublisher;
+
     @InjectMocks
     private OfferDeleteService offerDeleteService;
 
@@ -38,12 +46,61 @@ class OfferDeleteServiceTest {
     void testDeleteOfferByIdSuccess() {
         // Arrange
         Long offerId = 1L;
+        when(offerRepository.deleteById(offerId)).thenReturn(1);
+
+        // Act
+        var deleted = offerDeleteService.deleteOfferById(offerId);
+
+        // Assert
+        assertTrue(deleted);
+        verify(offerRepository).deleteById(offerId);
+        verify(offerChangePublisher).publishDeleted(offerId);
+    }
+
+    @Test
+    @DisplayName("Test deleteOfferById - Not found")
+    void testDeleteOfferByIdNotFound() {
+        // Arrange
+        Long offerId = 1L;
+        when(offerRepository.deleteById(offerId)).thenReturn(0);
 
         // Act
-        offerDeleteService.deleteOfferById(offerId);
+        var deleted = offerDeleteService.deleteOfferById(offerId);
 
         // Assert
+        assertFalse(deleted);
         verify(offerRepository).deleteById(offerId);
+        verify(offerChangePublisher, never()).publishDeleted(offerId);
+    }
+
+    @Test
+    @DisplayName("Test deleteOffersByBrand - Success")
+    void testDeleteOffersByBrandSuccess() {
+        // Arrange
+        when(offerRepository.deleteByBrandId(1)).thenReturn(3);
+
+        // Act
+        final var result = offerDeleteService.deleteOffersByBrand(1);
+
+        // Assert
+        assertEquals(3, result);
+        verify(offerRepository).deleteByBrandId(1);
+        verify(offerChangePublisher).publishBrandDeleted(1);
+    }
+
+    @Test
+    @DisplayName("Test deleteOffersByCriteria - Success")
+    void testDeleteOffersByCriteriaSuccess() {
+        // Arrange
+        when(offerRepository.deleteByCriteria(1, "0001002")).thenReturn(2);
+
+        // Act
+        final var result = offerDeleteService.deleteOffersByCriteria(1, "0001002");
+
+        // Assert
+        assertEquals(2, result);
+        verify(offerRepository).deleteByCriteria(1, "0001002");
+        verify(offerChangePublisher).publishProductDeleted(1, "0001002");
     }
 
     @Test
@@ -54,5 +111,6 @@ class OfferDeleteServiceTest {
 
         // Assert
         verify(offerRepository).deleteAll();
+        verify(offerChangePublisher).publishAllDeleted();
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 import com.inditex.product.offer.model.Offer;
 import com.inditex.product.offer.port.dao.OfferDao;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,8 +18,8 @@ import org.mockito.MockitoAnnotations;
 /**
  * Unit test for the OfferGetService class.
  * <p>
- * This test class verifies the functionality of the getOfferById, getAllOffers, and getOffersByCriteria methods in the
- * OfferGetService class.
+ * This test class verifies the functionality of the getOfferById, getOffersByIds, getAllOffers, getOffersPage,
+ * exportOffers and getOffersByCriteria methods in the OfferGetService class.
  *
  * @author [product-offers@inditex.es]
  * @since 1.0.0
@@ -52,6 +53,22 @@ class OfferGetServiceTest {
         verify(offerDao).getById(offerId);
     }
 
+    @Test
+    @DisplayName("Test getOffersByIds - Success")
+    void testGetOffersByIdsSuccess() {
+        // Arrange
+        List<Long> ids = List.of(1L, 2L);
+        List<Offer> mockOffers = List.of(new Offer());
+        when(offerDao.getByIds(ids)).thenReturn(mockOffers);
+
+        // Act
+        List<Offer> result = offerGetService.getOffersByIds(ids);
+
+        // Assert
+        assertEquals(mockOffers, result);
+        verify(offerDao).getByIds(ids);
+    }
+
     @Test
     @DisplayName("Test getAllOffers - Success")
     void testGetAllOffersSuccess() {
@@ -67,6 +84,35 @@ class OfferGetServiceTest {
         verify(offerDao).getAll();
     }
 
+    @Test
+    @DisplayName("Test getOffersPage - Success")
+    void testGetOffersPageSuccess() {
+        // Arrange
+        List<Offer> mockOffers = List.of(new Offer());
+        when(offerDao.getPage(10L, 5)).thenReturn(mockOffers);
+
+        // Act
+        List<Offer> result = offerGetService.getOffersPage(10L, 5);
+
+        // Assert
+        assertEquals(mockOffers, result);
+        verify(offerDao).getPage(10L, 5);
+    }
+
+    @Test
+    @DisplayName("Test exportOffers - Success")
+    void testExportOffersSuccess() {
+        // Arrange
+        Consumer<Offer> action = offer -> {
+        };
+
+        // Act
+        offerGetService.exportOffers(action);
+
+        // Assert
+        verify(offerDao).forEach(action);
+    }
+
     @Test
     @DisplayName("Test getOffersByCriteria - Success")
     void testGetOffersByCriteriaSuccess() {
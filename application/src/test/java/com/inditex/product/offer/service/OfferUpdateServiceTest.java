@@ -0,0 +1,66 @@
+package com.inditex.product.offer.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
+import com.inditex.product.offer.port.repository.OfferRepository;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * Unit test for the OfferUpdateService class.
+ * <p>
+ * This test class verifies the functionality of the updateOffer method in the OfferUpdateService class.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferUpdateServiceTest {
+
+    @Mock
+    private OfferRepository offerRepository;
+
+    @Mock
+    private OfferChangePublisher offerChangePublisher;
+
+    @InjectMocks
+    private OfferUpdateService offerUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Test updateOffer - Success")
+    void testUpdateOfferSuccess() {
+        final var offerUpdate = OfferUpdate.builder().price(BigDecimal.TEN).version(0L).build();
+        final var updatedOffer = Offer.builder().offerId(1L).price(BigDecimal.TEN).version(1L).build();
+        when(offerRepository.update(1L, offerUpdate)).thenReturn(updatedOffer);
+
+        assertEquals(updatedOffer, offerUpdateService.updateOffer(1L, offerUpdate));
+        verify(offerRepository).update(1L, offerUpdate);
+        verify(offerChangePublisher).publishUpdated(updatedOffer);
+    }
+
+    @Test
+    @DisplayName("Test updateOffer - Nothing is published when the update fails")
+    void testUpdateOfferFailure() {
+        final var offerUpdate = OfferUpdate.builder().priority(1).build();
+        when(offerRepository.update(1L, offerUpdate)).thenThrow(new IllegalStateException("Stale offer"));
+
+        assertThrows(IllegalStateException.class, () -> offerUpdateService.updateOffer(1L, offerUpdate));
+        verify(offerChangePublisher, never()).publishUpdated(any());
+    }
+}
@@ -0,0 +1,78 @@
+package com.inditex.product.offer.benchmark;
+
+import com.inditex.product.offer.model.Offer;
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Factory of the reproducible offers used by the benchmarks.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public final class BenchmarkOffers {
+
+    static final Integer BRAND_ID = 1;
+
+    static final String PART_NUMBER = "0001002";
+
+    private static final ZonedDateTime FIRST_START_DATE = ZonedDateTime.of(2020, 6, 14, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final long SPACING_SECONDS = 3_600;
+
+    private static final long SEED = 42;
+
+    private BenchmarkOffers() {
+
+    }
+
+    /**
+     * Builds offers of one product whose start dates are spread one hour apart on average.
+     *
+     * @param offerCount the number of offers
+     * @param overlap    the average number of offers active at the same time
+     * @return the offers, sorted by identifier
+     */
+    static List<Offer> of(int offerCount, Overlap overlap) {
+        var random = new Random(SEED);
+        var timeSpanSeconds = offerCount * SPACING_SECONDS;
+        var maxDurationSeconds = 2 * overlap.activeOffers * SPACING_SECONDS;
+
+        List<Offer> offers = new ArrayList<>(offerCount);
+        for (int i = 0; i < offerCount; i++) {
+            var startDate = FIRST_START_DATE.plusSeconds(random.nextLong(timeSpanSeconds));
+            offers.add(Offer.builder()
+              .offerId(i + 1L)
+              .brandId(BRAND_ID)
+              .startDate(startDate)
+              .endDate(startDate.plusSeconds(1 + random.nextLong(maxDurationSeconds)))
+              .priceListId(i + 1L)
+              .productPartNumber(PART_NUMBER)
+              .priority(random.nextInt(4))
+              .price(BigDecimal.valueOf(1_000 + random.nextInt(9_000), 2))
+              .currencyIso("EUR")
+              .build());
+        }
+        return offers;
+    }
+
+    /**
+     * Density of the overlapping offers.
+     */
+    public enum Overlap {
+
+        SPARSE(1),
+
+        DENSE(32);
+
+        private final int activeOffers;
+
+        Overlap(int activeOffers) {
+            this.activeOffers = activeOffers;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.inditex.product.offer.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * <p>
+ * It accepts the standard JMH command line options (e.g. a regular expression selecting the benchmarks, or {@code -p} to
+ * override parameters) and always attaches the {@link GCProfiler}, so every result reports its allocation rate per
+ * operation ({@code gc.alloc.rate.norm}) next to its time.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        var options = new OptionsBuilder()
+          .parent(new CommandLineOptions(args))
+          .addProfiler(GCProfiler.class)
+          .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,77 @@
+package com.inditex.product.offer.benchmark;
+
+import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
+import com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+/**
+ * Benchmark of {@link OfferCreateRequestValidator#validate(Object, Errors)} with a valid request and with a request whose
+ * dates have an invalid format, which is the path raising and catching a parse exception per date.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OfferCreateRequestValidatorBenchmark {
+
+    private OfferCreateRequestValidator offerCreateRequestValidator;
+
+    private OfferCreateRequestDTO validRequest;
+
+    private OfferCreateRequestDTO invalidDatesRequest;
+
+    @Setup
+    public void setUp() {
+        offerCreateRequestValidator = new OfferCreateRequestValidator();
+        validRequest = getRequest("2020-06-14T00.00.00Z", "2020-12-31T23.59.59Z");
+        invalidDatesRequest = getRequest("2020-06-14 00:00:00", "2020-12-31 23:59:59");
+    }
+
+    @Benchmark
+    public Errors validateValid() {
+        return validate(validRequest);
+    }
+
+    @Benchmark
+    public Errors validateInvalidDates() {
+        return validate(invalidDatesRequest);
+    }
+
+    private Errors validate(OfferCreateRequestDTO offerCreateRequestDTO) {
+        var errors = new BeanPropertyBindingResult(offerCreateRequestDTO, "offerCreateRequestDTO");
+        offerCreateRequestValidator.validate(offerCreateRequestDTO, errors);
+        return errors;
+    }
+
+    private static OfferCreateRequestDTO getRequest(String startDate, String endDate) {
+        return OfferCreateRequestDTO.builder()
+          .offerId(1L)
+          .brandId(BenchmarkOffers.BRAND_ID)
+          .startDate(startDate)
+          .endDate(endDate)
+          .priceListId(1L)
+          .productPartnumber(BenchmarkOffers.PART_NUMBER)
+          .priority(0)
+          .price(new BigDecimal("35.50"))
+          .currencyIso("EUR")
+          .build();
+    }
+}
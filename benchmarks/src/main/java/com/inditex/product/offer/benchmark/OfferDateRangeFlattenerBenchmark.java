@@ -0,0 +1,57 @@
+package com.inditex.product.offer.benchmark;
+
+import com.inditex.product.offer.adapter.inbound.dto.OfferDateRangeFlattenedResponseDTO;
+import com.inditex.product.offer.adapter.inbound.utils.FlattenerEngine;
+import com.inditex.product.offer.adapter.inbound.utils.OfferDateRangeFlattener;
+import com.inditex.product.offer.benchmark.BenchmarkOffers.Overlap;
+import com.inditex.product.offer.model.Offer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link OfferDateRangeFlattener#flatten(List, FlattenerEngine)} across offer counts, overlap densities and
+ * engines.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OfferDateRangeFlattenerBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int offerCount;
+
+    @Param({"SPARSE", "DENSE"})
+    public Overlap overlap;
+
+    @Param({"CLASSIC", "PRIMITIVE"})
+    public FlattenerEngine engine;
+
+    private List<Offer> offers;
+
+    @Setup
+    public void setUp() {
+        offers = BenchmarkOffers.of(offerCount, overlap);
+    }
+
+    @Benchmark
+    public List<OfferDateRangeFlattenedResponseDTO> flatten() {
+        return OfferDateRangeFlattener.flatten(offers, engine);
+    }
+}
@@ -0,0 +1,73 @@
+package com.inditex.product.offer.benchmark;
+
+import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferResponseDTO;
+import com.inditex.product.offer.adapter.inbound.mapper.OfferDtoMapper;
+import com.inditex.product.offer.adapter.outbound.mapper.OfferDboMapper;
+import com.inditex.product.offer.benchmark.BenchmarkOffers.Overlap;
+import com.inditex.product.offer.model.Offer;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the round trips performed by {@link OfferDtoMapper} on every request and by {@link OfferDboMapper} on
+ * every persisted offer.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OfferMapperBenchmark {
+
+    private OfferDtoMapper offerDtoMapper;
+
+    private OfferDboMapper offerDboMapper;
+
+    private OfferCreateRequestDTO offerCreateRequestDTO;
+
+    private Offer offer;
+
+    @Setup
+    public void setUp() {
+        offerDtoMapper = Mappers.getMapper(OfferDtoMapper.class);
+        offerDboMapper = Mappers.getMapper(OfferDboMapper.class);
+        offerCreateRequestDTO = OfferCreateRequestDTO.builder()
+          .offerId(1L)
+          .brandId(BenchmarkOffers.BRAND_ID)
+          .startDate("2020-06-14T00.00.00Z")
+          .endDate("2020-12-31T23.59.59Z")
+          .priceListId(1L)
+          .productPartnumber(BenchmarkOffers.PART_NUMBER)
+          .priority(0)
+          .price(new BigDecimal("35.50"))
+          .currencyIso("EUR")
+          .build();
+        offer = BenchmarkOffers.of(1, Overlap.SPARSE).getFirst();
+    }
+
+    @Benchmark
+    public OfferResponseDTO dtoRoundTrip() {
+        return offerDtoMapper.toOfferResponseDTO(offerDtoMapper.toOfferDomain(offerCreateRequestDTO));
+    }
+
+    @Benchmark
+    public Offer dboRoundTrip() {
+        return offerDboMapper.toOfferDomain(offerDboMapper.toOfferEntity(offer));
+    }
+}
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * Model class representing an Offer in the system. This class is used to encapsulate offer-related data in the domain layer.
- * It includes details such as the associated brand, validity period, pricing, and priority.
+ * It includes details such as the associated brand, validity period, pricing, and priority, and the version of the offer,
+ * increased on every update.
  *
  * @author [product-offers@inditex.es]
  * @since 1.0.0
@@ -38,5 +39,7 @@ public class Offer {
     private BigDecimal price;
 
     private String currencyIso;
+
+    private Long version;
 }
 
@@ -0,0 +1,32 @@
+package com.inditex.product.offer.model;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Model class representing a partial update of an Offer. Only the non-null fields are changed. When the version is given,
+ * the update is applied only if the Offer still has that version.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferUpdate {
+
+    private ZonedDateTime startDate;
+
+    private ZonedDateTime endDate;
+
+    private Integer priority;
+
+    private BigDecimal price;
+
+    private Long version;
+}
@@ -0,0 +1,18 @@
+package com.inditex.product.offer.port.dao;
+
+/**
+ * Data Access Object (DAO) interface for checking the brands known by the persistence layer.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public interface BrandDao {
+
+    /**
+     * Checks whether a brand exists.
+     *
+     * @param brandId the brand identifier
+     * @return {@code true} if a brand has that identifier
+     */
+    boolean exists(Integer brandId);
+}
@@ -2,7 +2,9 @@ package com.inditex.product.offer.port.dao;
 
 
 import com.inditex.product.offer.model.Offer;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Data Access Object (DAO) interface for managing Offer entities. Provides methods to retrieve Offer data from the
@@ -24,6 +26,14 @@ public interface OfferDao {
      */
     Offer getById(Long id);
 
+    /**
+     * Retrieves the Offers with the given identifiers at once. The identifiers of no Offer are skipped instead of failing.
+     *
+     * @param ids the unique identifiers of the Offers
+     * @return the Offers found, ordered by identifier
+     */
+    List<Offer> getByIds(Collection<Long> ids);
+
     /**
      * Retrieves all Offer entities.
      *
@@ -31,6 +41,24 @@ public interface OfferDao {
      */
     List<Offer> getAll();
 
+    /**
+     * Retrieves a page of Offers ordered by identifier, starting right after a given identifier. Every page costs the same
+     * whatever its position, as it seeks the first identifier instead of skipping the previous rows.
+     *
+     * @param afterOfferId the identifier of the last Offer of the previous page, {@code 0} for the first page
+     * @param limit        the maximum number of Offers of the page
+     * @return the Offers whose identifier is greater than {@code afterOfferId}, at most {@code limit}
+     */
+    List<Offer> getPage(Long afterOfferId, int limit);
+
+    /**
+     * Passes every Offer, ordered by identifier, to the given action as it is read, so the Offers are never held in memory
+     * all at once.
+     *
+     * @param action the action applied to every Offer
+     */
+    void forEach(Consumer<Offer> action);
+
 
     List<Offer> getByCriteria(Integer brandId, String productPartNumber);
 
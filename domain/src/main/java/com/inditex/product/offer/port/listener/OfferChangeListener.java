@@ -0,0 +1,69 @@
+package com.inditex.product.offer.port.listener;
+
+import com.inditex.product.offer.model.Offer;
+import java.util.List;
+
+/**
+ * Listener interface notified after Offer data has been changed in the persistence layer.
+ * <p>
+ * This interface allows components that keep data derived from the stored offers (e.g. caches or precomputed timelines) to
+ * be kept in sync with the writes performed through the {@code OfferRepository} port.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public interface OfferChangeListener {
+
+    /**
+     * Notifies that a new Offer has been created.
+     *
+     * @param offer the created Offer
+     */
+    void offerCreated(Offer offer);
+
+    /**
+     * Notifies that several Offers have been created together. Listeners deriving data per product may override it to
+     * process every affected product once, instead of once per Offer.
+     *
+     * @param offers the created Offers
+     */
+    default void offersCreated(List<Offer> offers) {
+        offers.forEach(this::offerCreated);
+    }
+
+    /**
+     * Notifies that an Offer has been updated. An updated Offer replaces the previous one, as a created Offer does.
+     *
+     * @param offer the updated Offer
+     */
+    default void offerUpdated(Offer offer) {
+        offerCreated(offer);
+    }
+
+    /**
+     * Notifies that an Offer has been deleted.
+     *
+     * @param id the unique identifier of the deleted Offer
+     */
+    void offerDeleted(Long id);
+
+    /**
+     * Notifies that all the Offers of a brand have been deleted.
+     *
+     * @param brandId the brand identifier
+     */
+    void brandOffersDeleted(Integer brandId);
+
+    /**
+     * Notifies that all the Offers of a product have been deleted.
+     *
+     * @param brandId           the brand identifier
+     * @param productPartNumber the product part number
+     */
+    void productOffersDeleted(Integer brandId, String productPartNumber);
+
+    /**
+     * Notifies that all the Offers have been deleted.
+     */
+    void allOffersDeleted();
+}
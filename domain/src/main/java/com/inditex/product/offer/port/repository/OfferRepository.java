@@ -1,6 +1,8 @@
 package com.inditex.product.offer.port.repository;
 
 import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
+import java.util.List;
 
 
 /**
@@ -22,12 +24,57 @@ public interface OfferRepository {
      */
     Offer create(Offer offer);
 
+    /**
+     * Creates several new Offers in the system within a single unit of work. The Offers whose identifier already exists
+     * are skipped, leaving the existing ones unchanged.
+     *
+     * @param offers the Offers to be created
+     * @return the created Offers, in the same order, without the skipped ones
+     */
+    List<Offer> createAll(List<Offer> offers);
+
+    /**
+     * Creates or replaces several Offers in the system within a single unit of work. An Offer whose identifier already
+     * exists replaces the existing one.
+     *
+     * @param offers the Offers to be created or replaced
+     * @return the saved Offers, in the same order
+     */
+    List<Offer> upsertAll(List<Offer> offers);
+
+    /**
+     * Updates some fields of an existing Offer in place.
+     *
+     * @param id          the unique identifier of the Offer to be updated
+     * @param offerUpdate the fields to be changed, and optionally the version the Offer is expected to have
+     * @return the updated Offer, with its new version
+     */
+    Offer update(Long id, OfferUpdate offerUpdate);
+
     /**
      * Deletes an Offer by its unique identifier.
      *
      * @param id the unique identifier of the Offer to be deleted
+     * @return the number of deleted Offers, {@code 0} if no Offer has that identifier
+     */
+    int deleteById(Long id);
+
+    /**
+     * Deletes all the Offers of a brand.
+     *
+     * @param brandId the brand identifier
+     * @return the number of deleted Offers
+     */
+    int deleteByBrandId(Integer brandId);
+
+    /**
+     * Deletes all the Offers of a product.
+     *
+     * @param brandId           the brand identifier
+     * @param productPartNumber the product part number
+     * @return the number of deleted Offers
      */
-    void deleteById(Long id);
+    int deleteByCriteria(Integer brandId, String productPartNumber);
 
     void deleteAll();
 }
\ No newline at end of file
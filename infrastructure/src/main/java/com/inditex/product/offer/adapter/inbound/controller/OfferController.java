@@ -1,21 +1,41 @@
 package com.inditex.product.offer.adapter.inbound.controller;
 
-import static com.inditex.product.offer.adapter.inbound.utils.OfferDateRangeFlattener.flatten;
+import static com.inditex.product.offer.adapter.inbound.utils.ZonedDateTimeUtils.dateFormatter;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.ResponseEntity.status;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.product.offer.adapter.inbound.dto.OfferBatchErrorDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferBatchResponseDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferByIdsResponseDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferDateRangeFlattenedResponseDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferResponseDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferResponseIdDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferUpdateRequestDTO;
 import com.inditex.product.offer.adapter.inbound.exception.ValidationOfferException;
 import com.inditex.product.offer.adapter.inbound.mapper.OfferDtoMapper;
+import com.inditex.product.offer.adapter.inbound.timeline.OfferTimeline;
+import com.inditex.product.offer.adapter.inbound.timeline.OfferTimeline.Segment;
+import com.inditex.product.offer.adapter.inbound.timeline.OfferTimelineCache;
+import com.inditex.product.offer.adapter.inbound.timeline.OfferTimelineResponse;
 import com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator;
+import com.inditex.product.offer.adapter.inbound.validator.OfferUpdateRequestValidator;
+import com.inditex.product.offer.configuration.OfferPageProperties;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.service.BrandGetService;
 import com.inditex.product.offer.service.OfferCreateService;
 import com.inditex.product.offer.service.OfferDeleteService;
 import com.inditex.product.offer.service.OfferGetService;
+import com.inditex.product.offer.service.OfferUpdateService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -24,17 +44,38 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * REST controller for managing offers.
@@ -50,11 +91,17 @@ import org.springframework.web.bind.annotation.RestController;
  * Endpoints:
  * <ul>
  *   <li>Create an offer</li>
+ *   <li>Create a batch of offers, as a JSON array or NDJSON</li>
  *   <li>Delete all offers</li>
  *   <li>Delete an offer by ID</li>
- *   <li>Retrieve all offers</li>
+ *   <li>Delete the offers of a brand, or of a product by brand ID and part number</li>
+ *   <li>Retrieve the offers page by page, following the {@code Link} header of each page</li>
+ *   <li>Export all the offers as NDJSON, gzip-compressed when the client accepts it</li>
  *   <li>Retrieve an offer by ID</li>
- *   <li>Retrieve offers by brand ID and part number</li>
+ *   <li>Retrieve many offers by ID at once, reporting the IDs of no offer</li>
+ *   <li>Retrieve offers by brand ID and part number, optionally within a date window, with ETag support</li>
+ *   <li>Stream offers by brand ID and part number, optionally within a date window</li>
+ *   <li>Retrieve the price of a product at a given date</li>
  * </ul>
  * </p>
  *
@@ -66,16 +113,28 @@ import org.springframework.web.bind.annotation.RestController;
 @Tag(name = "Offers")
 public class OfferController extends ValidatorRequest {
 
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
     private final OfferCreateRequestValidator offerCreateRequestValidator;
 
+    private final OfferUpdateRequestValidator offerUpdateRequestValidator = new OfferUpdateRequestValidator();
+
     private final OfferCreateService offerCreateService;
 
     private final OfferDeleteService offerDeleteService;
 
     private final OfferGetService offerGetService;
 
+    private final OfferUpdateService offerUpdateService;
+
     private final OfferDtoMapper offerDtoMapper;
 
+    private final OfferTimelineCache offerTimelineCache;
+
+    private final ObjectMapper objectMapper;
+
+    private final OfferPageProperties offerPageProperties;
+
     /**
      * Constructor
      *
@@ -83,14 +142,25 @@ public class OfferController extends ValidatorRequest {
      * @param offerDeleteService {@link OfferDeleteService}
      * @param offerGetService    {@link OfferGetService}
      * @param offerDtoMapper     {@link OfferDtoMapper}
+     * @param offerTimelineCache  {@link OfferTimelineCache}
+     * @param objectMapper        {@link ObjectMapper}
+     * @param offerPageProperties {@link OfferPageProperties}
+     * @param brandGetService     {@link BrandGetService}
+     * @param offerUpdateService  {@link OfferUpdateService}
      */
     public OfferController(OfferCreateService offerCreateService,
-      OfferDeleteService offerDeleteService, OfferGetService offerGetService, OfferDtoMapper offerDtoMapper) {
+      OfferDeleteService offerDeleteService, OfferGetService offerGetService, OfferDtoMapper offerDtoMapper,
+      OfferTimelineCache offerTimelineCache, ObjectMapper objectMapper, OfferPageProperties offerPageProperties,
+      BrandGetService brandGetService, OfferUpdateService offerUpdateService) {
         this.offerCreateService = offerCreateService;
         this.offerDeleteService = offerDeleteService;
         this.offerGetService = offerGetService;
+        this.offerUpdateService = offerUpdateService;
         this.offerDtoMapper = offerDtoMapper;
-        this.offerCreateRequestValidator = new OfferCreateRequestValidator();
+        this.offerTimelineCache = offerTimelineCache;
+        this.objectMapper = objectMapper;
+        this.offerPageProperties = offerPageProperties;
+        this.offerCreateRequestValidator = new OfferCreateRequestValidator(brandGetService::existsBrand);
     }
 
     @PostMapping(value = "/offer", consumes = "application/json")
@@ -106,7 +176,11 @@ public class OfferController extends ValidatorRequest {
           content = @Content(
             schema = @Schema(implementation = ValidationOfferException.class)),
           description = "Bad Request",
-          responseCode = "400")
+          responseCode = "400"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Offer already exists",
+          responseCode = "409")
       }
     )
     public ResponseEntity<Void> createOffer(
@@ -124,6 +198,66 @@ public class OfferController extends ValidatorRequest {
         return new ResponseEntity<>(CREATED);
     }
 
+    @PostMapping(value = "/offer/batch", consumes = "application/json", produces = "application/json")
+    @Operation(
+      description = "Create a batch of offers in a single transaction, reporting the offers rejected by the validation "
+        + "and those whose id already exists",
+      responses = {
+        @ApiResponse(
+          content = @Content(
+            schema = @Schema(implementation = OfferBatchResponseDTO.class)),
+          description = "Create successful, for the offers not reported as errors",
+          responseCode = "201"),
+        @ApiResponse(
+          content = @Content(
+            schema = @Schema(implementation = OfferBatchResponseDTO.class)),
+          description = "Bad Request, no offer was valid",
+          responseCode = "400"),
+        @ApiResponse(
+          content = @Content(
+            schema = @Schema(implementation = OfferBatchResponseDTO.class)),
+          description = "Conflict, every valid offer already exists",
+          responseCode = "409")
+      }
+    )
+    public ResponseEntity<OfferBatchResponseDTO> createOffers(
+      @Parameter(description = "Offers to save", required = true,
+        array = @ArraySchema(schema = @Schema(implementation = OfferCreateRequestDTO.class)))
+      @RequestBody List<OfferCreateRequestDTO> offerCreateRequestDTOS) {
+
+        LOGGER.info("[createOffers] Create [{}] offers", offerCreateRequestDTOS.size());
+
+        return createBatch(offerCreateRequestDTOS);
+    }
+
+    @PostMapping(value = "/offer/batch", consumes = "application/x-ndjson", produces = "application/json")
+    @Operation(
+      description = "Create a batch of offers sent as NDJSON, one offer per line, in a single transaction",
+      responses = {
+        @ApiResponse(
+          content = @Content(
+            schema = @Schema(implementation = OfferBatchResponseDTO.class)),
+          description = "Create successful, for the offers not reported as errors",
+          responseCode = "201"),
+        @ApiResponse(
+          content = @Content(
+            schema = @Schema(implementation = OfferBatchResponseDTO.class)),
+          description = "Bad Request, the body is not valid NDJSON or no offer was valid",
+          responseCode = "400"),
+        @ApiResponse(
+          content = @Content(
+            schema = @Schema(implementation = OfferBatchResponseDTO.class)),
+          description = "Conflict, every valid offer already exists",
+          responseCode = "409")
+      }
+    )
+    public ResponseEntity<OfferBatchResponseDTO> createOffersFromNdjson(InputStream inputStream) {
+
+        LOGGER.info("[createOffersFromNdjson] Create offers from NDJSON");
+
+        return createBatch(readNdjson(inputStream));
+    }
+
     @Operation(
       description = "Delete all offers",
       responses = {
@@ -169,18 +303,75 @@ public class OfferController extends ValidatorRequest {
             throw new ValidationOfferException("The offerId must be a positive number.");
         }
 
-        return Optional.ofNullable(offerGetService.getOfferById(offerId))
-          .map(offer -> {
-              offerDeleteService.deleteOfferById(offerId);
-              return new ResponseEntity<Void>(OK);
+        return new ResponseEntity<>(offerDeleteService.deleteOfferById(offerId) ? OK : NOT_FOUND);
+    }
 
-          })
-          .orElse(new ResponseEntity<>(NOT_FOUND));
+    @DeleteMapping(value = "/brand/{brandId}/offer")
+    @Operation(
+      description = "Delete all the offers of a brand",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Delete successful",
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
+      })
+    public ResponseEntity<Void> deleteOffersByBrand(
+      @Parameter(
+        description = "Brand identifier",
+        required = true,
+        example = "1")
+      @PathVariable("brandId") final Integer brandId) {
+
+        LOGGER.info("[deleteOffersByBrand] Delete offers of brand id: [{}]", brandId);
+
+        validateBrandId(brandId);
+        var deletedOffers = offerDeleteService.deleteOffersByBrand(brandId);
+        LOGGER.info("[deleteOffersByBrand] Deleted [{}] offers of brand id: [{}]", deletedOffers, brandId);
+        return new ResponseEntity<>(OK);
+    }
+
+    @DeleteMapping(value = "/brand/{brandId}/partnumber/{partNumber}/offer")
+    @Operation(
+      description = "Delete all the offers of a product by brand id and part number",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Delete successful",
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
+      })
+    public ResponseEntity<Void> deleteOffersByPartNumber(
+      @Parameter(
+        description = "Brand identifier",
+        required = true,
+        example = "1")
+      @PathVariable("brandId") final Integer brandId,
+      @Parameter(
+        description = "Product code identifier",
+        required = true,
+        example = "0001002")
+      @PathVariable("partNumber") final String partNumber) {
+
+        LOGGER.info("[deleteOffersByPartNumber] Delete offers by brand id [{}] and part number: [{}]", brandId,
+          partNumber);
+
+        validateBrandId(brandId);
+        var deletedOffers = offerDeleteService.deleteOffersByCriteria(brandId, partNumber);
+        LOGGER.info("[deleteOffersByPartNumber] Deleted [{}] offers by brand id [{}] and part number: [{}]",
+          deletedOffers, brandId, partNumber);
+        return new ResponseEntity<>(OK);
     }
 
     @GetMapping(value = "/offer", produces = "application/json")
     @Operation(
-      description = "Get all offers",
+      description = "Get a page of offers ordered by id. When more offers follow, the Link header points to the next page",
       responses = {
         @ApiResponse(
           content =
@@ -188,17 +379,152 @@ public class OfferController extends ValidatorRequest {
             array =
             @ArraySchema(schema = @Schema(implementation = OfferResponseDTO.class))),
           description = "Successful search",
-          responseCode = "200")
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
       })
-    public List<OfferResponseDTO> getAllOffers() {
+    public ResponseEntity<List<OfferResponseDTO>> getAllOffers(
+      @Parameter(
+        description = "Id of the last offer of the previous page, omitted for the first page",
+        example = "100")
+      @RequestParam(value = "after", required = false, defaultValue = "0") final Long after,
+      @Parameter(
+        description = "Maximum number of offers of the page",
+        example = "100")
+      @RequestParam(value = "limit", required = false) final Integer limit) {
 
-        LOGGER.info("[getAllOffers]: get all offers");
+        LOGGER.info("[getAllOffers]: get [{}] offers after id: [{}]", limit, after);
 
-        return offerGetService.getAllOffers()
-          .stream()
+        if (after < 0) {
+            LOGGER.error("[getAllOffers] Invalid after: {}", after);
+            throw new ValidationOfferException("The after must not be a negative number.");
+        }
+        var pageSize = limit == null ? offerPageProperties.getDefaultSize() : limit;
+        if (pageSize <= 0 || pageSize > offerPageProperties.getMaxSize()) {
+            LOGGER.error("[getAllOffers] Invalid limit: {}", limit);
+            throw new ValidationOfferException(
+              "The limit must be between 1 and " + offerPageProperties.getMaxSize() + ".");
+        }
+
+        // one extra offer tells whether a next page exists without counting the remaining rows
+        var offers = offerGetService.getOffersPage(after, pageSize + 1);
+        var page = offers.subList(0, Math.min(pageSize, offers.size()));
+        var response = status(OK);
+        if (offers.size() > pageSize) {
+            var nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+              .replaceQueryParam("after", page.getLast().getOfferId())
+              .replaceQueryParam("limit", pageSize)
+              .build()
+              .toUriString();
+            response.header(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"");
+        }
+        return response.body(page.stream()
           .map(offerDtoMapper::toOfferResponseDTO)
+          .toList());
+    }
+
+    @GetMapping(value = "/offer", params = "ids", produces = "application/json")
+    @Operation(
+      description = "Fetch many offers by id with a single query. The ids of no offer are reported instead of failing",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = OfferByIdsResponseDTO.class)),
+          description = "Successful retrieval",
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
+      })
+    public ResponseEntity<OfferByIdsResponseDTO> getOffersByIds(
+      @Parameter(
+        description = "Comma separated offer unique identifiers",
+        required = true,
+        example = "1,2,3")
+      @RequestParam("ids") final List<Long> ids) {
+
+        LOGGER.info("[getOffersByIds] Get [{}] offers by id", ids.size());
+
+        var requestedIds = ids.stream().distinct().toList();
+        if (requestedIds.isEmpty() || requestedIds.size() > offerPageProperties.getMaxSize()) {
+            LOGGER.error("[getOffersByIds] Invalid number of ids: {}", requestedIds.size());
+            throw new ValidationOfferException(
+              "The number of ids must be between 1 and " + offerPageProperties.getMaxSize() + ".");
+        }
+        if (requestedIds.stream().anyMatch(id -> id == null || id <= 0)) {
+            LOGGER.error("[getOffersByIds] Invalid ids: {}", ids);
+            throw new ValidationOfferException("The ids must be positive numbers.");
+        }
+
+        var offersById = offerGetService.getOffersByIds(requestedIds).stream()
+          .collect(Collectors.toMap(Offer::getOfferId, Function.identity(), (offer, duplicate) -> offer));
+        var missingIds = requestedIds.stream()
+          .filter(id -> !offersById.containsKey(id))
           .toList();
+        LOGGER.info("[getOffersByIds] Found [{}] offers, [{}] ids missing", offersById.size(), missingIds.size());
+
+        return status(OK).body(OfferByIdsResponseDTO.builder()
+          .offers(requestedIds.stream()
+            .filter(offersById::containsKey)
+            .map(id -> offerDtoMapper.toOfferResponseDTO(offersById.get(id)))
+            .toList())
+          .missingIds(missingIds)
+          .build());
+    }
+
+    @GetMapping(value = "/offer/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+      description = "Export all the offers ordered by id as NDJSON, one offer per line, streamed as they are read. The "
+        + "response is gzip-compressed when the Accept-Encoding header allows it",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = OfferResponseDTO.class)),
+          description = "Successful export",
+          responseCode = "200")
+      })
+    public ResponseEntity<StreamingResponseBody> exportOffers(
+      @Parameter(
+        description = "Encodings accepted by the client, the export is compressed if it includes gzip",
+        example = "gzip")
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+
+        var gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        LOGGER.info("[exportOffers] Export all offers, gzip: [{}]", gzip);
+
+        var ndjsonWriter = objectMapper.writerFor(OfferResponseDTO.class)
+          .without(SerializationFeature.INDENT_OUTPUT)
+          .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        StreamingResponseBody body = outputStream -> {
+            // the rows are written straight to the servlet stream, so a slow client blocks the cursor instead of
+            // letting the rows pile up in memory
+            var target = gzip ? new GZIPOutputStream(outputStream, EXPORT_BUFFER_SIZE) : outputStream;
+            try (var jsonGenerator = ndjsonWriter.createGenerator(target)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                jsonGenerator.setRootValueSeparator(null);
+                offerGetService.exportOffers(offer -> {
+                    try {
+                        ndjsonWriter.writeValue(jsonGenerator, offerDtoMapper.toOfferResponseDTO(offer));
+                        jsonGenerator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            if (target instanceof GZIPOutputStream gzipOutputStream) {
+                gzipOutputStream.finish();
+            }
+        };
 
+        var response = status(OK)
+          .contentType(MediaType.APPLICATION_NDJSON)
+          .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping(value = "/offer/{offerId}", produces = "application/json")
@@ -224,6 +550,54 @@ public class OfferController extends ValidatorRequest {
         return status(OK).body(offerResponseDTO);
     }
 
+    @PatchMapping(value = "/offer/{offerId}", consumes = "application/json", produces = "application/json")
+    @Operation(
+      description = "Update the dates, priority or price of an offer, optionally checking its version",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = OfferResponseDTO.class)),
+          description = "Update successful",
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(
+            schema = @Schema(implementation = ValidationOfferException.class)),
+          description = "Bad Request",
+          responseCode = "400"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Not found",
+          responseCode = "404"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Offer version has changed",
+          responseCode = "409")
+      })
+    public ResponseEntity<OfferResponseDTO> updateOffer(
+      @Parameter(
+        description = "Offer unique identifier",
+        required = true,
+        example = "1")
+      @PathVariable("offerId") final Long offerId,
+      @Parameter(description = "Fields to update", required = true,
+        schema = @Schema(implementation = OfferUpdateRequestDTO.class))
+      @RequestBody OfferUpdateRequestDTO offerUpdateRequestDTO) {
+
+        LOGGER.info("[updateOffer] Update offer with id: [{}]: [{}]", offerId, offerUpdateRequestDTO);
+
+        if (offerId <= 0) {
+            LOGGER.error("[updateOffer] Invalid offerId: {}", offerId);
+            throw new ValidationOfferException("The offerId must be a positive number.");
+        }
+
+        validateRequest(offerUpdateRequestValidator,
+          offerUpdateRequestDTO,
+          "offerUpdateRequestDTO",
+          "[offerUpdateRequestDTO] Errors validating object: {}");
+
+        var offer = offerUpdateService.updateOffer(offerId, offerDtoMapper.toOfferUpdate(offerUpdateRequestDTO));
+        return status(OK).body(offerDtoMapper.toOfferResponseDTO(offer));
+    }
+
     @GetMapping(value = "/brand/{brandId}/partnumber/{partNumber}/offer", produces = "application/json")
     @Operation(
       description = "Get flattened offers by brand id and part number",
@@ -234,9 +608,17 @@ public class OfferController extends ValidatorRequest {
             array =
             @ArraySchema(schema = @Schema(implementation = OfferDateRangeFlattenedResponseDTO.class))),
           description = "Successful search",
-          responseCode = "200")
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Not modified since the version sent in If-None-Match",
+          responseCode = "304"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
       })
-    public ResponseEntity<List<OfferDateRangeFlattenedResponseDTO>> getOfferByPartNumber(
+    public ResponseEntity<byte[]> getOfferByPartNumber(
       @Parameter(
         description = "Brand identifier",
         required = true,
@@ -246,11 +628,270 @@ public class OfferController extends ValidatorRequest {
         description = "Product code identifier",
         required = true,
         example = "0001002")
-      @PathVariable("partNumber") final String partNumber) {
+      @PathVariable("partNumber") final String partNumber,
+      @Parameter(
+        description = "First date of the window in ISO-8601 format, unbounded if missing",
+        example = "2020-06-14T00.00.00Z")
+      @RequestParam(value = "from", required = false) final String from,
+      @Parameter(
+        description = "Last date of the window in ISO-8601 format, unbounded if missing",
+        example = "2020-06-21T23.59.59Z")
+      @RequestParam(value = "to", required = false) final String to) {
+
+        LOGGER.info("[getOfferByPartNumber] Get offers by brand id [{}] and part number: [{}] from [{}] to [{}]", brandId,
+          partNumber, from, to);
+
+        var window = parseWindow(from, to);
+        var timeline = offerTimelineCache.getTimeline(brandId, partNumber);
+        // Only the whole history is cached, since windows are unbounded in number
+        var renderedResponse = from == null && to == null
+          ? timeline.getResponse(MediaType.APPLICATION_JSON, this::render)
+          : OfferTimelineResponse.of(
+            render(timeline.segmentsOverlapping(window.fromEpochSecond(), window.toEpochSecond())));
+
+        // Spring answers 304 without body when the ETag matches the If-None-Match header of the request
+        return status(OK)
+          .contentType(MediaType.APPLICATION_JSON)
+          .eTag(renderedResponse.eTag())
+          .body(renderedResponse.body());
+    }
+
+    @GetMapping(value = "/brand/{brandId}/partnumber/{partNumber}/offer", params = "stream=true",
+      produces = "application/json")
+    @Operation(
+      description = "Stream flattened offers by brand id and part number, writing every range as soon as it is resolved",
+      responses = {
+        @ApiResponse(
+          content =
+          @Content(
+            array =
+            @ArraySchema(schema = @Schema(implementation = OfferDateRangeFlattenedResponseDTO.class))),
+          description = "Successful search",
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
+      })
+    public ResponseEntity<StreamingResponseBody> streamOfferByPartNumber(
+      @Parameter(
+        description = "Brand identifier",
+        required = true,
+        example = "1")
+      @PathVariable("brandId") final Integer brandId,
+      @Parameter(
+        description = "Product code identifier",
+        required = true,
+        example = "0001002")
+      @PathVariable("partNumber") final String partNumber,
+      @Parameter(
+        description = "First date of the window in ISO-8601 format, unbounded if missing",
+        example = "2020-06-14T00.00.00Z")
+      @RequestParam(value = "from", required = false) final String from,
+      @Parameter(
+        description = "Last date of the window in ISO-8601 format, unbounded if missing",
+        example = "2020-06-21T23.59.59Z")
+      @RequestParam(value = "to", required = false) final String to) {
+
+        LOGGER.info("[streamOfferByPartNumber] Stream offers by brand id [{}] and part number: [{}] from [{}] to [{}]",
+          brandId, partNumber, from, to);
+
+        var window = parseWindow(from, to);
+        var segments = offerTimelineCache.getTimeline(brandId, partNumber)
+          .segmentIterator(window.fromEpochSecond(), window.toEpochSecond());
+
+        StreamingResponseBody body = outputStream -> {
+            try (var jsonGenerator = objectMapper.createGenerator(outputStream)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                jsonGenerator.writeStartArray();
+                while (segments.hasNext()) {
+                    jsonGenerator.writeObject(toOfferDateRangeFlattenedResponseDTO(segments.next()));
+                }
+                jsonGenerator.writeEndArray();
+            }
+        };
+        return status(OK).contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @GetMapping(value = "/brand/{brandId}/partnumber/{partNumber}/price", produces = "application/json")
+    @Operation(
+      description = "Get the price applied to a product at a given date",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = OfferDateRangeFlattenedResponseDTO.class)),
+          description = "Successful retrieval",
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Not found",
+          responseCode = "404"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
+      })
+    public ResponseEntity<OfferDateRangeFlattenedResponseDTO> getPriceByPartNumber(
+      @Parameter(
+        description = "Brand identifier",
+        required = true,
+        example = "1")
+      @PathVariable("brandId") final Integer brandId,
+      @Parameter(
+        description = "Product code identifier",
+        required = true,
+        example = "0001002")
+      @PathVariable("partNumber") final String partNumber,
+      @Parameter(
+        description = "Date to look up in ISO-8601 format",
+        required = true,
+        example = "2020-06-14T16.00.00Z")
+      @RequestParam("date") final String date) {
+
+        LOGGER.info("[getPriceByPartNumber] Get price by brand id [{}] and part number [{}] at date [{}]", brandId,
+          partNumber, date);
+
+        var epochSecond = parseEpochSecond(date, "date");
+
+        return offerTimelineCache.getTimeline(brandId, partNumber)
+          .segmentAt(epochSecond)
+          .map(segment -> status(OK).body(toOfferDateRangeFlattenedResponseDTO(segment)))
+          .orElse(new ResponseEntity<>(NOT_FOUND));
+    }
+
+    private void validateBrandId(Integer brandId) {
+        if (brandId <= 0) {
+            LOGGER.error("[validateBrandId] Invalid brandId: {}", brandId);
+            throw new ValidationOfferException("The brandId must be a positive number.");
+        }
+    }
+
+    private List<OfferCreateRequestDTO> readNdjson(InputStream inputStream) {
+        try (MappingIterator<OfferCreateRequestDTO> offerCreateRequestDTOS = objectMapper
+          .readerFor(OfferCreateRequestDTO.class)
+          .readValues(inputStream)) {
+            return offerCreateRequestDTOS.readAll();
+        } catch (IOException e) {
+            LOGGER.error("[readNdjson] Invalid NDJSON body: {}", e.getMessage());
+            throw new ValidationOfferException("The request body is not valid NDJSON.");
+        }
+    }
+
+    private ResponseEntity<OfferBatchResponseDTO> createBatch(List<OfferCreateRequestDTO> offerCreateRequestDTOS) {
+        if (offerCreateRequestDTOS.isEmpty()) {
+            LOGGER.error("[createBatch] Empty batch");
+            throw new ValidationOfferException("The batch must contain at least one offer.");
+        }
+
+        List<Offer> offers = new ArrayList<>(offerCreateRequestDTOS.size());
+        List<Integer> offerIndexes = new ArrayList<>(offerCreateRequestDTOS.size());
+        List<OfferBatchErrorDTO> offerBatchErrorDTOS = new ArrayList<>();
+        Set<Long> offerIds = new HashSet<>();
+        for (int index = 0; index < offerCreateRequestDTOS.size(); index++) {
+            var offerCreateRequestDTO = offerCreateRequestDTOS.get(index);
+            var errors = validateBatchItem(offerCreateRequestDTO, offerIds);
+            if (errors.isEmpty()) {
+                offers.add(offerDtoMapper.toOfferDomain(offerCreateRequestDTO));
+                offerIndexes.add(index);
+            } else {
+                offerBatchErrorDTOS.add(getOfferBatchErrorDTO(index, offerCreateRequestDTO, errors));
+            }
+        }
+
+        // the offers whose identifier already exists are skipped by the creation, and reported as rejected
+        var createdOfferIds = offers.isEmpty()
+          ? Set.<Long>of()
+          : offerCreateService.createOffers(offers).stream().map(Offer::getOfferId).collect(Collectors.toSet());
+        for (Integer index : offerIndexes) {
+            var offerCreateRequestDTO = offerCreateRequestDTOS.get(index);
+            if (!createdOfferIds.contains(offerCreateRequestDTO.getOfferId())) {
+                offerBatchErrorDTOS.add(
+                  getOfferBatchErrorDTO(index, offerCreateRequestDTO, List.of("The offerId already exists")));
+            }
+        }
+        offerBatchErrorDTOS.sort(Comparator.comparing(OfferBatchErrorDTO::getIndex));
+
+        if (!offerBatchErrorDTOS.isEmpty()) {
+            LOGGER.error("[createBatch] [{}] offers rejected: {}", offerBatchErrorDTOS.size(), offerBatchErrorDTOS);
+        }
+
+        var offerBatchResponseDTO = OfferBatchResponseDTO.builder()
+          .created(createdOfferIds.size())
+          .errors(offerBatchErrorDTOS)
+          .build();
+        if (!createdOfferIds.isEmpty()) {
+            return status(CREATED).body(offerBatchResponseDTO);
+        }
+        return status(offers.isEmpty() ? BAD_REQUEST : CONFLICT).body(offerBatchResponseDTO);
+    }
+
+    private static OfferBatchErrorDTO getOfferBatchErrorDTO(int index, OfferCreateRequestDTO offerCreateRequestDTO,
+      List<String> errors) {
+        return OfferBatchErrorDTO.builder()
+          .index(index)
+          .offerId(offerCreateRequestDTO == null ? null : offerCreateRequestDTO.getOfferId())
+          .errors(errors)
+          .build();
+    }
+
+    private List<String> validateBatchItem(OfferCreateRequestDTO offerCreateRequestDTO, Set<Long> offerIds) {
+        if (offerCreateRequestDTO == null) {
+            return List.of("The offer is required");
+        }
+
+        var errors = new BeanPropertyBindingResult(offerCreateRequestDTO, "offerCreateRequestDTO");
+        offerCreateRequestValidator.validate(offerCreateRequestDTO, errors);
+        if (errors.hasErrors()) {
+            return errors.getAllErrors().stream().map(ObjectError::getDefaultMessage).toList();
+        }
+        if (!offerIds.add(offerCreateRequestDTO.getOfferId())) {
+            return List.of("The offerId is duplicated in the batch");
+        }
+        return List.of();
+    }
+
+    private Window parseWindow(String from, String to) {
+        var window = new Window(from == null ? Long.MIN_VALUE : parseEpochSecond(from, "from date"),
+          to == null ? Long.MAX_VALUE : parseEpochSecond(to, "to date"));
+        if (window.fromEpochSecond() > window.toEpochSecond()) {
+            LOGGER.error("[parseWindow] Invalid window: from [{}] to [{}]", from, to);
+            throw new ValidationOfferException("The from date must not be after the to date.");
+        }
+        return window;
+    }
+
+    private long parseEpochSecond(String date, String name) {
+        try {
+            return ZonedDateTime.parse(date, dateFormatter).toEpochSecond();
+        } catch (DateTimeParseException e) {
+            LOGGER.error("[parseEpochSecond] Invalid {}: {}", name, date);
+            throw new ValidationOfferException("The " + name + " is invalid.");
+        }
+    }
+
+    private byte[] render(OfferTimeline timeline) {
+        return render(timeline.segments());
+    }
+
+    private byte[] render(List<Segment> segments) {
+        try {
+            return objectMapper.writeValueAsBytes(segments.stream()
+              .map(this::toOfferDateRangeFlattenedResponseDTO)
+              .toList());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private OfferDateRangeFlattenedResponseDTO toOfferDateRangeFlattenedResponseDTO(Segment segment) {
+        return OfferDateRangeFlattenedResponseDTO.builder()
+          .startDate(dateFormatter.format(Instant.ofEpochSecond(segment.startEpochSecond())))
+          .endDate(dateFormatter.format(Instant.ofEpochSecond(segment.endEpochSecond())))
+          .price(segment.price())
+          .currencyIso(segment.currencyIso())
+          .build();
+    }
+
+    private record Window(long fromEpochSecond, long toEpochSecond) {
 
-        LOGGER.info("[getOfferByPartNumber] Get offers by brand id [{}] and part number: [{}]", brandId, partNumber);
-        List<OfferDateRangeFlattenedResponseDTO> offerDateRangeFlattenedResponseDTOS = flatten(
-          offerGetService.getOffersByCriteria(brandId, partNumber));
-        return status(OK).body(offerDateRangeFlattenedResponseDTOS);
     }
 }
@@ -0,0 +1,182 @@
+package com.inditex.product.offer.adapter.inbound.controller;
+
+import static com.inditex.product.offer.adapter.inbound.utils.ZonedDateTimeUtils.dateFormatter;
+import static org.springframework.http.HttpStatus.ACCEPTED;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.ResponseEntity.status;
+
+import com.inditex.product.offer.adapter.inbound.dto.OfferImportErrorDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferImportStatusDTO;
+import com.inditex.product.offer.adapter.inbound.exception.ValidationOfferException;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportFormat;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportJob;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * REST controller for importing offers from files.
+ * <p>
+ * The uploaded file is copied to a temporary file as it is received and imported in the background by the
+ * {@link OfferImporter}, so the request returns as soon as the upload ends and neither the request nor the import hold the
+ * whole file in memory. The progress of the import is then polled through the URI of its {@code Location} header.
+ * </p>
+ * <p>
+ * Endpoints:
+ * <ul>
+ *   <li>Import a file of offers, as CSV or NDJSON</li>
+ *   <li>Retrieve the progress of an import</li>
+ * </ul>
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@RestController
+@Tag(name = "Offers")
+public class OfferImportController {
+
+    private final OfferImporter offerImporter;
+
+    /**
+     * Constructor
+     *
+     * @param offerImporter {@link OfferImporter}
+     */
+    public OfferImportController(OfferImporter offerImporter) {
+        this.offerImporter = offerImporter;
+    }
+
+    @PostMapping(value = "/offer/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE},
+      produces = "application/json")
+    @Operation(
+      description = "Import a file of offers, as CSV with a header line or as NDJSON. The offers are validated and created "
+        + "in batches in the background, and the Location header points to the progress of the import",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = OfferImportStatusDTO.class)),
+          description = "Import accepted",
+          responseCode = "202"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Bad request",
+          responseCode = "400")
+      })
+    public ResponseEntity<OfferImportStatusDTO> importOffers(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) final String contentType,
+      @Parameter(
+        description = "Name of the imported file, for reporting",
+        example = "offers.csv")
+      @RequestParam(value = "source", required = false, defaultValue = "upload") final String source,
+      final InputStream inputStream) {
+
+        LOGGER.info("[importOffers] Import offers of [{}] as [{}]", source, contentType);
+
+        var format = OfferImportFormat.of(MediaType.parseMediaType(contentType))
+          .orElseThrow(() -> new ValidationOfferException("The content type is not supported."));
+        var job = offerImporter.submit(source, format, spool(inputStream, format));
+
+        var location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+          .path("/{importId}")
+          .buildAndExpand(job.getImportId())
+          .toUri();
+        return status(ACCEPTED).location(location).body(toOfferImportStatusDTO(job));
+    }
+
+    @GetMapping(value = "/offer/import/{importId}", produces = "application/json")
+    @Operation(
+      description = "Get the progress of an import of offers",
+      responses = {
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = OfferImportStatusDTO.class)),
+          description = "Successful retrieval",
+          responseCode = "200"),
+        @ApiResponse(
+          content = @Content(schema = @Schema(implementation = HttpStatus.class)),
+          description = "Not found",
+          responseCode = "404")
+      })
+    public ResponseEntity<OfferImportStatusDTO> getImport(
+      @Parameter(
+        description = "Import identifier",
+        required = true,
+        example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+      @PathVariable("importId") final String importId) {
+
+        LOGGER.info("[getImport] Get import with id: [{}]", importId);
+
+        return offerImporter.getJob(importId)
+          .map(job -> status(OK).body(toOfferImportStatusDTO(job)))
+          .orElse(new ResponseEntity<>(NOT_FOUND));
+    }
+
+    private Path spool(InputStream inputStream, OfferImportFormat format) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("offers-", format.getExtension());
+            Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+            return file;
+        } catch (IOException e) {
+            LOGGER.error("[spool] The uploaded file could not be stored", e);
+            deleteQuietly(file);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("[deleteQuietly] Temporary file [{}] could not be deleted", file, e);
+        }
+    }
+
+    private OfferImportStatusDTO toOfferImportStatusDTO(OfferImportJob job) {
+        return OfferImportStatusDTO.builder()
+          .importId(job.getImportId())
+          .source(job.getSource())
+          .format(job.getFormat().name())
+          .status(job.getStatus().name())
+          .read(job.getRead())
+          .imported(job.getImported())
+          .rejected(job.getRejected())
+          .errors(job.getErrors().stream()
+            .map(error -> OfferImportErrorDTO.builder()
+              .line(error.line())
+              .offerId(error.offerId())
+              .errors(error.errors())
+              .build())
+            .toList())
+          .failure(job.getFailure())
+          .startedAt(dateFormatter.format(job.getStartedAt()))
+          .finishedAt(job.getFinishedAt() == null ? null : dateFormatter.format(job.getFinishedAt()))
+          .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.inditex.product.offer.adapter.inbound.controller.filter;
+
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferRoutingDataSource;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferWriteSession;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Filter serving every request within the {@link OfferWriteSession} of its client, so the
+ * {@link OfferRoutingDataSource} only sends to the primary the reads of the clients that have just written.
+ * <p>
+ * A request that writes is answered with the {@value #WRITE_TOKEN_HEADER} header, holding the time of its last write.
+ * Clients that must read their own writes send it back on their next requests; requests without it read from the
+ * replica.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+public class OfferWriteTokenFilter extends OncePerRequestFilter {
+
+    public static final String WRITE_TOKEN_HEADER = "Offer-Write-Token";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+        try (var offerWriteSession = OfferWriteSession.open(parseWriteToken(request.getHeader(WRITE_TOKEN_HEADER)),
+          lastWriteEpochMillis -> response.setHeader(WRITE_TOKEN_HEADER, Long.toString(lastWriteEpochMillis)))) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static long parseWriteToken(String writeToken) {
+        if (writeToken == null) {
+            return 0;
+        }
+
+        try {
+            return Long.parseLong(writeToken.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("[parseWriteToken] Ignoring invalid write token: {}", writeToken);
+            return 0;
+        }
+    }
+}
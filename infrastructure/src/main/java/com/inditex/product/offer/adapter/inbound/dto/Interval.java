@@ -1,5 +0,0 @@
-package com.inditex.product.offer.adapter.inbound.dto;
-
-public class Interval {
-
-}
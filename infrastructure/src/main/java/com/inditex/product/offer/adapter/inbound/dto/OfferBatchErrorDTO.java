@@ -0,0 +1,25 @@
+package com.inditex.product.offer.adapter.inbound.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "DTO response describing an offer of a batch that was not created")
+public class OfferBatchErrorDTO {
+
+    @Schema(description = "Position of the offer in the batch, starting at 0", example = "3")
+    private Integer index;
+
+    @Schema(description = "Offer identifier", example = "1")
+    private Long offerId;
+
+    @Schema(description = "Reasons why the offer was rejected", example = "[\"The startDate is invalid\"]")
+    private List<String> errors;
+}
@@ -0,0 +1,22 @@
+package com.inditex.product.offer.adapter.inbound.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "DTO response summarizing the creation of a batch of offers")
+public class OfferBatchResponseDTO {
+
+    @Schema(description = "Number of offers created", example = "999")
+    private Integer created;
+
+    @Schema(description = "Offers of the batch that were rejected")
+    private List<OfferBatchErrorDTO> errors;
+}
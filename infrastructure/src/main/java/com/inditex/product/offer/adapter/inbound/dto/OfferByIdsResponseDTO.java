@@ -0,0 +1,22 @@
+package com.inditex.product.offer.adapter.inbound.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "DTO response with the offers fetched by id at once and the ids of no offer")
+public class OfferByIdsResponseDTO {
+
+    @Schema(description = "Offers found, in the order of the requested ids")
+    private List<OfferResponseDTO> offers;
+
+    @Schema(description = "Requested ids of no offer, in the order they were requested", example = "[3, 7]")
+    private List<Long> missingIds;
+}
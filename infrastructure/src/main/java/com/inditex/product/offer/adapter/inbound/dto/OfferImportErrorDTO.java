@@ -0,0 +1,25 @@
+package com.inditex.product.offer.adapter.inbound.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "DTO response describing a record of an imported file that was not created")
+public class OfferImportErrorDTO {
+
+    @Schema(description = "Line of the record in the file, starting at 1", example = "42")
+    private Long line;
+
+    @Schema(description = "Offer identifier", example = "1")
+    private Long offerId;
+
+    @Schema(description = "Reasons why the record was rejected", example = "[\"The startDate is invalid\"]")
+    private List<String> errors;
+}
@@ -0,0 +1,49 @@
+package com.inditex.product.offer.adapter.inbound.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "DTO response describing the progress of an import of offers")
+public class OfferImportStatusDTO {
+
+    @Schema(description = "Import identifier", example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+    private String importId;
+
+    @Schema(description = "Name of the imported file", example = "offers.csv")
+    private String source;
+
+    @Schema(description = "Format of the imported file", example = "CSV")
+    private String format;
+
+    @Schema(description = "Status of the import", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "Number of records read so far", example = "1000")
+    private Long read;
+
+    @Schema(description = "Number of offers created so far", example = "998")
+    private Long imported;
+
+    @Schema(description = "Number of records rejected so far", example = "2")
+    private Long rejected;
+
+    @Schema(description = "First records that were rejected")
+    private List<OfferImportErrorDTO> errors;
+
+    @Schema(description = "Reason why the import failed", example = "Referential integrity constraint violation")
+    private String failure;
+
+    @Schema(description = "Start date of the import in ISO-8601 format", example = "2020-06-14T00.00.00Z")
+    private String startedAt;
+
+    @Schema(description = "End date of the import in ISO-8601 format", example = "2020-06-14T00.01.00Z")
+    private String finishedAt;
+}
@@ -40,4 +40,7 @@ public class OfferResponseDTO {
 
     @Schema(description = "Currency ISO code", example = "EUR")
     private String currencyIso;
+
+    @Schema(description = "Version of the offer, increased on every update", example = "0")
+    private Long version;
 }
@@ -0,0 +1,31 @@
+package com.inditex.product.offer.adapter.inbound.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "DTO request for updating some fields of an offer")
+public class OfferUpdateRequestDTO {
+
+    @Schema(description = "Start date of the offer in ISO-8601 format", example = "2020-06-14T00:00:00Z")
+    private String startDate;
+
+    @Schema(description = "End date of the offer in ISO-8601 format", example = "2020-12-31T23:59:59Z")
+    private String endDate;
+
+    @Schema(description = "Priority of the offer", example = "0")
+    private Integer priority;
+
+    @Schema(description = "Price of the offer", example = "35.50")
+    private BigDecimal price;
+
+    @Schema(description = "Expected version of the offer, the update is rejected if it has changed", example = "0")
+    private Long version;
+}
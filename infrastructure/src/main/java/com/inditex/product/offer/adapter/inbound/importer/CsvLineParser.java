@@ -0,0 +1,71 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a CSV line into its fields following RFC 4180: fields are separated by commas and may be enclosed in double
+ * quotes, with a double quote inside a quoted field escaped by another one. Fields spanning several lines are not
+ * supported, as the offers never contain line breaks.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+final class CsvLineParser {
+
+    private static final char SEPARATOR = ',';
+
+    private static final char QUOTE = '"';
+
+    private CsvLineParser() {
+
+    }
+
+    /**
+     * Splits a line into its fields.
+     *
+     * @param line the CSV line, without the line break
+     * @return the fields of the line, unquoted
+     * @throws IllegalArgumentException if a quoted field is not closed or is followed by other characters
+     */
+    static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        var field = new StringBuilder();
+        var index = 0;
+        while (true) {
+            if (index < line.length() && line.charAt(index) == QUOTE) {
+                index = readQuoted(line, index + 1, field);
+                if (index < line.length() && line.charAt(index) != SEPARATOR) {
+                    throw new IllegalArgumentException("Unexpected character after a quoted field at position " + index);
+                }
+            } else {
+                var end = line.indexOf(SEPARATOR, index);
+                end = end < 0 ? line.length() : end;
+                field.append(line, index, end);
+                index = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (index >= line.length()) {
+                return fields;
+            }
+            index++;
+        }
+    }
+
+    private static int readQuoted(String line, int index, StringBuilder field) {
+        while (index < line.length()) {
+            var character = line.charAt(index++);
+            if (character != QUOTE) {
+                field.append(character);
+            } else if (index < line.length() && line.charAt(index) == QUOTE) {
+                field.append(QUOTE);
+                index++;
+            } else {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("Unclosed quoted field");
+    }
+}
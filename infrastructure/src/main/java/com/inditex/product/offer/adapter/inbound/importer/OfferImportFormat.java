@@ -0,0 +1,65 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import java.util.Arrays;
+import java.util.Optional;
+import org.springframework.http.MediaType;
+
+/**
+ * Formats of the files accepted by the {@link OfferImporter}.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public enum OfferImportFormat {
+
+    /**
+     * One JSON offer per line.
+     */
+    NDJSON(MediaType.APPLICATION_NDJSON, ".ndjson"),
+
+    /**
+     * A header line naming the fields of the offer followed by one offer per line.
+     */
+    CSV(new MediaType("text", "csv"), ".csv");
+
+    private final MediaType mediaType;
+
+    private final String extension;
+
+    OfferImportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolves the format of a request body from its content type.
+     *
+     * @param mediaType the content type
+     * @return the format, empty if the content type is not supported
+     */
+    public static Optional<OfferImportFormat> of(MediaType mediaType) {
+        return Arrays.stream(values())
+          .filter(format -> format.mediaType.equalsTypeAndSubtype(mediaType))
+          .findFirst();
+    }
+
+    /**
+     * Resolves the format of a file from its extension.
+     *
+     * @param filename the name of the file
+     * @return the format, empty if the extension is not supported
+     */
+    public static Optional<OfferImportFormat> of(String filename) {
+        return Arrays.stream(values())
+          .filter(format -> filename.toLowerCase().endsWith(format.extension))
+          .findFirst();
+    }
+}
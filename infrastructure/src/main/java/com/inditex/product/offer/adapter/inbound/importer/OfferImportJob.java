@@ -0,0 +1,143 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of an import run by the {@link OfferImporter}.
+ * <p>
+ * The counters are updated by the thread running the import and can be read at any time by other threads, so the status
+ * endpoint reports the progress of an import while it runs. Only the first {@code maxErrors} rejected records are kept.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public class OfferImportJob {
+
+    private final String importId;
+
+    private final String source;
+
+    private final OfferImportFormat format;
+
+    private final int maxErrors;
+
+    private final Instant startedAt = Instant.now();
+
+    private final AtomicLong read = new AtomicLong();
+
+    private final AtomicLong imported = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final List<RecordError> errors = new ArrayList<>();
+
+    private volatile Status status = Status.RUNNING;
+
+    private volatile String failure;
+
+    private volatile Instant finishedAt;
+
+    OfferImportJob(String importId, String source, OfferImportFormat format, int maxErrors) {
+        this.importId = importId;
+        this.source = source;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    public String getImportId() {
+        return importId;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public OfferImportFormat getFormat() {
+        return format;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getRead() {
+        return read.get();
+    }
+
+    public long getImported() {
+        return imported.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public synchronized List<RecordError> getErrors() {
+        return List.copyOf(errors);
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    void recordRead() {
+        read.incrementAndGet();
+    }
+
+    void recordImported(int count) {
+        imported.addAndGet(count);
+    }
+
+    synchronized void recordRejected(long line, Long offerId, List<String> reasons) {
+        rejected.incrementAndGet();
+        if (errors.size() < maxErrors) {
+            errors.add(new RecordError(line, offerId, reasons));
+        }
+    }
+
+    void complete() {
+        finishedAt = Instant.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failure = reason;
+        finishedAt = Instant.now();
+        status = Status.FAILED;
+    }
+
+    /**
+     * Status of an import.
+     */
+    public enum Status {
+
+        RUNNING,
+
+        COMPLETED,
+
+        FAILED
+    }
+
+    /**
+     * A record of the file that was not imported.
+     *
+     * @param line    the line of the record in the file, starting at 1
+     * @param offerId the identifier of the offer, if it could be read
+     * @param errors  the reasons why the record was rejected
+     */
+    public record RecordError(long line, Long offerId, List<String> errors) {
+
+    }
+}
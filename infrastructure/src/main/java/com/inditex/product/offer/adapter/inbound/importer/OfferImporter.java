@@ -0,0 +1,307 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import static org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
+import com.inditex.product.offer.adapter.inbound.mapper.OfferDtoMapper;
+import com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator;
+import com.inditex.product.offer.configuration.OfferBatchProperties;
+import com.inditex.product.offer.configuration.OfferImportProperties;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.service.BrandGetService;
+import com.inditex.product.offer.service.OfferCreateService;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.ObjectError;
+
+/**
+ * Imports offers from NDJSON or CSV files.
+ * <p>
+ * The file is read one line at a time, so its size is not bounded by the memory. Every record is validated with the
+ * {@link OfferCreateRequestValidator}; the rejected ones are counted and reported with their line, and the valid ones are
+ * created or replaced through {@link OfferCreateService#upsertOffers(List)} in batches of
+ * {@link OfferBatchProperties#getSize()} offers, each in its own transaction, so a file can be imported again to
+ * refresh its offers. An offer repeated in the file overrides the previous one, as its batch is written before the
+ * repetition is added. If a batch cannot be written the import fails, keeping the batches already written.
+ * </p>
+ * <p>
+ * Imports run either on the application task executor, for uploaded files, or in the calling thread, for the startup
+ * load. The progress of the last {@link OfferImportProperties#getRetainedImports()} imports is kept in memory.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class OfferImporter {
+
+    private static final Set<String> CSV_COLUMNS = Set.of(OfferCreateRequestValidator.OFFER_ID,
+      OfferCreateRequestValidator.BRAND_ID, OfferCreateRequestValidator.START_DATE, OfferCreateRequestValidator.END_DATE,
+      OfferCreateRequestValidator.PRICE_LIST_ID, OfferCreateRequestValidator.PRODUCT_PART_NUMBER,
+      OfferCreateRequestValidator.PRIORITY, OfferCreateRequestValidator.PRICE, OfferCreateRequestValidator.CURRENCY_ISO);
+
+    private final OfferCreateRequestValidator offerCreateRequestValidator;
+
+    private final OfferCreateService offerCreateService;
+
+    private final OfferDtoMapper offerDtoMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final TaskExecutor taskExecutor;
+
+    private final int batchSize;
+
+    private final int maxErrors;
+
+    private final Map<String, OfferImportJob> jobs;
+
+    /**
+     * Constructor for OfferImporter.
+     *
+     * @param offerCreateService    of type {@link OfferCreateService}
+     * @param brandGetService       of type {@link BrandGetService}
+     * @param offerDtoMapper        of type {@link OfferDtoMapper}
+     * @param objectMapper          of type {@link ObjectMapper}
+     * @param taskExecutor          of type {@link TaskExecutor}
+     * @param offerBatchProperties  of type {@link OfferBatchProperties}
+     * @param offerImportProperties of type {@link OfferImportProperties}
+     */
+    public OfferImporter(OfferCreateService offerCreateService, BrandGetService brandGetService,
+      OfferDtoMapper offerDtoMapper, ObjectMapper objectMapper,
+      @Qualifier(APPLICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor taskExecutor, OfferBatchProperties offerBatchProperties,
+      OfferImportProperties offerImportProperties) {
+        this.offerCreateService = offerCreateService;
+        this.offerCreateRequestValidator = new OfferCreateRequestValidator(brandGetService::existsBrand);
+        this.offerDtoMapper = offerDtoMapper;
+        this.objectMapper = objectMapper;
+        this.taskExecutor = taskExecutor;
+        this.batchSize = Math.max(1, offerBatchProperties.getSize());
+        this.maxErrors = offerImportProperties.getMaxErrors();
+        var retainedImports = offerImportProperties.getRetainedImports();
+        this.jobs = new LinkedHashMap<>() {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, OfferImportJob> eldest) {
+                return size() > retainedImports;
+            }
+        };
+    }
+
+    /**
+     * Imports a file on the task executor, deleting it once imported.
+     *
+     * @param source the name of the file, for reporting
+     * @param format the format of the file
+     * @param file   the file to import
+     * @return the import, running
+     */
+    public OfferImportJob submit(String source, OfferImportFormat format, Path file) {
+        var job = register(source, format);
+        taskExecutor.execute(() -> {
+            try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                run(job, reader);
+            } catch (IOException e) {
+                LOGGER.error("Import [{}] could not read [{}]", job.getImportId(), file, e);
+                job.fail(e.getMessage());
+            } finally {
+                deleteFile(file);
+            }
+        });
+        return job;
+    }
+
+    /**
+     * Imports a stream in the calling thread.
+     *
+     * @param source      the name of the stream, for reporting
+     * @param format      the format of the stream
+     * @param inputStream the UTF-8 content to import
+     * @return the import, completed or failed
+     */
+    public OfferImportJob importOffers(String source, OfferImportFormat format, InputStream inputStream) {
+        var job = register(source, format);
+        run(job, new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        return job;
+    }
+
+    /**
+     * Retrieves the progress of an import.
+     *
+     * @param importId the identifier of the import
+     * @return the import, empty if it is unknown or no longer retained
+     */
+    public Optional<OfferImportJob> getJob(String importId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(importId));
+        }
+    }
+
+    private OfferImportJob register(String source, OfferImportFormat format) {
+        var job = new OfferImportJob(UUID.randomUUID().toString(), source, format, maxErrors);
+        synchronized (jobs) {
+            jobs.put(job.getImportId(), job);
+        }
+        return job;
+    }
+
+    private void run(OfferImportJob job, BufferedReader reader) {
+        LOGGER.info("Import [{}] of [{}] as {} started", job.getImportId(), job.getSource(), job.getFormat());
+        var pendingOffers = new PendingOffers(job);
+        try {
+            List<String> header = null;
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (job.getFormat() == OfferImportFormat.CSV && header == null) {
+                    header = readHeader(line);
+                    continue;
+                }
+                job.recordRead();
+                importRecord(job, lineNumber, header == null ? readNdjson(line) : readCsv(header, line), pendingOffers);
+            }
+            pendingOffers.write();
+            job.complete();
+            LOGGER.info("Import [{}] completed: [{}] records read, [{}] imported, [{}] rejected", job.getImportId(),
+              job.getRead(), job.getImported(), job.getRejected());
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Import [{}] failed after [{}] offers imported", job.getImportId(), job.getImported(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private List<String> readHeader(String line) {
+        var header = CsvLineParser.parse(line).stream().map(String::trim).toList();
+        var unknownColumns = header.stream().filter(column -> !CSV_COLUMNS.contains(column)).toList();
+        if (!unknownColumns.isEmpty()) {
+            throw new IllegalArgumentException("The CSV header contains unknown columns: " + unknownColumns);
+        }
+        return header;
+    }
+
+    private ParsedRecord readNdjson(String line) {
+        try {
+            return new ParsedRecord(objectMapper.readValue(line, OfferCreateRequestDTO.class), null);
+        } catch (JsonProcessingException e) {
+            LOGGER.debug("Invalid NDJSON record: {}", e.getOriginalMessage());
+            return new ParsedRecord(null, "The record is not valid JSON");
+        }
+    }
+
+    private ParsedRecord readCsv(List<String> header, String line) {
+        try {
+            var fields = CsvLineParser.parse(line);
+            if (fields.size() != header.size()) {
+                return new ParsedRecord(null, "The record has " + fields.size() + " fields instead of " + header.size());
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int index = 0; index < fields.size(); index++) {
+                var value = fields.get(index).trim();
+                if (!value.isEmpty()) {
+                    values.put(header.get(index), value);
+                }
+            }
+            return new ParsedRecord(objectMapper.convertValue(values, OfferCreateRequestDTO.class), null);
+        } catch (IllegalArgumentException e) {
+            LOGGER.debug("Invalid CSV record: {}", e.getMessage());
+            return new ParsedRecord(null, "The record is not valid CSV");
+        }
+    }
+
+    private void importRecord(OfferImportJob job, long line, ParsedRecord parsedRecord, PendingOffers pendingOffers) {
+        var offerCreateRequestDTO = parsedRecord.offerCreateRequestDTO();
+        if (parsedRecord.error() != null) {
+            job.recordRejected(line, null, List.of(parsedRecord.error()));
+            return;
+        }
+        if (offerCreateRequestDTO == null) {
+            job.recordRejected(line, null, List.of("The offer is required"));
+            return;
+        }
+
+        var errors = new BeanPropertyBindingResult(offerCreateRequestDTO, "offerCreateRequestDTO");
+        offerCreateRequestValidator.validate(offerCreateRequestDTO, errors);
+        if (errors.hasErrors()) {
+            job.recordRejected(line, offerCreateRequestDTO.getOfferId(),
+              errors.getAllErrors().stream().map(ObjectError::getDefaultMessage).toList());
+            return;
+        }
+        pendingOffers.add(offerDtoMapper.toOfferDomain(offerCreateRequestDTO));
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOGGER.warn("Imported file [{}] could not be deleted", file, e);
+        }
+    }
+
+    private record ParsedRecord(OfferCreateRequestDTO offerCreateRequestDTO, String error) {
+
+    }
+
+    /**
+     * The valid offers read since the last batch was written.
+     */
+    private final class PendingOffers {
+
+        private final OfferImportJob job;
+
+        private final List<Offer> offers = new ArrayList<>(batchSize);
+
+        private final Set<Long> offerIds = new HashSet<>();
+
+        private PendingOffers(OfferImportJob job) {
+            this.job = job;
+        }
+
+        private void add(Offer offer) {
+            if (!offerIds.add(offer.getOfferId())) {
+                write();
+                offerIds.add(offer.getOfferId());
+            }
+            offers.add(offer);
+            if (offers.size() >= batchSize) {
+                write();
+            }
+        }
+
+        private void write() {
+            if (offers.isEmpty()) {
+                return;
+            }
+            offerCreateService.upsertOffers(List.copyOf(offers));
+            job.recordImported(offers.size());
+            offers.clear();
+            offerIds.clear();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportJob.Status;
+import com.inditex.product.offer.configuration.OfferImportProperties;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the offers of {@link OfferImportProperties#getStartupLocation()} through the {@link OfferImporter} once the
+ * application has started, so the initial offers are validated and written in JDBC batches like any other import. Nothing is
+ * loaded when the location is empty.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class OfferStartupImporter implements ApplicationRunner {
+
+    private final OfferImporter offerImporter;
+
+    private final ResourceLoader resourceLoader;
+
+    private final String startupLocation;
+
+    /**
+     * Constructor for OfferStartupImporter.
+     *
+     * @param offerImporter         of type {@link OfferImporter}
+     * @param resourceLoader        of type {@link ResourceLoader}
+     * @param offerImportProperties of type {@link OfferImportProperties}
+     */
+    public OfferStartupImporter(OfferImporter offerImporter, ResourceLoader resourceLoader,
+      OfferImportProperties offerImportProperties) {
+        this.offerImporter = offerImporter;
+        this.resourceLoader = resourceLoader;
+        this.startupLocation = offerImportProperties.getStartupLocation();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        if (startupLocation == null || startupLocation.isBlank()) {
+            return;
+        }
+
+        var format = OfferImportFormat.of(startupLocation)
+          .orElseThrow(() -> new IllegalStateException("Unsupported startup offers file: " + startupLocation));
+        try (var inputStream = resourceLoader.getResource(startupLocation).getInputStream()) {
+            var job = offerImporter.importOffers(startupLocation, format, inputStream);
+            if (job.getStatus() == Status.FAILED) {
+                throw new IllegalStateException("The startup offers could not be loaded: " + job.getFailure());
+            }
+            if (job.getRejected() > 0) {
+                LOGGER.warn("[{}] startup offers were rejected: {}", job.getRejected(), job.getErrors());
+            }
+        }
+    }
+}
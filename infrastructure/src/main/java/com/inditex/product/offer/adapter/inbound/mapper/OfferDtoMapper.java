@@ -6,7 +6,9 @@ import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferDateRangeFlattenedResponseDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferResponseDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferResponseIdDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferUpdateRequestDTO;
 import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import org.mapstruct.AfterMapping;
@@ -65,8 +67,30 @@ public interface OfferDtoMapper {
     @Mapping(target = "startDate", ignore = true)
     @Mapping(target = "endDate", ignore = true)
     @Mapping(source = "productPartnumber", target = "productPartNumber")
+    @Mapping(target = "version", ignore = true)
     Offer toOfferDomain(OfferCreateRequestDTO offerCreateRequestDTO);
 
+    /**
+     * Convert from {@link OfferUpdateRequestDTO} to {@link OfferUpdate}
+     *
+     * @param offerUpdateRequestDTO {@link OfferUpdateRequestDTO}
+     * @return {@link OfferUpdate}
+     */
+    @Mapping(target = "startDate", ignore = true)
+    @Mapping(target = "endDate", ignore = true)
+    OfferUpdate toOfferUpdate(OfferUpdateRequestDTO offerUpdateRequestDTO);
+
+    @AfterMapping
+    default void toUpdateAfterMapping(OfferUpdateRequestDTO offerUpdateRequestDTO,
+      @MappingTarget OfferUpdate offerUpdate) {
+
+        Optional.ofNullable(offerUpdateRequestDTO.getStartDate())
+          .ifPresent(startDate -> offerUpdate.setStartDate(ZonedDateTime.parse(startDate, dateFormatter)));
+
+        Optional.ofNullable(offerUpdateRequestDTO.getEndDate())
+          .ifPresent(endDate -> offerUpdate.setEndDate(ZonedDateTime.parse(endDate, dateFormatter)));
+    }
+
     @AfterMapping
     default void toDomainAfterMapping(OfferCreateRequestDTO offerCreateRequestDTO,
       @MappingTarget Offer offer) {
@@ -0,0 +1,500 @@
+package com.inditex.product.offer.adapter.inbound.timeline;
+
+import com.inditex.product.offer.adapter.inbound.utils.FlattenerEngine;
+import com.inditex.product.offer.adapter.inbound.utils.OfferDateRangeFlattener;
+import com.inditex.product.offer.model.Offer;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.springframework.http.MediaType;
+
+/**
+ * Immutable, precomputed price timeline of a product.
+ * <p>
+ * The timeline stores the flattened segments produced by {@link OfferDateRangeFlattener} as parallel arrays sorted by their
+ * start date, so the price applied at a given instant is resolved with a binary search in {@code O(log n)}.
+ * </p>
+ * <p>
+ * Offers are grouped in clusters of transitively overlapping date ranges. No offer is active between two clusters, so the
+ * segments of a cluster depend only on its own offers, swept in offer identifier order. Adding or removing an offer
+ * re-sweeps only the clusters touching its date range and shares the rest with the previous timeline.
+ * </p>
+ * <p>
+ * The {@link OfferTimelineResponse} rendered from a timeline for every content type is held by the timeline itself, so
+ * it is rendered once and lives exactly as long as the timeline does.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public final class OfferTimeline {
+
+    private static final Comparator<Offer> OFFER_ID_ORDER = Comparator.comparing(Offer::getOfferId,
+      Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final FlattenerEngine flattenerEngine;
+
+    private final Cluster[] clusters;
+
+    private final long[] clusterStartEpochSeconds;
+
+    private final long[] clusterEndEpochSeconds;
+
+    private final int size;
+
+    private final ConcurrentMap<MediaType, OfferTimelineResponse> responses = new ConcurrentHashMap<>();
+
+    private OfferTimeline(FlattenerEngine flattenerEngine, Cluster[] clusters) {
+        this.flattenerEngine = flattenerEngine;
+        this.clusters = clusters;
+        this.clusterStartEpochSeconds = new long[clusters.length];
+        this.clusterEndEpochSeconds = new long[clusters.length];
+
+        var segments = 0;
+        for (int i = 0; i < clusters.length; i++) {
+            clusterStartEpochSeconds[i] = clusters[i].startEpochSecond;
+            clusterEndEpochSeconds[i] = clusters[i].endEpochSecond;
+            segments += clusters[i].size();
+        }
+        this.size = segments;
+    }
+
+    /**
+     * Builds the timeline of the given offers.
+     *
+     * @param offers the offers of a product
+     * @return the {@link OfferTimeline} of the offers
+     */
+    public static OfferTimeline of(List<Offer> offers) {
+        return of(offers, FlattenerEngine.CLASSIC);
+    }
+
+    /**
+     * Builds the timeline of the given offers with the given engine.
+     *
+     * @param offers          the offers of a product
+     * @param flattenerEngine the {@link FlattenerEngine} used to flatten the offers
+     * @return the {@link OfferTimeline} of the offers
+     */
+    public static OfferTimeline of(List<Offer> offers, FlattenerEngine flattenerEngine) {
+        return new OfferTimeline(flattenerEngine, cluster(offers, flattenerEngine).toArray(Cluster[]::new));
+    }
+
+    /**
+     * Returns a timeline including the given offer. Only the clusters overlapping the offer are flattened again.
+     *
+     * @param offer the offer to add, which must not be part of the timeline yet
+     * @return the patched {@link OfferTimeline}
+     */
+    public OfferTimeline withOffer(Offer offer) {
+        return withOffers(List.of(offer));
+    }
+
+    /**
+     * Returns a timeline including the given offers. The clusters overlapping any of the offers are flattened again
+     * once, together with all the offers overlapping them.
+     *
+     * @param offers the offers to add, which must not be part of the timeline yet
+     * @return the patched {@link OfferTimeline}
+     */
+    public OfferTimeline withOffers(Collection<Offer> offers) {
+        if (offers.isEmpty()) {
+            return this;
+        }
+
+        var replaced = new boolean[clusters.length];
+        for (Offer offer : offers) {
+            var last = countClustersStartingUntil(endEpochSecond(offer));
+            for (int i = countClustersEndingBefore(startEpochSecond(offer)); i < last; i++) {
+                replaced[i] = true;
+            }
+        }
+
+        List<Offer> clusterOffers = new ArrayList<>(offers);
+        for (int i = 0; i < clusters.length; i++) {
+            if (replaced[i]) {
+                clusterOffers.addAll(clusters[i].offers);
+            }
+        }
+        return replace(replaced, cluster(clusterOffers, flattenerEngine));
+    }
+
+    /**
+     * Returns a timeline excluding the given offer. Only the cluster containing the offer is flattened again.
+     *
+     * @param offer the offer to remove
+     * @return the patched {@link OfferTimeline}, or this timeline if it does not contain the offer
+     */
+    public OfferTimeline withoutOffer(Offer offer) {
+        return withoutOffers(List.of(offer));
+    }
+
+    /**
+     * Returns a timeline excluding the given offers. Every cluster containing any of the offers is flattened again
+     * once.
+     *
+     * @param offers the offers to remove
+     * @return the patched {@link OfferTimeline}, or this timeline if it contains none of the offers
+     */
+    public OfferTimeline withoutOffers(Collection<Offer> offers) {
+        var replaced = new boolean[clusters.length];
+        Set<Long> offerIds = new HashSet<>();
+        for (Offer offer : offers) {
+            var index = countClustersStartingUntil(startEpochSecond(offer)) - 1;
+            if (index >= 0) {
+                replaced[index] = true;
+                offerIds.add(offer.getOfferId());
+            }
+        }
+
+        List<Offer> clusterOffers = new ArrayList<>();
+        var removed = false;
+        for (int i = 0; i < clusters.length; i++) {
+            if (!replaced[i]) {
+                continue;
+            }
+            for (Offer clusterOffer : clusters[i].offers) {
+                if (offerIds.contains(clusterOffer.getOfferId())) {
+                    removed = true;
+                } else {
+                    clusterOffers.add(clusterOffer);
+                }
+            }
+        }
+        return removed ? replace(replaced, cluster(clusterOffers, flattenerEngine)) : this;
+    }
+
+    /**
+     * Finds the segment applied at the given instant.
+     *
+     * @param epochSecond the instant to look up, in epoch seconds
+     * @return the {@link Segment} covering the instant, or empty if no offer applies
+     */
+    public Optional<Segment> segmentAt(long epochSecond) {
+        var index = countClustersStartingUntil(epochSecond) - 1;
+        if (index < 0) {
+            return Optional.empty();
+        }
+        return clusters[index].segmentAt(epochSecond);
+    }
+
+    /**
+     * Returns the segments of the timeline in chronological order.
+     *
+     * @return the {@link Segment} list
+     */
+    public List<Segment> segments() {
+        List<Segment> segments = new ArrayList<>(size);
+        for (Cluster cluster : clusters) {
+            for (int i = 0; i < cluster.size(); i++) {
+                segments.add(cluster.segment(i));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the segments overlapping the given window in chronological order, clipped to the window. Both bounds are
+     * inclusive.
+     *
+     * @param fromEpochSecond the first second of the window
+     * @param toEpochSecond   the last second of the window
+     * @return the clipped {@link Segment} list
+     */
+    public List<Segment> segmentsOverlapping(long fromEpochSecond, long toEpochSecond) {
+        List<Segment> segments = new ArrayList<>();
+        segmentIterator(fromEpochSecond, toEpochSecond).forEachRemaining(segments::add);
+        return segments;
+    }
+
+    /**
+     * Returns a lazy iterator over the segments overlapping the given window in chronological order, clipped to the window.
+     * Segments are created one at a time while iterating, so the window is never materialized. Both bounds are inclusive.
+     *
+     * @param fromEpochSecond the first second of the window
+     * @param toEpochSecond   the last second of the window
+     * @return the {@link Segment} iterator
+     */
+    public Iterator<Segment> segmentIterator(long fromEpochSecond, long toEpochSecond) {
+        return new SegmentIterator(fromEpochSecond, toEpochSecond);
+    }
+
+    /**
+     * Returns the offers of the timeline, grouped by cluster in chronological order.
+     *
+     * @return the offers of the timeline
+     */
+    List<Offer> offers() {
+        List<Offer> offers = new ArrayList<>();
+        for (Cluster cluster : clusters) {
+            offers.addAll(cluster.offers);
+        }
+        return offers;
+    }
+
+    /**
+     * Retrieves the response rendered from the timeline for the given content type, rendering it the first time.
+     *
+     * @param contentType the content type of the response
+     * @param renderer    the function serializing the timeline
+     * @return the {@link OfferTimelineResponse} of the timeline
+     */
+    public OfferTimelineResponse getResponse(MediaType contentType, Function<OfferTimeline, byte[]> renderer) {
+        var response = responses.get(contentType);
+        if (response != null) {
+            return response;
+        }
+
+        var renderedResponse = OfferTimelineResponse.of(renderer.apply(this));
+        return Objects.requireNonNullElse(responses.putIfAbsent(contentType, renderedResponse), renderedResponse);
+    }
+
+    /**
+     * Returns the number of segments of the timeline.
+     *
+     * @return the number of segments
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Replaces the flagged clusters with the given ones. Replacements never overlap the kept clusters, so both are
+     * merged by start date.
+     */
+    private OfferTimeline replace(boolean[] replaced, List<Cluster> replacements) {
+        List<Cluster> patched = new ArrayList<>(clusters.length + replacements.size());
+        var next = 0;
+        for (int i = 0; i < clusters.length; i++) {
+            if (replaced[i]) {
+                continue;
+            }
+            while (next < replacements.size()
+              && replacements.get(next).startEpochSecond < clusters[i].startEpochSecond) {
+                patched.add(replacements.get(next++));
+            }
+            patched.add(clusters[i]);
+        }
+        patched.addAll(replacements.subList(next, replacements.size()));
+        return new OfferTimeline(flattenerEngine, patched.toArray(Cluster[]::new));
+    }
+
+    private int countClustersEndingBefore(long epochSecond) {
+        var index = Arrays.binarySearch(clusterEndEpochSeconds, epochSecond);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private int countClustersStartingUntil(long epochSecond) {
+        var index = Arrays.binarySearch(clusterStartEpochSeconds, epochSecond);
+        return index < 0 ? -index - 1 : index + 1;
+    }
+
+    /**
+     * Splits the offers in clusters of transitively overlapping date ranges, where ranges sharing a bound overlap too.
+     */
+    private static List<Cluster> cluster(List<Offer> offers, FlattenerEngine flattenerEngine) {
+        List<Offer> sortedOffers = new ArrayList<>(offers);
+        sortedOffers.sort(Comparator.comparingLong(OfferTimeline::startEpochSecond));
+
+        List<Cluster> clusters = new ArrayList<>();
+        List<Offer> clusterOffers = new ArrayList<>();
+        var clusterStartEpochSecond = 0L;
+        var clusterEndEpochSecond = 0L;
+        for (Offer offer : sortedOffers) {
+            if (!clusterOffers.isEmpty() && startEpochSecond(offer) > clusterEndEpochSecond) {
+                clusters.add(Cluster.of(clusterStartEpochSecond, clusterEndEpochSecond, clusterOffers, flattenerEngine));
+                clusterOffers = new ArrayList<>();
+            }
+
+            if (clusterOffers.isEmpty()) {
+                clusterStartEpochSecond = startEpochSecond(offer);
+                clusterEndEpochSecond = endEpochSecond(offer);
+            } else {
+                clusterEndEpochSecond = Math.max(clusterEndEpochSecond, endEpochSecond(offer));
+            }
+            clusterOffers.add(offer);
+        }
+
+        if (!clusterOffers.isEmpty()) {
+            clusters.add(Cluster.of(clusterStartEpochSecond, clusterEndEpochSecond, clusterOffers, flattenerEngine));
+        }
+        return clusters;
+    }
+
+    /**
+     * Offers without a valid date range are given an unbounded range, so they share a single cluster with every other offer
+     * and the whole timeline is flattened at once, as {@link OfferDateRangeFlattener} does.
+     */
+    private static boolean hasValidDateRange(Offer offer) {
+        return offer.getStartDate() != null && offer.getEndDate() != null
+          && !offer.getEndDate().isBefore(offer.getStartDate());
+    }
+
+    private static long startEpochSecond(Offer offer) {
+        return hasValidDateRange(offer) ? offer.getStartDate().toEpochSecond() : Long.MIN_VALUE;
+    }
+
+    private static long endEpochSecond(Offer offer) {
+        return hasValidDateRange(offer) ? offer.getEndDate().toEpochSecond() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Flattened segment of the timeline. Both bounds are inclusive and expressed in epoch seconds.
+     *
+     * @param startEpochSecond the first second of the segment
+     * @param endEpochSecond   the last second of the segment
+     * @param price            the price applied to the segment
+     * @param currencyIso      the currency ISO code of the segment
+     */
+    public record Segment(long startEpochSecond, long endEpochSecond, BigDecimal price, String currencyIso) {
+
+    }
+
+    private static final class Cluster {
+
+        private final long startEpochSecond;
+
+        private final long endEpochSecond;
+
+        private final List<Offer> offers;
+
+        private final long[] startEpochSeconds;
+
+        private final long[] endEpochSeconds;
+
+        private final BigDecimal[] prices;
+
+        private final String[] currencies;
+
+        private Cluster(long startEpochSecond, long endEpochSecond, List<Offer> offers, Builder builder) {
+            this.startEpochSecond = startEpochSecond;
+            this.endEpochSecond = endEpochSecond;
+            this.offers = offers;
+            this.startEpochSeconds = Arrays.copyOf(builder.startEpochSeconds, builder.size);
+            this.endEpochSeconds = Arrays.copyOf(builder.endEpochSeconds, builder.size);
+            this.prices = Arrays.copyOf(builder.prices, builder.size);
+            this.currencies = Arrays.copyOf(builder.currencies, builder.size);
+        }
+
+        private static Cluster of(long startEpochSecond, long endEpochSecond, List<Offer> offers,
+          FlattenerEngine flattenerEngine) {
+            var sortedOffers = offers.stream()
+              .sorted(OFFER_ID_ORDER)
+              .toList();
+            var builder = new Builder(sortedOffers.size() * 2);
+            OfferDateRangeFlattener.sweep(sortedOffers, flattenerEngine, builder::add);
+            return new Cluster(startEpochSecond, endEpochSecond, sortedOffers, builder);
+        }
+
+        private Optional<Segment> segmentAt(long epochSecond) {
+            var index = Arrays.binarySearch(startEpochSeconds, epochSecond);
+            if (index < 0) {
+                index = -index - 2;
+            }
+
+            if (index < 0 || epochSecond > endEpochSeconds[index]) {
+                return Optional.empty();
+            }
+            return Optional.of(segment(index));
+        }
+
+        private int firstSegmentEndingFrom(long epochSecond) {
+            var index = Arrays.binarySearch(endEpochSeconds, epochSecond);
+            return index < 0 ? -index - 1 : index;
+        }
+
+        private Segment segment(int index) {
+            return new Segment(startEpochSeconds[index], endEpochSeconds[index], prices[index], currencies[index]);
+        }
+
+        private int size() {
+            return startEpochSeconds.length;
+        }
+    }
+
+    private final class SegmentIterator implements Iterator<Segment> {
+
+        private final long fromEpochSecond;
+
+        private final long toEpochSecond;
+
+        private final int lastCluster;
+
+        private int cluster;
+
+        private int index;
+
+        private SegmentIterator(long fromEpochSecond, long toEpochSecond) {
+            this.fromEpochSecond = fromEpochSecond;
+            this.toEpochSecond = toEpochSecond;
+            this.lastCluster = countClustersStartingUntil(toEpochSecond);
+            this.cluster = countClustersEndingBefore(fromEpochSecond);
+            this.index = cluster < lastCluster ? clusters[cluster].firstSegmentEndingFrom(fromEpochSecond) : 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (cluster < lastCluster) {
+                if (index < clusters[cluster].size() && clusters[cluster].startEpochSeconds[index] <= toEpochSecond) {
+                    return true;
+                }
+                cluster++;
+                index = 0;
+            }
+            return false;
+        }
+
+        @Override
+        public Segment next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            var current = clusters[cluster];
+            var segment = new Segment(Math.max(current.startEpochSeconds[index], fromEpochSecond),
+              Math.min(current.endEpochSeconds[index], toEpochSecond), current.prices[index], current.currencies[index]);
+            index++;
+            return segment;
+        }
+    }
+
+    private static final class Builder {
+
+        private final long[] startEpochSeconds;
+
+        private final long[] endEpochSeconds;
+
+        private final BigDecimal[] prices;
+
+        private final String[] currencies;
+
+        private int size;
+
+        private Builder(int capacity) {
+            startEpochSeconds = new long[capacity];
+            endEpochSeconds = new long[capacity];
+            prices = new BigDecimal[capacity];
+            currencies = new String[capacity];
+        }
+
+        private void add(long startEpochSecond, long endEpochSecond, BigDecimal price, String currencyIso) {
+            startEpochSeconds[size] = startEpochSecond;
+            endEpochSeconds[size] = endEpochSecond;
+            prices[size] = price;
+            currencies[size] = currencyIso;
+            size++;
+        }
+    }
+}
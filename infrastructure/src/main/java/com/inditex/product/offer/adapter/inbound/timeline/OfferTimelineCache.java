@@ -0,0 +1,197 @@
+package com.inditex.product.offer.adapter.inbound.timeline;
+
+import com.inditex.product.offer.configuration.FlattenerProperties;
+import com.inditex.product.offer.configuration.OfferTimelineCacheProperties;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.port.listener.OfferChangeListener;
+import com.inditex.product.offer.service.OfferGetService;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory cache of the {@link OfferTimeline} of every product, keyed by brand identifier and product part number.
+ * <p>
+ * Timelines are loaded on demand through the {@link OfferGetService}. As an {@link OfferChangeListener}, this cache is
+ * notified of every write and patches the affected timeline with {@link OfferTimeline#withOffer(Offer)} and
+ * {@link OfferTimeline#withoutOffer(Offer)}, so only the segments around the changed offer are flattened again. Offers
+ * created together are grouped by product, and the affected clusters of every product are flattened again once.
+ * </p>
+ * <p>
+ * The cache keeps at most {@link OfferTimelineCacheProperties#getMaximumSize()} timelines, evicting the least recently
+ * used one together with the index of its offers. Products without offers are not cached, so lookups of unknown
+ * products do not fill the cache.
+ * </p>
+ * <p>
+ * A generation counter, increased on every write, prevents a timeline loaded concurrently with a write from being cached
+ * with stale data. The offers of a timeline loaded after a write come from the cache of the offers, which reads them
+ * from the primary while a read replica may still lag behind that write.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class OfferTimelineCache implements OfferChangeListener {
+
+    private final OfferGetService offerGetService;
+
+    private final FlattenerProperties flattenerProperties;
+
+    private final long maximumSize;
+
+    private final LinkedHashMap<Key, OfferTimeline> timelines = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Long, Offer> offersById = new HashMap<>();
+
+    private long generation;
+
+    /**
+     * Constructor for OfferTimelineCache.
+     *
+     * @param offerGetService              of type {@link OfferGetService}
+     * @param flattenerProperties          of type {@link FlattenerProperties}
+     * @param offerTimelineCacheProperties of type {@link OfferTimelineCacheProperties}
+     */
+    public OfferTimelineCache(OfferGetService offerGetService, FlattenerProperties flattenerProperties,
+      OfferTimelineCacheProperties offerTimelineCacheProperties) {
+        this.offerGetService = offerGetService;
+        this.flattenerProperties = flattenerProperties;
+        this.maximumSize = offerTimelineCacheProperties.getMaximumSize();
+    }
+
+    /**
+     * Retrieves the timeline of a product, loading it when it is not cached yet.
+     *
+     * @param brandId           the brand identifier
+     * @param productPartNumber the product part number
+     * @return the {@link OfferTimeline} of the product
+     */
+    public OfferTimeline getTimeline(Integer brandId, String productPartNumber) {
+        var key = new Key(brandId, productPartNumber);
+        long loadGeneration;
+        synchronized (this) {
+            var timeline = timelines.get(key);
+            if (timeline != null) {
+                return timeline;
+            }
+            loadGeneration = generation;
+        }
+
+        LOGGER.info("Loading timeline for brandId=[{}], productPartNumber=[{}]", brandId, productPartNumber);
+        var offers = offerGetService.getOffersByCriteria(brandId, productPartNumber);
+        var loadedTimeline = OfferTimeline.of(offers, flattenerProperties.getEngine());
+        if (offers.isEmpty()) {
+            return loadedTimeline;
+        }
+
+        synchronized (this) {
+            var timeline = timelines.get(key);
+            if (timeline != null) {
+                return timeline;
+            }
+            if (generation == loadGeneration && maximumSize > 0) {
+                timelines.put(key, loadedTimeline);
+                offers.forEach(offer -> offersById.put(offer.getOfferId(), offer));
+                evictLeastRecentlyUsed();
+            }
+        }
+        return loadedTimeline;
+    }
+
+    @Override
+    public void offerCreated(Offer offer) {
+        offersCreated(List.of(offer));
+    }
+
+    @Override
+    public synchronized void offersCreated(List<Offer> offers) {
+        generation++;
+        Map<Long, Offer> createdOffers = new LinkedHashMap<>();
+        offers.forEach(offer -> createdOffers.put(offer.getOfferId(), offer));
+
+        createdOffers.keySet().stream()
+          .map(offersById::remove)
+          .filter(Objects::nonNull)
+          .collect(Collectors.groupingBy(Key::of))
+          .forEach((key, previousOffers) -> timelines.computeIfPresent(key,
+            (k, timeline) -> timeline.withoutOffers(previousOffers)));
+
+        createdOffers.values().stream()
+          .collect(Collectors.groupingBy(Key::of))
+          .forEach((key, productOffers) -> timelines.computeIfPresent(key, (k, timeline) -> {
+              productOffers.forEach(offer -> offersById.put(offer.getOfferId(), offer));
+              return timeline.withOffers(productOffers);
+          }));
+    }
+
+    @Override
+    public synchronized void offerDeleted(Long id) {
+        generation++;
+        Optional.ofNullable(offersById.remove(id))
+          .ifPresent(this::removeOffer);
+    }
+
+    @Override
+    public synchronized void brandOffersDeleted(Integer brandId) {
+        generation++;
+        timelines.keySet().stream()
+          .filter(key -> Objects.equals(key.brandId(), brandId))
+          .toList()
+          .forEach(this::invalidate);
+    }
+
+    @Override
+    public synchronized void productOffersDeleted(Integer brandId, String productPartNumber) {
+        generation++;
+        invalidate(new Key(brandId, productPartNumber));
+    }
+
+    @Override
+    public synchronized void allOffersDeleted() {
+        generation++;
+        timelines.clear();
+        offersById.clear();
+    }
+
+    synchronized int size() {
+        return timelines.size();
+    }
+
+    private void removeOffer(Offer offer) {
+        timelines.computeIfPresent(Key.of(offer), (key, timeline) -> timeline.withoutOffer(offer));
+    }
+
+    private void evictLeastRecentlyUsed() {
+        var iterator = timelines.entrySet().iterator();
+        while (timelines.size() > maximumSize && iterator.hasNext()) {
+            var eldest = iterator.next();
+            var key = eldest.getKey();
+            LOGGER.debug("Evicting timeline of brandId=[{}], productPartNumber=[{}]", key.brandId(),
+              key.productPartNumber());
+            iterator.remove();
+            eldest.getValue().offers().forEach(offer -> offersById.remove(offer.getOfferId(), offer));
+        }
+    }
+
+    private void invalidate(Key key) {
+        var timeline = timelines.remove(key);
+        if (timeline != null) {
+            timeline.offers().forEach(offer -> offersById.remove(offer.getOfferId(), offer));
+        }
+    }
+
+    private record Key(Integer brandId, String productPartNumber) {
+
+        private static Key of(Offer offer) {
+            return new Key(offer.getBrandId(), offer.getProductPartNumber());
+        }
+    }
+}
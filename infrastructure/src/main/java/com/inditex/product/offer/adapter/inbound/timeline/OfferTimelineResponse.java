@@ -0,0 +1,39 @@
+package com.inditex.product.offer.adapter.inbound.timeline;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Serialized response rendered from an {@link OfferTimeline}.
+ * <p>
+ * Every response carries a strong ETag derived from its bytes, so clients holding the current version can be answered
+ * with a {@code 304 Not Modified}.
+ * </p>
+ *
+ * @param body the serialized body
+ * @param eTag the strong entity tag of the body
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public record OfferTimelineResponse(byte[] body, String eTag) {
+
+    private static final int ETAG_BYTES = 16;
+
+    /**
+     * Builds the response of the given body, computing its entity tag from the SHA-256 digest of the bytes.
+     *
+     * @param body the serialized body
+     * @return the {@link OfferTimelineResponse} of the body
+     */
+    public static OfferTimelineResponse of(byte[] body) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(body);
+            var eTag = '"' + HexFormat.of().formatHex(Arrays.copyOf(digest, ETAG_BYTES)) + '"';
+            return new OfferTimelineResponse(body, eTag);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.inditex.product.offer.adapter.inbound.utils;
+
+/**
+ * Engines available in {@link OfferDateRangeFlattener} to flatten the offers of a product. Both engines return the same
+ * flattened ranges.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public enum FlattenerEngine {
+
+    /**
+     * Sweeps sorted start and end events keeping the active prices grouped by priority.
+     */
+    CLASSIC,
+
+    /**
+     * Sweeps parallel primitive arrays with an indexed heap and lazy deletion, producing almost no garbage. Falls back to
+     * {@link #CLASSIC} for offers it cannot represent with primitives.
+     */
+    PRIMITIVE
+}
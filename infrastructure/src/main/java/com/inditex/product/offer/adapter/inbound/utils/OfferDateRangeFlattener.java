@@ -7,6 +7,7 @@ import com.inditex.product.offer.adapter.inbound.dto.Event;
 import com.inditex.product.offer.adapter.inbound.dto.OfferDateRangeFlattenedResponseDTO;
 import com.inditex.product.offer.model.Offer;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -39,6 +40,48 @@ public class OfferDateRangeFlattener {
     }
 
     public static List<OfferDateRangeFlattenedResponseDTO> flatten(List<Offer> offers) {
+        return flatten(offers, FlattenerEngine.CLASSIC);
+    }
+
+    /**
+     * Flattens the offers with the given engine.
+     *
+     * @param offers          the offers to flatten
+     * @param flattenerEngine the {@link FlattenerEngine} used to sweep the offers
+     * @return the flattened date ranges in chronological order
+     */
+    public static List<OfferDateRangeFlattenedResponseDTO> flatten(List<Offer> offers, FlattenerEngine flattenerEngine) {
+        List<OfferDateRangeFlattenedResponseDTO> result = new ArrayList<>();
+        sweep(offers, flattenerEngine, (startEpochSecond, endEpochSecond, price, currencyIso) -> result.add(
+          new OfferDateRangeFlattenedResponseDTO(dateFormatter.format(Instant.ofEpochSecond(startEpochSecond)),
+            dateFormatter.format(Instant.ofEpochSecond(endEpochSecond)), price, currencyIso)));
+        return result;
+    }
+
+    /**
+     * Flattens the offers with the given engine and sends every resulting segment, in chronological order, to the given
+     * consumer. The {@link FlattenerEngine#PRIMITIVE} engine falls back to the classic one when it cannot handle the offers.
+     *
+     * @param offers               the offers to flatten
+     * @param flattenerEngine      the {@link FlattenerEngine} used to sweep the offers
+     * @param offerSegmentConsumer the consumer of the flattened segments
+     */
+    public static void sweep(List<Offer> offers, FlattenerEngine flattenerEngine,
+      OfferSegmentConsumer offerSegmentConsumer) {
+        if (flattenerEngine == FlattenerEngine.PRIMITIVE
+          && OfferDateRangePrimitiveFlattener.sweep(offers, offerSegmentConsumer)) {
+            return;
+        }
+        sweep(offers, offerSegmentConsumer);
+    }
+
+    /**
+     * Flattens the offers and sends every resulting segment, in chronological order, to the given consumer.
+     *
+     * @param offers               the offers to flatten
+     * @param offerSegmentConsumer the consumer of the flattened segments
+     */
+    public static void sweep(List<Offer> offers, OfferSegmentConsumer offerSegmentConsumer) {
         List<Event> events = new ArrayList<>();
         offers.forEach(offer -> {
             events.add(new Event(offer.getStartDate(), true, offer.getPrice(), offer.getPriority(), offer.getCurrencyIso()));
@@ -47,17 +90,14 @@ public class OfferDateRangeFlattener {
 
         Collections.sort(events);
 
-        List<OfferDateRangeFlattenedResponseDTO> result = new ArrayList<>();
         TreeMap<Integer, List<BigDecimal>> activePrices = new TreeMap<>(Collections.reverseOrder());
 
         ZonedDateTime prevTime = null;
         for (Event event : events) {
             if (prevTime != null && !activePrices.isEmpty() && prevTime.isBefore(event.getTime())) {
                 var appliedPrice = activePrices.firstEntry().getValue().getFirst();
-                result.add(
-                  new OfferDateRangeFlattenedResponseDTO(prevTime.format(dateFormatter),
-                    event.getTime().minusSeconds(1).format(dateFormatter),
-                    appliedPrice, event.getCurrencyIso()));
+                offerSegmentConsumer.accept(prevTime.toEpochSecond(), event.getTime().minusSeconds(1).toEpochSecond(),
+                  appliedPrice, event.getCurrencyIso());
             }
 
             if (event.isStart()) {
@@ -71,6 +111,5 @@ public class OfferDateRangeFlattener {
 
             prevTime = event.getTime();
         }
-        return result;
     }
 }
@@ -0,0 +1,363 @@
+package com.inditex.product.offer.adapter.inbound.utils;
+
+import com.inditex.product.offer.model.Offer;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Primitive implementation of the sweep performed by {@link OfferDateRangeFlattener}, selected with
+ * {@link FlattenerEngine#PRIMITIVE}.
+ * <p>
+ * The offers are copied into parallel arrays (epoch seconds, priorities and unscaled prices) kept in a per-thread
+ * workspace, and their start and end events are encoded as {@code long} keys sorted with a primitive sort. The active
+ * prices are tracked with an indexed binary heap ordered by priority and insertion order, where ended entries are deleted
+ * lazily when they reach the top. Apart from the resulting segments, a call produces almost no garbage.
+ * </p>
+ * <p>
+ * The classic engine removes an ended price by value from the list of its priority, so it discards the earliest inserted
+ * equal price rather than the one of the ended offer. To return identical ranges, entries are grouped in classes of equal
+ * priority and price, and every end event deletes the oldest live entry of its class.
+ * </p>
+ * <p>
+ * Offers that cannot be represented with primitives (missing values, sub-second dates, mixed zones, end dates before start
+ * dates or prices with more than 15 digits) are rejected, and the caller falls back to the classic engine.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+final class OfferDateRangePrimitiveFlattener {
+
+    private static final int EVENT_INDEX_BITS = 27;
+
+    private static final long EVENT_INDEX_MASK = (1L << EVENT_INDEX_BITS) - 1;
+
+    private static final long MAX_TIME_SPAN = (1L << (Long.SIZE - 1 - EVENT_INDEX_BITS)) - 1;
+
+    private static final int MAX_OFFERS = 1 << (EVENT_INDEX_BITS - 1);
+
+    private static final int MAX_RETAINED_OFFERS = 1 << 16;
+
+    private static final int MAX_PRICE_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = new double[MAX_PRICE_DIGITS + 1];
+
+    private static final ThreadLocal<Workspace> WORKSPACES = ThreadLocal.withInitial(Workspace::new);
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private OfferDateRangePrimitiveFlattener() {
+
+    }
+
+    /**
+     * Flattens the offers and sends every resulting segment, in chronological order, to the given consumer.
+     *
+     * @param offers               the offers to flatten
+     * @param offerSegmentConsumer the consumer of the flattened segments
+     * @return {@code false}, without sending any segment, if the offers cannot be flattened by this engine
+     */
+    static boolean sweep(List<Offer> offers, OfferSegmentConsumer offerSegmentConsumer) {
+        var size = offers.size();
+        if (size > MAX_OFFERS) {
+            return false;
+        }
+
+        var workspace = WORKSPACES.get();
+        if (workspace.inUse || size > MAX_RETAINED_OFFERS) {
+            workspace = new Workspace();
+        }
+
+        workspace.inUse = true;
+        try {
+            workspace.ensureCapacity(size);
+            if (!workspace.load(offers)) {
+                return false;
+            }
+            workspace.sweep(offerSegmentConsumer);
+            return true;
+        } finally {
+            workspace.release();
+        }
+    }
+
+    /**
+     * Returns the unscaled value of a price with up to {@value #MAX_PRICE_DIGITS} digits without allocating it as a
+     * {@link java.math.BigInteger}: {@link BigDecimal#doubleValue()} is correctly rounded, so scaling it back and rounding
+     * recovers the exact unscaled value.
+     */
+    private static long unscaledValue(BigDecimal price) {
+        return Math.round(price.doubleValue() * POWERS_OF_TEN[price.scale()]);
+    }
+
+    private static int hash(int priority, long unscaledPrice, int scale) {
+        long hash = unscaledPrice * 0x9E3779B97F4A7C15L + priority * 0xC2B2AE3D27D4EB4FL + scale;
+        hash ^= hash >>> 32;
+        hash *= 0xD6E8FEB86659FD93L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static final class Workspace {
+
+        private boolean inUse;
+
+        private int size;
+
+        private long baseSecond;
+
+        private long[] startSeconds = new long[0];
+
+        private long[] endSeconds = new long[0];
+
+        private int[] priorities = new int[0];
+
+        private long[] unscaledPrices = new long[0];
+
+        private int[] scales = new int[0];
+
+        private BigDecimal[] prices = new BigDecimal[0];
+
+        private String[] currencies = new String[0];
+
+        private long[] eventKeys = new long[0];
+
+        private int[] offerClasses = new int[0];
+
+        private int[] classTable = new int[0];
+
+        private int[] classOffers = new int[0];
+
+        private int[] classHeads = new int[0];
+
+        private int[] classTails = new int[0];
+
+        private int[] classEntries = new int[0];
+
+        private int[] entryOffers = new int[0];
+
+        private boolean[] removedEntries = new boolean[0];
+
+        private int[] heap = new int[0];
+
+        private int heapSize;
+
+        private void ensureCapacity(int capacity) {
+            if (startSeconds.length >= capacity) {
+                return;
+            }
+
+            startSeconds = new long[capacity];
+            endSeconds = new long[capacity];
+            priorities = new int[capacity];
+            unscaledPrices = new long[capacity];
+            scales = new int[capacity];
+            prices = new BigDecimal[capacity];
+            currencies = new String[capacity];
+            eventKeys = new long[capacity * 2];
+            offerClasses = new int[capacity];
+            classTable = new int[Integer.highestOneBit(Math.max(capacity, 1)) << 2];
+            classOffers = new int[capacity];
+            classHeads = new int[capacity];
+            classTails = new int[capacity];
+            classEntries = new int[capacity];
+            entryOffers = new int[capacity];
+            removedEntries = new boolean[capacity];
+            heap = new int[capacity];
+        }
+
+        private boolean load(List<Offer> offers) {
+            ZoneId zone = null;
+            var minSecond = Long.MAX_VALUE;
+            var maxSecond = Long.MIN_VALUE;
+
+            size = 0;
+            for (Offer offer : offers) {
+                var startDate = offer.getStartDate();
+                var endDate = offer.getEndDate();
+                var priority = offer.getPriority();
+                var price = offer.getPrice();
+                if (startDate == null || endDate == null || priority == null || price == null
+                  || startDate.getNano() != 0 || endDate.getNano() != 0
+                  || price.scale() < 0 || price.scale() > MAX_PRICE_DIGITS || price.precision() > MAX_PRICE_DIGITS) {
+                    return false;
+                }
+
+                if (zone == null) {
+                    zone = startDate.getZone();
+                }
+                if (!zone.equals(startDate.getZone()) || !zone.equals(endDate.getZone())) {
+                    return false;
+                }
+
+                var startSecond = startDate.toEpochSecond();
+                var endSecond = endDate.toEpochSecond();
+                if (endSecond < startSecond) {
+                    return false;
+                }
+
+                startSeconds[size] = startSecond;
+                endSeconds[size] = endSecond;
+                priorities[size] = priority;
+                unscaledPrices[size] = unscaledValue(price);
+                scales[size] = price.scale();
+                prices[size] = price;
+                currencies[size] = offer.getCurrencyIso();
+                minSecond = Math.min(minSecond, startSecond);
+                maxSecond = Math.max(maxSecond, endSecond);
+                size++;
+            }
+
+            if (size > 0 && maxSecond - minSecond > MAX_TIME_SPAN) {
+                return false;
+            }
+
+            baseSecond = minSecond;
+            loadEventKeys();
+            loadClasses();
+            return true;
+        }
+
+        /**
+         * Encodes every event as its second relative to the first start date followed by its index, where the start of the
+         * offer {@code i} is {@code 2 * i} and its end {@code 2 * i + 1}. Sorting the keys reproduces the stable sort of the
+         * classic engine.
+         */
+        private void loadEventKeys() {
+            for (int offer = 0; offer < size; offer++) {
+                eventKeys[2 * offer] = (startSeconds[offer] - baseSecond) << EVENT_INDEX_BITS | (2L * offer);
+                eventKeys[2 * offer + 1] = (endSeconds[offer] - baseSecond) << EVENT_INDEX_BITS | (2L * offer + 1);
+            }
+            Arrays.sort(eventKeys, 0, size * 2);
+        }
+
+        /**
+         * Groups the offers in classes of equal priority and price using an open addressing table. Every class owns a slice
+         * of {@code classEntries} used as the FIFO queue of its live heap entries.
+         */
+        private void loadClasses() {
+            var tableMask = Math.min(classTable.length, Integer.highestOneBit(Math.max(size, 1)) << 2) - 1;
+            Arrays.fill(classTable, 0, tableMask + 1, -1);
+
+            var classCount = 0;
+            for (int offer = 0; offer < size; offer++) {
+                var slot = hash(priorities[offer], unscaledPrices[offer], scales[offer]) & tableMask;
+                while (classTable[slot] >= 0 && !isSamePrice(classOffers[classTable[slot]], offer)) {
+                    slot = (slot + 1) & tableMask;
+                }
+
+                if (classTable[slot] < 0) {
+                    classTable[slot] = classCount;
+                    classOffers[classCount] = offer;
+                    classTails[classCount] = 0;
+                    classCount++;
+                }
+                offerClasses[offer] = classTable[slot];
+                classTails[classTable[slot]]++;
+            }
+
+            var offset = 0;
+            for (int offerClass = 0; offerClass < classCount; offerClass++) {
+                var classSize = classTails[offerClass];
+                classHeads[offerClass] = offset;
+                classTails[offerClass] = offset;
+                offset += classSize;
+            }
+        }
+
+        private boolean isSamePrice(int offer, int otherOffer) {
+            return priorities[offer] == priorities[otherOffer]
+              && unscaledPrices[offer] == unscaledPrices[otherOffer]
+              && scales[offer] == scales[otherOffer];
+        }
+
+        private void sweep(OfferSegmentConsumer offerSegmentConsumer) {
+            heapSize = 0;
+            var liveEntries = 0;
+            var nextEntry = 0;
+            var previousSecond = Long.MIN_VALUE;
+
+            for (int event = 0; event < size * 2; event++) {
+                var eventKey = eventKeys[event];
+                var eventIndex = (int) (eventKey & EVENT_INDEX_MASK);
+                var second = (eventKey >>> EVENT_INDEX_BITS) + baseSecond;
+                var offer = eventIndex >>> 1;
+
+                if (liveEntries > 0 && previousSecond < second) {
+                    offerSegmentConsumer.accept(previousSecond, second - 1, prices[entryOffers[heap[0]]],
+                      currencies[offer]);
+                }
+
+                var offerClass = offerClasses[offer];
+                if ((eventIndex & 1) == 0) {
+                    var entry = nextEntry++;
+                    entryOffers[entry] = offer;
+                    removedEntries[entry] = false;
+                    classEntries[classTails[offerClass]++] = entry;
+                    push(entry);
+                    liveEntries++;
+                } else {
+                    removedEntries[classEntries[classHeads[offerClass]++]] = true;
+                    liveEntries--;
+                    while (heapSize > 0 && removedEntries[heap[0]]) {
+                        pop();
+                    }
+                }
+
+                previousSecond = second;
+            }
+        }
+
+        private boolean isBefore(int entry, int otherEntry) {
+            var priority = priorities[entryOffers[entry]];
+            var otherPriority = priorities[entryOffers[otherEntry]];
+            return priority > otherPriority || (priority == otherPriority && entry < otherEntry);
+        }
+
+        private void push(int entry) {
+            var index = heapSize++;
+            while (index > 0) {
+                var parent = (index - 1) >>> 1;
+                if (!isBefore(entry, heap[parent])) {
+                    break;
+                }
+                heap[index] = heap[parent];
+                index = parent;
+            }
+            heap[index] = entry;
+        }
+
+        private void pop() {
+            var last = heap[--heapSize];
+            var index = 0;
+            while (true) {
+                var child = 2 * index + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && isBefore(heap[child + 1], heap[child])) {
+                    child++;
+                }
+                if (!isBefore(heap[child], last)) {
+                    break;
+                }
+                heap[index] = heap[child];
+                index = child;
+            }
+            heap[index] = last;
+        }
+
+        private void release() {
+            Arrays.fill(prices, 0, size, null);
+            Arrays.fill(currencies, 0, size, null);
+            size = 0;
+            inUse = false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.inditex.product.offer.adapter.inbound.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Consumer of the flattened segments produced by {@link OfferDateRangeFlattener}.
+ * <p>
+ * The segment bounds are expressed in epoch seconds and both of them are inclusive, matching the dates returned in the
+ * flattened response.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface OfferSegmentConsumer {
+
+    /**
+     * Accepts a flattened segment.
+     *
+     * @param startEpochSecond the first second of the segment
+     * @param endEpochSecond   the last second of the segment
+     * @param price            the price applied to the segment
+     * @param currencyIso      the currency ISO code of the segment
+     */
+    void accept(long startEpochSecond, long endEpochSecond, BigDecimal price, String currencyIso);
+}
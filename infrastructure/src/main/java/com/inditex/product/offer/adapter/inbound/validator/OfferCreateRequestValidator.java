@@ -9,6 +9,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import org.springframework.lang.NonNull;
 import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
@@ -21,6 +22,7 @@ import org.springframework.validation.Validator;
  * <ul>
  *   <li>Required fields must not be null or empty.</li>
  *   <li>Dates must be in ISO-8601 instant format.</li>
+ *   <li>The brand must be known, when the validator is given the known brands.</li>
  * </ul>
  *
  * <p>Fields validated:
@@ -43,6 +45,7 @@ public class OfferCreateRequestValidator implements Validator {
 
     private static final String REQUIRED = ".required";
     private static final String INVALID = ".invalid";
+    private static final String UNKNOWN = ".unknown";
 
     public static final String OFFER_ID = "offerId";
     public static final String BRAND_ID = "brandId";
@@ -58,10 +61,30 @@ public class OfferCreateRequestValidator implements Validator {
     public static final String TEXT_IS_INVALID = " is invalid";
     public static final String TEXT_FIELD_IS_REQUIRED = "The %s" + TEXT_IS_REQUIRED;
     public static final String TEXT_FIELD_IS_INVALID = "The %s" + TEXT_IS_INVALID;
+    public static final String TEXT_IS_UNKNOWN = " is unknown";
+    public static final String TEXT_FIELD_IS_UNKNOWN = "The %s" + TEXT_IS_UNKNOWN;
 
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH.mm.ss'Z'")
       .withZone(ZoneId.of("UTC"));
 
+    private final Predicate<Integer> knownBrand;
+
+    /**
+     * Creates a validator accepting any positive brand identifier.
+     */
+    public OfferCreateRequestValidator() {
+        this(brandId -> true);
+    }
+
+    /**
+     * Creates a validator accepting only the known brands.
+     *
+     * @param knownBrand tells whether a brand identifier is known
+     */
+    public OfferCreateRequestValidator(Predicate<Integer> knownBrand) {
+        this.knownBrand = knownBrand;
+    }
+
     @Override
     public boolean supports(@NonNull Class<?> clazz) {
         return OfferCreateRequestDTO.class.equals(clazz);
@@ -98,6 +121,9 @@ public class OfferCreateRequestValidator implements Validator {
               if (brandId <= 0) {
                   errors.rejectValue(BRAND_ID, BRAND_ID + REQUIRED,
                     String.format(TEXT_FIELD_IS_INVALID, BRAND_ID));
+              } else if (!knownBrand.test(brandId)) {
+                  errors.rejectValue(BRAND_ID, BRAND_ID + UNKNOWN,
+                    String.format(TEXT_FIELD_IS_UNKNOWN, BRAND_ID));
               }
           }, () -> errors.rejectValue(BRAND_ID, BRAND_ID + REQUIRED,
             String.format(TEXT_FIELD_IS_REQUIRED, BRAND_ID)));
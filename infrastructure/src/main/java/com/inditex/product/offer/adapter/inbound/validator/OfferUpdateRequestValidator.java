@@ -0,0 +1,100 @@
+package com.inditex.product.offer.adapter.inbound.validator;
+
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.END_DATE;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.PRICE;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.PRIORITY;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.START_DATE;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.TEXT_FIELD_IS_INVALID;
+
+import com.inditex.product.offer.adapter.inbound.dto.OfferUpdateRequestDTO;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.lang.NonNull;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Validator for {@link OfferUpdateRequestDTO} objects. Every field is optional, but at least one of the updatable fields
+ * must be present and the present ones must be valid.
+ *
+ * <p>Validation rules include:
+ * <ul>
+ *   <li>At least one of startDate, endDate, priority or price must be present.</li>
+ *   <li>Dates must be in ISO-8601 instant format.</li>
+ *   <li>Priority, price and version must not be negative.</li>
+ * </ul>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public class OfferUpdateRequestValidator implements Validator {
+
+    private static final String REQUIRED = ".required";
+    private static final String INVALID = ".invalid";
+
+    public static final String VERSION = "version";
+
+    public static final String TEXT_NOTHING_TO_UPDATE =
+      "At least one of startDate, endDate, priority or price is required";
+
+    private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH.mm.ss'Z'")
+      .withZone(ZoneId.of("UTC"));
+
+    @Override
+    public boolean supports(@NonNull Class<?> clazz) {
+        return OfferUpdateRequestDTO.class.equals(clazz);
+    }
+
+    @Override
+    public void validate(@NonNull Object target, @NonNull Errors errors) {
+        Optional.of(target)
+          .filter(OfferUpdateRequestDTO.class::isInstance)
+          .ifPresent(object -> validateDto((OfferUpdateRequestDTO) object, errors));
+    }
+
+    private void validateDto(OfferUpdateRequestDTO offerUpdateRequestDTO, Errors errors) {
+
+        if (Stream.of(offerUpdateRequestDTO.getStartDate(), offerUpdateRequestDTO.getEndDate(),
+          offerUpdateRequestDTO.getPriority(), offerUpdateRequestDTO.getPrice()).allMatch(field -> field == null)) {
+            errors.reject("offer" + REQUIRED, TEXT_NOTHING_TO_UPDATE);
+        }
+
+        Optional.ofNullable(offerUpdateRequestDTO.getStartDate())
+          .filter(this::isInValidFormatDate)
+          .ifPresent(startDate -> errors.rejectValue(START_DATE, START_DATE + INVALID,
+            String.format(TEXT_FIELD_IS_INVALID, START_DATE)));
+
+        Optional.ofNullable(offerUpdateRequestDTO.getEndDate())
+          .filter(this::isInValidFormatDate)
+          .ifPresent(endDate -> errors.rejectValue(END_DATE, END_DATE + INVALID,
+            String.format(TEXT_FIELD_IS_INVALID, END_DATE)));
+
+        Optional.ofNullable(offerUpdateRequestDTO.getPriority())
+          .filter(priority -> priority < 0)
+          .ifPresent(priority -> errors.rejectValue(PRIORITY, PRIORITY + INVALID,
+            String.format(TEXT_FIELD_IS_INVALID, PRIORITY)));
+
+        Optional.ofNullable(offerUpdateRequestDTO.getPrice())
+          .filter(price -> price.signum() < 0)
+          .ifPresent(price -> errors.rejectValue(PRICE, PRICE + INVALID, String.format(TEXT_FIELD_IS_INVALID, PRICE)));
+
+        Optional.ofNullable(offerUpdateRequestDTO.getVersion())
+          .filter(version -> version < 0)
+          .ifPresent(version -> errors.rejectValue(VERSION, VERSION + INVALID,
+            String.format(TEXT_FIELD_IS_INVALID, VERSION)));
+    }
+
+    private boolean isInValidFormatDate(String dateStr) {
+
+        try {
+            ZonedDateTime.parse(dateStr, dateFormatter);
+        } catch (DateTimeParseException e) {
+            return true;
+        }
+        return false;
+    }
+}
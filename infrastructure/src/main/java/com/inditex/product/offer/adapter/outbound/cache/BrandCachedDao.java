@@ -0,0 +1,76 @@
+package com.inditex.product.offer.adapter.outbound.cache;
+
+import com.inditex.product.offer.adapter.outbound.entity.BrandEntity;
+import com.inditex.product.offer.adapter.outbound.jpa.repository.BrandJpaAdapterRepository;
+import com.inditex.product.offer.configuration.BrandCacheProperties;
+import com.inditex.product.offer.port.dao.BrandDao;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementation of the BrandDao interface answering from a dictionary of every brand held in memory.
+ * <p>
+ * The {@code BRAND} table is small and almost static, so it is read whole at startup and then again every
+ * {@link BrandCacheProperties#getRefreshInterval()}, replacing the dictionary at once. Brand lookups never reach the
+ * database, and an offer of an unknown brand is rejected before it is written instead of by the foreign key.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Repository
+public class BrandCachedDao implements BrandDao, SchedulingConfigurer {
+
+    private final BrandJpaAdapterRepository brandJpaAdapterRepository;
+
+    private final Duration refreshInterval;
+
+    private volatile Map<Integer, String> brandNames = Map.of();
+
+    /**
+     * Constructor for BrandCachedDao.
+     *
+     * @param brandJpaAdapterRepository of type {@link BrandJpaAdapterRepository}
+     * @param brandCacheProperties      of type {@link BrandCacheProperties}
+     */
+    public BrandCachedDao(BrandJpaAdapterRepository brandJpaAdapterRepository, BrandCacheProperties brandCacheProperties) {
+        this.brandJpaAdapterRepository = brandJpaAdapterRepository;
+        this.refreshInterval = brandCacheProperties.getRefreshInterval();
+    }
+
+    @Override
+    public boolean exists(Integer brandId) {
+        return brandNames.containsKey(brandId);
+    }
+
+    /**
+     * Reloads every brand of the database.
+     */
+    @PostConstruct
+    public void refresh() {
+        var brands = brandJpaAdapterRepository.findAll().stream()
+          .collect(Collectors.toUnmodifiableMap(BrandEntity::getId, brand -> String.valueOf(brand.getBrandName())));
+        if (!brands.equals(brandNames)) {
+            LOGGER.info("Loaded [{}] brands", brands.size());
+        }
+        brandNames = brands;
+    }
+
+    @Override
+    public void configureTasks(@NonNull ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(new FixedDelayTask(this::refresh, refreshInterval, refreshInterval));
+    }
+
+    int size() {
+        return brandNames.size();
+    }
+}
@@ -0,0 +1,269 @@
+package com.inditex.product.offer.adapter.outbound.cache;
+
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferRoutingDataSource;
+import com.inditex.product.offer.adapter.outbound.memory.OfferInMemoryDao;
+import com.inditex.product.offer.configuration.OfferDaoCacheProperties;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.port.dao.OfferDao;
+import com.inditex.product.offer.port.listener.OfferChangeListener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Read-through cache of the offers of every product in front of the {@link OfferH2Dao}, keyed by brand identifier and
+ * product part number.
+ * <p>
+ * The cache keeps at most {@link OfferDaoCacheProperties#getMaximumSize()} products, evicting the least recently used one,
+ * and reloads a product once {@link OfferDaoCacheProperties#getExpireAfterWrite()} has elapsed since it was loaded. The
+ * other {@link OfferDao} operations are delegated without caching.
+ * </p>
+ * <p>
+ * As an {@link OfferChangeListener}, the cache drops only the products affected by a write: the product of a created offer
+ * and the previous product of an updated one, the product of a deleted offer, the deleted products or brands, or every
+ * product when all the offers are deleted. It is ordered first so derived caches, such as the timelines, never reload
+ * stale offers from it. A generation counter, increased on every write, prevents a load running concurrently with a write
+ * from being cached. A load starting after a write cannot be caught by it, so products are loaded with
+ * {@link OfferRoutingDataSource#withSharedLoad}, which reads from the primary while a read replica may still lag behind
+ * that write.
+ * </p>
+ * <p>
+ * Hits, misses, loads, evictions and load latency are exposed as {@code cache.*} meters tagged with
+ * {@code cache=offersByCriteria}, following the names used by the Micrometer cache binders.
+ * </p>
+ * <p>
+ * It is disabled by the {@value OfferInMemoryDao#PROFILE} profile, whose {@link OfferInMemoryDao} already holds every
+ * offer in memory.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Primary
+@Repository
+@Profile("!" + OfferInMemoryDao.PROFILE)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OfferCachedDao implements OfferDao, OfferChangeListener, MeterBinder {
+
+    static final String CACHE_NAME = "offersByCriteria";
+
+    private final OfferDao offerDao;
+
+    private final long maximumSize;
+
+    private final long expireAfterWriteNanos;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Long, Key> keysByOfferId = new HashMap<>();
+
+    private long generation;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder totalLoadTimeNanos = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Constructor for OfferCachedDao.
+     *
+     * @param offerH2Dao              of type {@link OfferH2Dao}
+     * @param offerDaoCacheProperties of type {@link OfferDaoCacheProperties}
+     */
+    public OfferCachedDao(OfferH2Dao offerH2Dao, OfferDaoCacheProperties offerDaoCacheProperties) {
+        this.offerDao = offerH2Dao;
+        this.maximumSize = offerDaoCacheProperties.getMaximumSize();
+        this.expireAfterWriteNanos = offerDaoCacheProperties.getExpireAfterWrite().toNanos();
+    }
+
+    @Override
+    public Offer getById(Long id) {
+        return offerDao.getById(id);
+    }
+
+    @Override
+    public List<Offer> getByIds(Collection<Long> ids) {
+        return offerDao.getByIds(ids);
+    }
+
+    @Override
+    public List<Offer> getAll() {
+        return offerDao.getAll();
+    }
+
+    @Override
+    public List<Offer> getPage(Long afterOfferId, int limit) {
+        return offerDao.getPage(afterOfferId, limit);
+    }
+
+    @Override
+    public void forEach(Consumer<Offer> action) {
+        offerDao.forEach(action);
+    }
+
+    @Override
+    public List<Offer> getByCriteria(Integer brandId, String productPartNumber) {
+        var key = new Key(brandId, productPartNumber);
+        long loadGeneration;
+        synchronized (this) {
+            var entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedAtNanos() < expireAfterWriteNanos) {
+                hitCount.increment();
+                return entry.offers();
+            }
+            if (entry != null) {
+                invalidate(key);
+                evictionCount.increment();
+            }
+            loadGeneration = generation;
+        }
+
+        missCount.increment();
+        var startNanos = System.nanoTime();
+        var offers = OfferRoutingDataSource.withSharedLoad(() -> offerDao.getByCriteria(brandId, productPartNumber));
+        var loadedAtNanos = System.nanoTime();
+        loadCount.increment();
+        totalLoadTimeNanos.add(loadedAtNanos - startNanos);
+
+        synchronized (this) {
+            if (generation == loadGeneration && maximumSize > 0) {
+                invalidate(key);
+                entries.put(key, new Entry(offers, loadedAtNanos));
+                offers.forEach(offer -> keysByOfferId.put(offer.getOfferId(), key));
+                evictLeastRecentlyUsed();
+            }
+        }
+        return offers;
+    }
+
+    @Override
+    public synchronized void offerCreated(Offer offer) {
+        generation++;
+        invalidate(keysByOfferId.get(offer.getOfferId()));
+        invalidate(new Key(offer.getBrandId(), offer.getProductPartNumber()));
+    }
+
+    @Override
+    public synchronized void offerDeleted(Long id) {
+        generation++;
+        invalidate(keysByOfferId.get(id));
+    }
+
+    @Override
+    public synchronized void brandOffersDeleted(Integer brandId) {
+        generation++;
+        entries.keySet().stream()
+          .filter(key -> Objects.equals(key.brandId(), brandId))
+          .toList()
+          .forEach(this::invalidate);
+    }
+
+    @Override
+    public synchronized void productOffersDeleted(Integer brandId, String productPartNumber) {
+        generation++;
+        invalidate(new Key(brandId, productPartNumber));
+    }
+
+    @Override
+    public synchronized void allOffersDeleted() {
+        generation++;
+        entries.clear();
+        keysByOfferId.clear();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        var tags = Tags.of("cache", CACHE_NAME);
+        Gauge.builder("cache.size", this, OfferCachedDao::size)
+          .tags(tags)
+          .description("The number of products in the cache")
+          .register(registry);
+        FunctionCounter.builder("cache.gets", hitCount, LongAdder::sum)
+          .tags(tags).tag("result", "hit")
+          .description("The number of times a product was found in the cache")
+          .register(registry);
+        FunctionCounter.builder("cache.gets", missCount, LongAdder::sum)
+          .tags(tags).tag("result", "miss")
+          .description("The number of times a product was loaded from the database")
+          .register(registry);
+        Gauge.builder("cache.hit.ratio", this, OfferCachedDao::hitRatio)
+          .tags(tags)
+          .description("The ratio of gets found in the cache")
+          .register(registry);
+        FunctionCounter.builder("cache.evictions", evictionCount, LongAdder::sum)
+          .tags(tags)
+          .description("The number of products evicted by size or expiration")
+          .register(registry);
+        FunctionTimer.builder("cache.load.duration", this, cache -> cache.loadCount.sum(),
+            cache -> cache.totalLoadTimeNanos.sum(), TimeUnit.NANOSECONDS)
+          .tags(tags)
+          .description("The time spent loading products from the database")
+          .register(registry);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    double hitRatio() {
+        var hits = hitCount.sum();
+        var requests = hits + missCount.sum();
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        var iterator = entries.entrySet().iterator();
+        while (entries.size() > maximumSize && iterator.hasNext()) {
+            var eldest = iterator.next();
+            var key = eldest.getKey();
+            LOGGER.debug("Evicting offers of brandId=[{}], productPartNumber=[{}]", key.brandId(), key.productPartNumber());
+            iterator.remove();
+            eldest.getValue().offers().forEach(offer -> keysByOfferId.remove(offer.getOfferId(), key));
+            evictionCount.increment();
+        }
+    }
+
+    private void invalidate(Key key) {
+        if (key == null) {
+            return;
+        }
+
+        var entry = entries.remove(key);
+        if (entry != null) {
+            entry.offers().forEach(offer -> keysByOfferId.remove(offer.getOfferId(), key));
+        }
+    }
+
+    private record Key(Integer brandId, String productPartNumber) {
+
+    }
+
+    private record Entry(List<Offer> offers, long loadedAtNanos) {
+
+    }
+}
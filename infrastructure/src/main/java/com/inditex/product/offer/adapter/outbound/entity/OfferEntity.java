@@ -1,38 +1,58 @@
 package com.inditex.product.offer.adapter.outbound.entity;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.ZonedDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 /**
  * Entity class representing an Offer in the system. Maps to the "OFFER" table in the database. This entity contains details
  * about a specific offer, including its associated brand, validity period, pricing, and priority.
+ * <p>
+ * The identifier is assigned by the client, so the entity implements {@link Persistable} to tell Spring Data it is new
+ * until it has been persisted or loaded. Saving a new offer is then a persist, a single INSERT, instead of a merge that
+ * selects the row first. The brand is never cascaded nor fetched: it is validated against the brands held in memory and
+ * referenced through a proxy.
+ * </p>
+ * <p>
+ * The version is increased on every update and guards the partial updates against concurrent changes.
+ * </p>
+ * <p>
+ * The offers of a product are looked up, and deleted, through an index on the brand, part number and start date, which
+ * also serves the lookups by brand alone and keeps the offers of a product sorted by date.
+ * </p>
  *
  * @author [product-offers@inditex.es]
  * @since 1.0.0
  */
 @Entity
-@Table(name = "OFFER")
+@Table(name = "OFFER", indexes = @Index(name = "IDX_OFFER_BRAND_PART_START",
+  columnList = "BRAND_ID, PART_NUMBER, START_DATE"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class OfferEntity {
+public class OfferEntity implements Persistable<Long> {
 
     @Id
     private Long id;
 
-    @OneToOne(cascade = CascadeType.MERGE)
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "BRAND_ID", referencedColumnName = "ID")
     private BrandEntity brandEntity;
 
@@ -56,5 +76,25 @@ public class OfferEntity {
 
     @Column(name = "CURR")
     private String currencyIso;
+
+    @Version
+    @Column(name = "VERSION")
+    private Long version;
+
+    @Transient
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
 
@@ -2,66 +2,131 @@ package com.inditex.product.offer.adapter.outbound.jpa.dao;
 
 import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
 import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferJpaAdapterRepository;
-import com.inditex.product.offer.adapter.outbound.mapper.OfferDboMapper;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferShards;
 import com.inditex.product.offer.model.Offer;
 import com.inditex.product.offer.port.dao.OfferDao;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Implementation of the OfferDao interface for managing Offer entities using an H2 database. This class interacts with the
- * persistence layer through the OfferJpaAdapterRepository and maps data between the persistence and domain layers using the
- * OfferDboMapper.
+ * persistence layer through the OfferJpaAdapterRepository.
+ * <p>
+ * This implementation provides methods to retrieve Offer data from the H2 database. Every read is a projection that builds
+ * the domain Offer from the selected columns, skipping the entity hydration, dirty checking and mapping. The export reads
+ * the whole table through a forward-only cursor fetched {@link OfferJpaAdapterRepository#STREAM_FETCH_SIZE} rows at a time.
+ * <p>
+ * Every read runs in a read-only transaction, so the Hibernate session is opened with {@code FlushMode.MANUAL} and
+ * read-only by default: it never flushes, nor keeps snapshots for dirty checking, and the JDBC connection is flagged as
+ * read-only. The queries also carry the read-only and manual flush hints, for callers already inside a transaction.
  * <p>
- * This implementation provides methods to retrieve Offer data from the H2 database.
+ * The offers of a product are read from the shard of its brand. The other reads go through every shard, in parallel when
+ * there are several, and merge their results by identifier: the export then reads the shards page by page instead of
+ * through a cursor, {@link OfferJpaAdapterRepository#STREAM_FETCH_SIZE} offers at a time.
  *
  * @author [product-offers@inditex.es]
  * @since 1.0.0
  */
 @Slf4j
 @Repository
+@Transactional(readOnly = true)
 public class OfferH2Dao implements OfferDao {
 
+    private static final Comparator<Offer> BY_OFFER_ID = Comparator.comparing(Offer::getOfferId);
+
+    private static final int EXPORT_PAGE_SIZE = Integer.parseInt(OfferJpaAdapterRepository.STREAM_FETCH_SIZE);
+
     private final OfferJpaAdapterRepository offerJpaAdapterRepository;
 
-    private final OfferDboMapper offerDboMapper;
+    private final OfferShards offerShards;
 
     /**
      * Constructor for OfferH2Dao.
      *
      * @param offerJpaAdapterRepository of type {@link OfferJpaAdapterRepository}
-     * @param offerDboMapper            of type {@link OfferDboMapper}
+     * @param offerShards               of type {@link OfferShards}
      */
-    public OfferH2Dao(OfferJpaAdapterRepository offerJpaAdapterRepository, OfferDboMapper offerDboMapper) {
+    public OfferH2Dao(OfferJpaAdapterRepository offerJpaAdapterRepository, OfferShards offerShards) {
         this.offerJpaAdapterRepository = offerJpaAdapterRepository;
-        this.offerDboMapper = offerDboMapper;
+        this.offerShards = offerShards;
     }
 
     @Override
     public Offer getById(Long id) {
         LOGGER.info("Retrieving offer with id: {}", id);
-        return offerJpaAdapterRepository.findById(id)
-          .map(offerDboMapper::toOfferDomain)
+        return offerShards.onEveryShard(true, shard -> offerJpaAdapterRepository.findOfferById(id))
+          .stream()
+          .flatMap(Optional::stream)
+          .findFirst()
           .orElseThrow(() -> new OfferException("Offer not found with id: " + id, HttpStatus.NOT_FOUND));
     }
 
+    @Override
+    public List<Offer> getByIds(Collection<Long> ids) {
+        LOGGER.info("Retrieving [{}] offers by id", ids.size());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        var offers = offerShards.onEveryShard(true, shard -> offerJpaAdapterRepository.findOffersByIds(ids));
+        if (offers.size() == 1) {
+            return offers.getFirst();
+        }
+        return offers.stream().flatMap(List::stream).sorted(BY_OFFER_ID).toList();
+    }
+
     @Override
     public List<Offer> getAll() {
         LOGGER.info("Retrieving all offers");
-        return offerJpaAdapterRepository.findAll()
-          .stream()
-          .map(offerDboMapper::toOfferDomain)
-          .toList();
+        var offers = offerShards.onEveryShard(true, shard -> offerJpaAdapterRepository.findAllOffers());
+        if (offers.size() == 1) {
+            return offers.getFirst();
+        }
+        return offers.stream().flatMap(List::stream).sorted(BY_OFFER_ID).toList();
+    }
+
+    @Override
+    public List<Offer> getPage(Long afterOfferId, int limit) {
+        LOGGER.info("Retrieving [{}] offers after id: {}", limit, afterOfferId);
+        var pages = offerShards.onEveryShard(true,
+          shard -> offerJpaAdapterRepository.findOffersAfterId(afterOfferId, Limit.of(limit)));
+        if (pages.size() == 1) {
+            return pages.getFirst();
+        }
+        return pages.stream().flatMap(List::stream).sorted(BY_OFFER_ID).limit(limit).toList();
+    }
+
+    @Override
+    public void forEach(Consumer<Offer> action) {
+        LOGGER.info("Streaming all offers");
+        if (!offerShards.isSharded()) {
+            try (var offers = offerJpaAdapterRepository.streamAllOffers()) {
+                offers.forEach(action);
+            }
+            return;
+        }
+
+        var afterOfferId = Long.MIN_VALUE;
+        List<Offer> page;
+        do {
+            page = getPage(afterOfferId, EXPORT_PAGE_SIZE);
+            page.forEach(action);
+            afterOfferId = page.isEmpty() ? afterOfferId : page.getLast().getOfferId();
+        } while (page.size() == EXPORT_PAGE_SIZE);
     }
 
     @Override
     public List<Offer> getByCriteria(Integer brandId, String productPartNumber) {
         LOGGER.info("Retrieving offers by criteria: brandId={}, productPartNumber={}", brandId, productPartNumber);
-        return offerJpaAdapterRepository.findByBrandIdAndProductPartNumber(brandId, productPartNumber)
-          .stream()
-          .map(offerDboMapper::toOfferDomain)
-          .toList();
+        return offerShards.onShard(brandId,
+          () -> offerJpaAdapterRepository.findOffersByBrandIdAndProductPartNumber(brandId, productPartNumber));
     }
 }
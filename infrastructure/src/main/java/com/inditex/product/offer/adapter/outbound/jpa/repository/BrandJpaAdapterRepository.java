@@ -0,0 +1,16 @@
+package com.inditex.product.offer.adapter.outbound.jpa.repository;
+
+import com.inditex.product.offer.adapter.outbound.entity.BrandEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing BrandEntity objects in the database. Extends JpaRepository to provide CRUD operations.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Repository
+public interface BrandJpaAdapterRepository extends JpaRepository<BrandEntity, Integer> {
+
+}
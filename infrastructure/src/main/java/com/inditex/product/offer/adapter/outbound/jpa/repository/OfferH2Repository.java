@@ -1,10 +1,30 @@
 package com.inditex.product.offer.adapter.outbound.jpa.repository;
 
+import com.inditex.product.offer.adapter.outbound.entity.BrandEntity;
+import com.inditex.product.offer.adapter.outbound.entity.OfferEntity;
+import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferShards;
 import com.inditex.product.offer.adapter.outbound.mapper.OfferDboMapper;
+import com.inditex.product.offer.configuration.OfferBatchProperties;
 import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
 import com.inditex.product.offer.port.repository.OfferRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Path;
 import jakarta.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,7 +32,38 @@ import org.springframework.stereotype.Repository;
  * with the persistence layer through the OfferJpaAdapterRepository and maps data between the persistence and domain layers
  * using the OfferDboMapper.
  * <p>
- * This implementation provides methods to create and delete Offer data in the H2 database.
+ * This implementation provides methods to create and delete Offer data in the H2 database. Deletions run as a single
+ * bulk DELETE statement, without loading the offers into the persistence context, and report the number of deleted rows.
+ * </p>
+ *
+ * <p>
+ * A single offer is created with a single INSERT: the {@link OfferEntity} is new until persisted, so it is persisted
+ * instead of merged, and its brand is a reference proxy that is never loaded. An offer whose identifier already exists is
+ * rejected with {@link HttpStatus#CONFLICT}.
+ * </p>
+ *
+ * <p>
+ * A partial update is a single bulk UPDATE setting only the changed columns and increasing the version, guarded by the
+ * expected version when given, followed by the projection of the updated offer. The existence of the offer is only checked
+ * when no row was updated, to tell a missing offer ({@link HttpStatus#NOT_FOUND}) from a stale version
+ * ({@link HttpStatus#CONFLICT}).
+ * </p>
+ *
+ * <p>
+ * Batch creation works in slices of {@link OfferBatchProperties#getSize()} offers: the existing offers of a slice are
+ * loaded with a single query, so new offers are persisted without the lookup performed by a merge, and the slice is
+ * flushed as JDBC batches before the persistence context is cleared. A batch create skips the offers whose identifier
+ * already exists and leaves those unchanged, while a batch upsert merges them.
+ * </p>
+ *
+ * <p>
+ * Every offer is written to the shard of its brand. As an offer identifier alone does not tell its shard, it is looked up on
+ * every shard before writing, so identifiers stay unique across the shards: a single offer whose identifier exists on
+ * another shard is rejected with {@link HttpStatus#CONFLICT}, an offer of a batch create whose identifier exists on any
+ * shard is skipped, and an offer of a batch upsert whose brand now belongs to another shard is moved there, keeping its
+ * version history. A batch is split by shard and written as a coordinated unit, every
+ * shard in its own transaction and in parallel with the others, all of them committed only if every shard succeeded.
+ * The updates and deletions by identifier, as well as the deletion of every offer, run on every shard.
  * </p>
  *
  * <p>
@@ -32,34 +83,239 @@ public class OfferH2Repository implements OfferRepository {
 
     private final OfferDboMapper offerDboMapper;
 
+    private final EntityManager entityManager;
+
+    private final OfferBatchProperties offerBatchProperties;
+
+    private final OfferShards offerShards;
+
     /**
      * Constructor for OfferH2Repository.
      *
      * @param offerJpaAdapterRepository of type {@link OfferJpaAdapterRepository}
      * @param offerDboMapper            of type {@link OfferDboMapper}
+     * @param entityManager             of type {@link EntityManager}
+     * @param offerBatchProperties      of type {@link OfferBatchProperties}
+     * @param offerShards               of type {@link OfferShards}
      */
-    public OfferH2Repository(OfferJpaAdapterRepository offerJpaAdapterRepository, OfferDboMapper offerDboMapper) {
+    public OfferH2Repository(OfferJpaAdapterRepository offerJpaAdapterRepository, OfferDboMapper offerDboMapper,
+      EntityManager entityManager, OfferBatchProperties offerBatchProperties, OfferShards offerShards) {
         this.offerJpaAdapterRepository = offerJpaAdapterRepository;
         this.offerDboMapper = offerDboMapper;
+        this.entityManager = entityManager;
+        this.offerBatchProperties = offerBatchProperties;
+        this.offerShards = offerShards;
     }
 
     @Override
     public Offer create(Offer offer) {
         LOGGER.info("Creating offer: {}", offer);
+        if (offerShards.isSharded() && existsOnAnotherShard(offer)) {
+            throw new OfferException("Offer already exists with id: " + offer.getOfferId(), HttpStatus.CONFLICT);
+        }
         var offerToSave = offerDboMapper.toOfferEntity(offer);
-        var offerSaved = offerJpaAdapterRepository.saveAndFlush(offerToSave);
-        return offerDboMapper.toOfferDomain(offerSaved);
+        offerToSave.setBrandEntity(entityManager.getReference(BrandEntity.class, offer.getBrandId()));
+        try {
+            var offerSaved = offerShards.onShard(offer.getBrandId(),
+              () -> offerJpaAdapterRepository.saveAndFlush(offerToSave));
+            return offerDboMapper.toOfferDomain(offerSaved);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getCause() instanceof ConstraintViolationException constraintViolation
+              && constraintViolation.getKind() == ConstraintKind.UNIQUE) {
+                throw new OfferException("Offer already exists with id: " + offer.getOfferId(), HttpStatus.CONFLICT);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Offer> createAll(List<Offer> offers) {
+        LOGGER.info("Creating [{}] offers", offers.size());
+        if (!offerShards.isSharded()) {
+            return offerShards.onShard(0, () -> createSlices(offers, false, Map.of()));
+        }
+
+        // an offer whose identifier exists on any shard is skipped, so identifiers stay unique across the shards
+        var existingIds = findOnEveryShard(offers).stream()
+          .flatMap(List::stream)
+          .map(Offer::getOfferId)
+          .collect(Collectors.toSet());
+        var newOffers = offers.stream()
+          .filter(offer -> !existingIds.contains(offer.getOfferId()))
+          .toList();
+        return createOnShards(newOffers, false, Map.of(), Map.of());
+    }
+
+    @Override
+    public List<Offer> upsertAll(List<Offer> offers) {
+        LOGGER.info("Upserting [{}] offers", offers.size());
+        if (!offerShards.isSharded()) {
+            return offerShards.onShard(0, () -> createSlices(offers, true, Map.of()));
+        }
+
+        // offers found on a shard other than the one of their brand are deleted there and created on their new shard
+        Map<Integer, List<Long>> movedIdsByShard = new HashMap<>();
+        Map<Long, Long> movedVersions = new HashMap<>();
+        var shardsById = offers.stream()
+          .collect(Collectors.toMap(Offer::getOfferId, offer -> offerShards.shardOf(offer.getBrandId()),
+            (shard, duplicate) -> duplicate));
+        var existingOffers = findOnEveryShard(offers);
+        for (int shard = 0; shard < existingOffers.size(); shard++) {
+            for (Offer existingOffer : existingOffers.get(shard)) {
+                if (shardsById.get(existingOffer.getOfferId()) != shard) {
+                    movedIdsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(existingOffer.getOfferId());
+                    movedVersions.put(existingOffer.getOfferId(), existingOffer.getVersion());
+                }
+            }
+        }
+        return createOnShards(offers, true, movedIdsByShard, movedVersions);
+    }
+
+    private List<List<Offer>> findOnEveryShard(List<Offer> offers) {
+        var ids = offers.stream().map(Offer::getOfferId).toList();
+        return offerShards.onEveryShard(true, shard -> offerJpaAdapterRepository.findOffersByIds(ids));
+    }
+
+    private List<Offer> createOnShards(List<Offer> offers, boolean replaceExisting,
+      Map<Integer, List<Long>> movedIdsByShard, Map<Long, Long> movedVersions) {
+        Map<Integer, List<Offer>> offersByShard = offers.stream()
+          .collect(Collectors.groupingBy(offer -> offerShards.shardOf(offer.getBrandId())));
+        var createdOffers = offerShards.onEveryShardAtomically(shard -> {
+            var movedIds = movedIdsByShard.getOrDefault(shard, List.of());
+            if (!movedIds.isEmpty()) {
+                LOGGER.info("Moving [{}] offers out of shard [{}]", movedIds.size(), shard);
+                offerJpaAdapterRepository.deleteOffersByIds(movedIds);
+            }
+            return createSlices(offersByShard.getOrDefault(shard, List.of()), replaceExisting, movedVersions);
+        }).stream()
+          .flatMap(List::stream)
+          .collect(Collectors.toMap(Offer::getOfferId, Function.identity(), (offer, duplicate) -> duplicate));
+        return offers.stream()
+          .map(offer -> createdOffers.get(offer.getOfferId()))
+          .filter(Objects::nonNull)
+          .toList();
+    }
+
+    private boolean existsOnAnotherShard(Offer offer) {
+        var offerShard = offerShards.shardOf(offer.getBrandId());
+        return offerShards.onEveryShard(true,
+            shard -> shard != offerShard && offerJpaAdapterRepository.existsById(offer.getOfferId()))
+          .contains(true);
+    }
+
+    private List<Offer> createSlices(List<Offer> offers, boolean replaceExisting, Map<Long, Long> movedVersions) {
+        var batchSize = Math.max(1, offerBatchProperties.getSize());
+        List<Offer> createdOffers = new ArrayList<>(offers.size());
+        for (int from = 0; from < offers.size(); from += batchSize) {
+            var batch = offers.subList(from, Math.min(from + batchSize, offers.size()));
+            var existingVersions = offerJpaAdapterRepository.findAllById(batch.stream().map(Offer::getOfferId).toList())
+              .stream()
+              .collect(Collectors.toMap(OfferEntity::getId, OfferEntity::getVersion));
+
+            List<OfferEntity> offerEntities = new ArrayList<>(batch.size());
+            for (Offer offer : batch) {
+                var existingVersion = existingVersions.get(offer.getOfferId());
+                if (existingVersion != null && !replaceExisting) {
+                    LOGGER.info("Skipping offer with existing id: {}", offer.getOfferId());
+                    continue;
+                }
+
+                var offerEntity = offerDboMapper.toOfferEntity(offer);
+                offerEntity.setBrandEntity(entityManager.getReference(BrandEntity.class, offer.getBrandId()));
+                if (existingVersion != null) {
+                    offerEntity.setVersion(existingVersion);
+                    offerEntity = entityManager.merge(offerEntity);
+                } else {
+                    entityManager.persist(offerEntity);
+                }
+                offerEntities.add(offerEntity);
+            }
+
+            entityManager.flush();
+            // a moved offer is inserted at the initial version, then carries on the version history of its old row
+            offerEntities.stream()
+              .filter(offerEntity -> movedVersions.containsKey(offerEntity.getId()))
+              .forEach(offerEntity -> {
+                  var version = movedVersions.get(offerEntity.getId()) + 1;
+                  offerJpaAdapterRepository.updateVersion(offerEntity.getId(), version);
+                  offerEntity.setVersion(version);
+              });
+            offerEntities.forEach(offerEntity -> createdOffers.add(offerDboMapper.toOfferDomain(offerEntity)));
+            entityManager.clear();
+        }
+        return createdOffers;
+    }
+
+    @Override
+    public Offer update(Long id, OfferUpdate offerUpdate) {
+        LOGGER.info("Updating offer with id: {}, {}", id, offerUpdate);
+        return offerShards.onEveryShard(false, shard -> updateOnShard(id, offerUpdate))
+          .stream()
+          .flatMap(Optional::stream)
+          .findFirst()
+          .orElseThrow(() -> new OfferException("Offer not found with id: " + id, HttpStatus.NOT_FOUND));
+    }
+
+    private Optional<Offer> updateOnShard(Long id, OfferUpdate offerUpdate) {
+        var builder = entityManager.getCriteriaBuilder();
+        var update = builder.createCriteriaUpdate(OfferEntity.class);
+        var offer = update.from(OfferEntity.class);
+
+        Optional.ofNullable(offerUpdate.getStartDate())
+          .ifPresent(startDate -> update.set(offer.get("startDate"), startDate));
+        Optional.ofNullable(offerUpdate.getEndDate())
+          .ifPresent(endDate -> update.set(offer.get("endDate"), endDate));
+        Optional.ofNullable(offerUpdate.getPriority())
+          .ifPresent(priority -> update.set(offer.get("priority"), priority));
+        Optional.ofNullable(offerUpdate.getPrice())
+          .ifPresent(price -> update.set(offer.get("price"), price));
+        Path<Long> version = offer.get("version");
+        update.set(version, builder.sum(version, 1L));
+
+        var predicate = builder.equal(offer.get("id"), id);
+        if (offerUpdate.getVersion() != null) {
+            predicate = builder.and(predicate, builder.equal(version, offerUpdate.getVersion()));
+        }
+        update.where(predicate);
+
+        if (entityManager.createQuery(update).executeUpdate() == 0) {
+            if (!offerJpaAdapterRepository.existsById(id)) {
+                return Optional.empty();
+            }
+            throw new OfferException("Offer with id: " + id + " is not at version: " + offerUpdate.getVersion(),
+              HttpStatus.CONFLICT);
+        }
+        return offerJpaAdapterRepository.findOfferById(id);
     }
 
     @Override
-    public void deleteById(Long id) {
+    public int deleteById(Long id) {
         LOGGER.info("Deleting offer with id: {}", id);
-        offerJpaAdapterRepository.deleteById(id);
+        return offerShards.onEveryShard(false, shard -> offerJpaAdapterRepository.deleteOfferById(id))
+          .stream()
+          .mapToInt(Integer::intValue)
+          .sum();
+    }
+
+    @Override
+    public int deleteByBrandId(Integer brandId) {
+        LOGGER.info("Deleting offers of brandId: {}", brandId);
+        return offerShards.onShard(brandId, () -> offerJpaAdapterRepository.deleteByBrandId(brandId));
+    }
+
+    @Override
+    public int deleteByCriteria(Integer brandId, String productPartNumber) {
+        LOGGER.info("Deleting offers by criteria: brandId={}, productPartNumber={}", brandId, productPartNumber);
+        return offerShards.onShard(brandId,
+          () -> offerJpaAdapterRepository.deleteByBrandIdAndProductPartNumber(brandId, productPartNumber));
     }
 
     @Override
     public void deleteAll() {
         LOGGER.info("Deleting all offers");
-        offerJpaAdapterRepository.deleteAll();
+        offerShards.onEveryShard(false, shard -> {
+            offerJpaAdapterRepository.deleteAllInBatch();
+            return null;
+        });
     }
 }
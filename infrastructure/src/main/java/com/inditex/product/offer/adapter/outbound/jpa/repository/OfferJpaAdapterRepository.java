@@ -2,9 +2,18 @@ package com.inditex.product.offer.adapter.outbound.jpa.repository;
 
 
 import com.inditex.product.offer.adapter.outbound.entity.OfferEntity;
+import com.inditex.product.offer.model.Offer;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,7 +21,10 @@ import org.springframework.stereotype.Repository;
  * Repository interface for managing OfferEntity objects in the database. Extends JpaRepository to provide CRUD operations
  * and query methods for OfferEntity.
  * <p>
- * This interface serves as the data access layer for OfferEntity and interacts with the database.
+ * This interface serves as the data access layer for OfferEntity and interacts with the database. The read queries project
+ * the columns straight into the domain {@link Offer}, so the rows are neither managed by the persistence context nor joined
+ * with the brand. They are hinted as read-only with a manual flush mode, so running them never flushes the persistence
+ * context.
  *
  * @author [product-offers@inditex.es]
  * @since 1.0.0
@@ -20,8 +32,66 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface OfferJpaAdapterRepository extends JpaRepository<OfferEntity, Long> {
 
-    @Query("SELECT o FROM OfferEntity o WHERE o.brandEntity.id = :brandId AND o.productPartNumber = :productPartNumber")
-    List<OfferEntity> findByBrandIdAndProductPartNumber(@Param("brandId") Integer brandId,
+    String STREAM_FETCH_SIZE = "1000";
+
+    String READ_ONLY = "true";
+
+    String FLUSH_MODE_MANUAL = "MANUAL";
+
+    String SELECT_OFFER = "SELECT new com.inditex.product.offer.model.Offer(o.id, o.brandEntity.id, o.startDate, o.endDate, "
+      + "o.priceListId, o.productPartNumber, o.priority, o.price, o.currencyIso, o.version) FROM OfferEntity o ";
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = READ_ONLY),
+      @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = FLUSH_MODE_MANUAL)})
+    @Query(SELECT_OFFER + "WHERE o.id = :id")
+    Optional<Offer> findOfferById(@Param("id") Long id);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = READ_ONLY),
+      @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = FLUSH_MODE_MANUAL)})
+    @Query(SELECT_OFFER + "WHERE o.id IN :ids ORDER BY o.id")
+    List<Offer> findOffersByIds(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = READ_ONLY),
+      @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = FLUSH_MODE_MANUAL)})
+    @Query(SELECT_OFFER)
+    List<Offer> findAllOffers();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = READ_ONLY),
+      @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = FLUSH_MODE_MANUAL)})
+    @Query(SELECT_OFFER + "ORDER BY o.id")
+    Stream<Offer> streamAllOffers();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = READ_ONLY),
+      @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = FLUSH_MODE_MANUAL)})
+    @Query(SELECT_OFFER + "WHERE o.id > :afterId ORDER BY o.id")
+    List<Offer> findOffersAfterId(@Param("afterId") Long afterId, Limit limit);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = READ_ONLY),
+      @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = FLUSH_MODE_MANUAL)})
+    @Query(SELECT_OFFER + "WHERE o.brandEntity.id = :brandId AND o.productPartNumber = :productPartNumber ORDER BY o.id")
+    List<Offer> findOffersByBrandIdAndProductPartNumber(@Param("brandId") Integer brandId,
+      @Param("productPartNumber") String productPartNumber);
+
+    @Modifying
+    @Query("DELETE FROM OfferEntity o WHERE o.id = :id")
+    int deleteOfferById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE OfferEntity o SET o.version = :version WHERE o.id = :id")
+    int updateVersion(@Param("id") Long id, @Param("version") Long version);
+
+    @Modifying
+    @Query("DELETE FROM OfferEntity o WHERE o.id IN :ids")
+    int deleteOffersByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM OfferEntity o WHERE o.brandEntity.id = :brandId")
+    int deleteByBrandId(@Param("brandId") Integer brandId);
+
+    @Modifying
+    @Query("DELETE FROM OfferEntity o WHERE o.brandEntity.id = :brandId AND o.productPartNumber = :productPartNumber")
+    int deleteByBrandIdAndProductPartNumber(@Param("brandId") Integer brandId,
       @Param("productPartNumber") String productPartNumber);
 
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.inditex.product.offer.adapter.outbound.jpa.routing;
+
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
+import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferH2Repository;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource routing the connections of the read-only transactions, those of the {@link OfferH2Dao}, to a read replica and
+ * every other connection, such as those of the {@link OfferH2Repository}, to the primary.
+ * <p>
+ * The replica is assumed to lag behind the primary by at most the given lag. The time every read-write transaction
+ * starts and completes is recorded in the {@link OfferWriteSession} of the client, and the read-only transactions of
+ * that session started within that lag after its last write read from the primary, so a client reads its own writes
+ * while the reads of every other client keep going to the replica.
+ * </p>
+ * <p>
+ * The loads whose result is shared with every client, such as the fills of the caches of the offers, read from the
+ * primary within that lag after any write made on this node. Otherwise, a client without the write could fill an entry
+ * invalidated by the write with the rows of the replica, and the stale entry would then be served to every client,
+ * including the one that wrote. Optionally, every read can go there within that lag too, for clients that do not hand
+ * their writes back on later requests, at the cost of sending the reads of every client there.
+ * </p>
+ * <p>
+ * The route is decided when the connection is fetched, so this DataSource must be wrapped by a
+ * {@link LazyConnectionDataSourceProxy} that only fetches it on the first statement, once the transaction has been flagged
+ * as read-only.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+public class OfferRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> SHARED_LOAD = new ThreadLocal<>();
+
+    private final long maxReplicaLagNanos;
+
+    private final boolean globalReadYourWrites;
+
+    private volatile long lastWriteNanos;
+
+    /**
+     * Constructor for OfferRoutingDataSource.
+     *
+     * @param primary              the DataSource of the primary
+     * @param replica              the DataSource of the read replica
+     * @param maxReplicaLag        the longest time the replica may lag behind the primary
+     * @param globalReadYourWrites whether every read goes to the primary within the lag after any write of the node
+     */
+    public OfferRoutingDataSource(DataSource primary, DataSource replica, Duration maxReplicaLag,
+      boolean globalReadYourWrites) {
+        this.maxReplicaLagNanos = maxReplicaLag.toNanos();
+        this.globalReadYourWrites = globalReadYourWrites;
+        this.lastWriteNanos = System.nanoTime() - maxReplicaLagNanos;
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Runs a load whose result is shared with every client, such as the fill of a cache, reading from the primary
+     * within the replica lag after any write made on this node.
+     *
+     * @param load the load to run
+     * @param <T>  the type of the result
+     * @return the result of the load
+     */
+    public static <T> T withSharedLoad(Supplier<T> load) {
+        var previousSharedLoad = SHARED_LOAD.get();
+        SHARED_LOAD.set(Boolean.TRUE);
+        try {
+            return load.get();
+        } finally {
+            if (previousSharedLoad == null) {
+                SHARED_LOAD.remove();
+            } else {
+                SHARED_LOAD.set(previousSharedLoad);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    Route currentRoute() {
+        var session = OfferWriteSession.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                recordWrite(session);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        recordWrite(session);
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+
+        if (session != null
+          && TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - session.getLastWriteEpochMillis())
+          < maxReplicaLagNanos) {
+            LOGGER.debug("Reading from the primary, last write of the session within the replica lag");
+            return Route.PRIMARY;
+        }
+        if ((globalReadYourWrites || SHARED_LOAD.get() != null)
+          && System.nanoTime() - lastWriteNanos < maxReplicaLagNanos) {
+            LOGGER.debug("Reading from the primary, last write of the node within the replica lag");
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    private void recordWrite(OfferWriteSession session) {
+        lastWriteNanos = System.nanoTime();
+        if (session != null) {
+            session.recordWrite(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Target DataSource of a connection.
+     */
+    public enum Route {
+
+        PRIMARY,
+
+        REPLICA
+    }
+}
@@ -0,0 +1,91 @@
+package com.inditex.product.offer.adapter.outbound.jpa.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource routing every connection to the shard bound to the current thread by {@link OfferShards}, or to the first
+ * shard when none is bound.
+ * <p>
+ * The first shard holds the data that is not sharded, such as the brands read at startup. The shard is chosen when the
+ * connection is fetched, so this DataSource must be wrapped by a {@link LazyConnectionDataSourceProxy} that only fetches it
+ * on the first statement, once the shard has been bound.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+public class OfferShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private final List<HikariDataSource> shards;
+
+    /**
+     * Constructor for OfferShardRoutingDataSource.
+     *
+     * @param shards the DataSource of every shard, in shard order
+     */
+    public OfferShardRoutingDataSource(List<HikariDataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targetDataSources.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(shards.getFirst());
+    }
+
+    /**
+     * Runs an action with the connections of the current thread routed to a shard.
+     *
+     * @param shard  the shard index
+     * @param action the action to run
+     * @param <T>    the type of the result
+     * @return the result of the action
+     */
+    static <T> T withShard(int shard, Supplier<T> action) {
+        var previousShard = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previousShard == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previousShard);
+            }
+        }
+    }
+
+    static Integer currentShard() {
+        return CURRENT_SHARD.get();
+    }
+
+    /**
+     * Returns the DataSource of every shard, in shard order.
+     *
+     * @return the shards
+     */
+    public List<HikariDataSource> getShards() {
+        return shards;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentShard();
+    }
+
+    @Override
+    public void close() {
+        LOGGER.info("Closing [{}] shards", shards.size());
+        shards.forEach(HikariDataSource::close);
+    }
+}
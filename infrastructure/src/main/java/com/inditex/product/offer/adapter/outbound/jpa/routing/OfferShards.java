@@ -0,0 +1,199 @@
+package com.inditex.product.offer.adapter.outbound.jpa.routing;
+
+import com.inditex.product.offer.configuration.OfferShardingProperties;
+import jakarta.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Shards of the offers, assigned by brand identifier.
+ * <p>
+ * The offers of a brand live in shard {@code floorMod(brandId, shards)}, so the operations of a brand run on its shard,
+ * bound through the {@link OfferShardRoutingDataSource} to the current thread and transaction. The operations spanning
+ * every shard run in parallel, one virtual thread and transaction per shard, and their results are returned in shard
+ * order for the caller to merge.
+ * </p>
+ * <p>
+ * The writes that must be applied to every shard or none run in a coordinated unit instead: every shard does its work in
+ * its own transaction, and they are all committed only once every shard has finished without failure, or all rolled back
+ * otherwise. As the work is flushed before the vote, constraint violations roll back every shard; only a shard failing
+ * to commit after the others, such as one losing its connection in between, can leave the unit partially applied.
+ * </p>
+ * <p>
+ * Without {@code offer.sharding.shards} there is a single shard, and every operation runs on the calling thread within
+ * its transaction, as if the offers were not sharded.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class OfferShards {
+
+    private final int shardCount;
+
+    private final TransactionTemplate readWriteTransaction;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final ExecutorService executor;
+
+    /**
+     * Constructor for OfferShards.
+     *
+     * @param offerShardingProperties    of type {@link OfferShardingProperties}
+     * @param platformTransactionManager of type {@link PlatformTransactionManager}
+     */
+    public OfferShards(OfferShardingProperties offerShardingProperties,
+      PlatformTransactionManager platformTransactionManager) {
+        this.shardCount = Math.max(1, offerShardingProperties.getShards().size());
+        this.readWriteTransaction = new TransactionTemplate(platformTransactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(platformTransactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.executor = isSharded() ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        LOGGER.info("Offers split in [{}] shards", shardCount);
+    }
+
+    /**
+     * Tells whether the offers are split in more than one shard.
+     *
+     * @return true if there are several shards
+     */
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * Returns the shard holding the offers of a brand.
+     *
+     * @param brandId the brand identifier
+     * @return the shard index
+     */
+    public int shardOf(Integer brandId) {
+        return isSharded() ? Math.floorMod(brandId, shardCount) : 0;
+    }
+
+    /**
+     * Runs an action on the shard of a brand, on the calling thread and within its transaction.
+     *
+     * @param brandId the brand identifier
+     * @param action  the action to run
+     * @param <T>     the type of the result
+     * @return the result of the action
+     */
+    public <T> T onShard(Integer brandId, Supplier<T> action) {
+        return OfferShardRoutingDataSource.withShard(shardOf(brandId), action);
+    }
+
+    /**
+     * Runs an action on every shard, in parallel and in a transaction per shard when there are several shards.
+     *
+     * @param readOnly whether the transactions are read-only
+     * @param action   the action to run, given the shard index
+     * @param <T>      the type of the results
+     * @return the result of every shard, in shard order
+     */
+    public <T> List<T> onEveryShard(boolean readOnly, IntFunction<T> action) {
+        if (!isSharded()) {
+            return Collections.singletonList(OfferShardRoutingDataSource.withShard(0, () -> action.apply(0)));
+        }
+
+        var transaction = readOnly ? readOnlyTransaction : readWriteTransaction;
+        return join(IntStream.range(0, shardCount)
+          .mapToObj(shard -> CompletableFuture.supplyAsync(() -> OfferShardRoutingDataSource.withShard(shard,
+            () -> transaction.execute(status -> action.apply(shard))), executor))
+          .toList());
+    }
+
+    /**
+     * Runs a write on every shard as a coordinated unit: the transactions of all the shards are committed only if the
+     * action succeeded on every shard, and rolled back otherwise. The action must flush its changes, so that they are
+     * checked by the database before the shards are committed.
+     *
+     * @param action the action to run, given the shard index
+     * @param <T>    the type of the results
+     * @return the result of every shard, in shard order
+     */
+    public <T> List<T> onEveryShardAtomically(IntFunction<T> action) {
+        if (!isSharded()) {
+            return onEveryShard(false, action);
+        }
+
+        var finished = new CountDownLatch(shardCount);
+        var failed = new AtomicBoolean();
+        return join(IntStream.range(0, shardCount)
+          .mapToObj(shard -> CompletableFuture.supplyAsync(() -> OfferShardRoutingDataSource.withShard(shard,
+            () -> runInUnit(shard, action, finished, failed)), executor))
+          .toList());
+    }
+
+    private <T> T runInUnit(int shard, IntFunction<T> action, CountDownLatch finished, AtomicBoolean failed) {
+        var platformTransactionManager = readWriteTransaction.getTransactionManager();
+        var status = platformTransactionManager.getTransaction(readWriteTransaction);
+        T result;
+        try {
+            result = action.apply(shard);
+        } catch (RuntimeException | Error e) {
+            failed.set(true);
+            finished.countDown();
+            platformTransactionManager.rollback(status);
+            throw e;
+        }
+
+        finished.countDown();
+        try {
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed.set(true);
+        }
+        if (failed.get()) {
+            LOGGER.warn("Rolling back shard [{}] as another shard of the unit failed", shard);
+            platformTransactionManager.rollback(status);
+            throw new TransactionSystemException("Shard [" + shard + "] rolled back as another shard failed");
+        }
+        platformTransactionManager.commit(status);
+        return result;
+    }
+
+    private static <T> List<T> join(List<CompletableFuture<T>> results) {
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+        RuntimeException failure = null;
+        for (var result : results) {
+            try {
+                result.join();
+            } catch (CompletionException e) {
+                // the failure of the action is rethrown rather than the rollbacks it caused on the other shards
+                if (failure == null || failure instanceof TransactionSystemException) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results.stream().map(CompletableFuture::join).toList();
+    }
+
+    @PreDestroy
+    void close() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.inditex.product.offer.adapter.outbound.jpa.routing;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Read-your-writes session of a client, bound to the thread serving one of its requests.
+ * <p>
+ * The session holds the time of the last write of the client, either received with the request or recorded by the
+ * {@link OfferRoutingDataSource} when the request itself writes. The read-only transactions run within the session read
+ * from the primary while that write may not have reached the replica yet, without affecting the reads of other clients.
+ * Every write is reported to the given listener, so it can be handed back to the client for its next requests.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+public final class OfferWriteSession implements AutoCloseable {
+
+    private static final ThreadLocal<OfferWriteSession> CURRENT_SESSION = new ThreadLocal<>();
+
+    private final OfferWriteSession previousSession;
+
+    private final LongConsumer writeListener;
+
+    private volatile long lastWriteEpochMillis;
+
+    private OfferWriteSession(OfferWriteSession previousSession, long lastWriteEpochMillis,
+      LongConsumer writeListener) {
+        this.previousSession = previousSession;
+        this.lastWriteEpochMillis = lastWriteEpochMillis;
+        this.writeListener = writeListener;
+    }
+
+    /**
+     * Opens a session bound to the current thread until it is closed. A last write later than the current time is taken
+     * as made now, so a client cannot pin its reads to the primary.
+     *
+     * @param lastWriteEpochMillis the last write of the client in epoch milliseconds, or {@code 0} if unknown
+     * @param writeListener        the listener notified with the time of every write made within the session
+     * @return the open {@link OfferWriteSession}
+     */
+    public static OfferWriteSession open(long lastWriteEpochMillis, LongConsumer writeListener) {
+        var session = new OfferWriteSession(CURRENT_SESSION.get(),
+          Math.min(lastWriteEpochMillis, System.currentTimeMillis()), writeListener);
+        CURRENT_SESSION.set(session);
+        return session;
+    }
+
+    static OfferWriteSession current() {
+        return CURRENT_SESSION.get();
+    }
+
+    long getLastWriteEpochMillis() {
+        return lastWriteEpochMillis;
+    }
+
+    void recordWrite(long epochMillis) {
+        lastWriteEpochMillis = Math.max(lastWriteEpochMillis, epochMillis);
+        writeListener.accept(lastWriteEpochMillis);
+    }
+
+    @Override
+    public void close() {
+        if (previousSession == null) {
+            CURRENT_SESSION.remove();
+        } else {
+            CURRENT_SESSION.set(previousSession);
+        }
+    }
+}
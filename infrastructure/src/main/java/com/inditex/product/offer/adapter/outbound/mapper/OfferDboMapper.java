@@ -42,6 +42,7 @@ public interface OfferDboMapper {
      */
     @Mapping(target = "id", source = "offerId")
     @Mapping(target = "brandEntity", ignore = true)
+    @Mapping(target = "persisted", ignore = true)
     OfferEntity toOfferEntity(Offer offer);
 
     @AfterMapping
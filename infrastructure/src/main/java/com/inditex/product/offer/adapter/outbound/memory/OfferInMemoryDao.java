@@ -0,0 +1,173 @@
+package com.inditex.product.offer.adapter.outbound.memory;
+
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
+import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.port.dao.OfferDao;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementation of the OfferDao interface serving every read from memory, enabled by the {@value #PROFILE} profile.
+ * <p>
+ * The offers are kept in a map ordered by identifier, which answers the lookups by identifier, the pages and the export,
+ * and in a secondary index by brand identifier and product part number. Both are loaded from the {@link OfferH2Dao} at
+ * startup and kept up to date by the {@link OfferInMemoryRepository}, which writes every change through to the database
+ * before applying it here, so no read reaches the database.
+ * </p>
+ * <p>
+ * Reads never block: they traverse the concurrent maps while the writes, serialized among them, replace the offers one by
+ * one.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Primary
+@Repository
+@Profile(OfferInMemoryDao.PROFILE)
+public class OfferInMemoryDao implements OfferDao {
+
+    /**
+     * Profile enabling the in-memory adapters.
+     */
+    public static final String PROFILE = "in-memory";
+
+    private final OfferH2Dao offerH2Dao;
+
+    private final ConcurrentNavigableMap<Long, Offer> offersById = new ConcurrentSkipListMap<>();
+
+    private final Map<Key, ConcurrentNavigableMap<Long, Offer>> offersByCriteria = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for OfferInMemoryDao.
+     *
+     * @param offerH2Dao of type {@link OfferH2Dao}
+     */
+    public OfferInMemoryDao(OfferH2Dao offerH2Dao) {
+        this.offerH2Dao = offerH2Dao;
+    }
+
+    /**
+     * Loads every offer of the database.
+     */
+    @PostConstruct
+    public void load() {
+        offerH2Dao.forEach(this::put);
+        LOGGER.info("Loaded [{}] offers in memory", offersById.size());
+    }
+
+    @Override
+    public Offer getById(Long id) {
+        var offer = offersById.get(id);
+        if (offer == null) {
+            throw new OfferException("Offer not found with id: " + id, HttpStatus.NOT_FOUND);
+        }
+        return offer;
+    }
+
+    @Override
+    public List<Offer> getByIds(Collection<Long> ids) {
+        return ids.stream()
+          .distinct()
+          .sorted()
+          .map(offersById::get)
+          .filter(Objects::nonNull)
+          .toList();
+    }
+
+    @Override
+    public List<Offer> getAll() {
+        return List.copyOf(offersById.values());
+    }
+
+    @Override
+    public List<Offer> getPage(Long afterOfferId, int limit) {
+        return offersById.tailMap(afterOfferId, false).values().stream()
+          .limit(limit)
+          .toList();
+    }
+
+    @Override
+    public void forEach(Consumer<Offer> action) {
+        offersById.values().forEach(action);
+    }
+
+    @Override
+    public List<Offer> getByCriteria(Integer brandId, String productPartNumber) {
+        var offers = offersByCriteria.get(new Key(brandId, productPartNumber));
+        return offers == null ? List.of() : List.copyOf(offers.values());
+    }
+
+    synchronized void put(Offer offer) {
+        var previous = offersById.put(offer.getOfferId(), offer);
+        if (previous != null) {
+            removeFromCriteria(previous);
+        }
+        offersByCriteria.computeIfAbsent(new Key(offer.getBrandId(), offer.getProductPartNumber()),
+            key -> new ConcurrentSkipListMap<>())
+          .put(offer.getOfferId(), offer);
+    }
+
+    synchronized void remove(Long id) {
+        var previous = offersById.remove(id);
+        if (previous != null) {
+            removeFromCriteria(previous);
+        }
+    }
+
+    synchronized void removeByBrandId(Integer brandId) {
+        offersByCriteria.keySet().stream()
+          .filter(key -> Objects.equals(key.brandId(), brandId))
+          .toList()
+          .forEach(this::removeCriteria);
+    }
+
+    synchronized void removeByCriteria(Integer brandId, String productPartNumber) {
+        removeCriteria(new Key(brandId, productPartNumber));
+    }
+
+    synchronized void clear() {
+        offersById.clear();
+        offersByCriteria.clear();
+    }
+
+    int size() {
+        return offersById.size();
+    }
+
+    private void removeCriteria(Key key) {
+        var offers = offersByCriteria.remove(key);
+        if (offers != null) {
+            offers.keySet().forEach(offersById::remove);
+        }
+    }
+
+    private void removeFromCriteria(Offer offer) {
+        var key = new Key(offer.getBrandId(), offer.getProductPartNumber());
+        var offers = offersByCriteria.get(key);
+        if (offers != null) {
+            offers.remove(offer.getOfferId());
+            if (offers.isEmpty()) {
+                offersByCriteria.remove(key);
+            }
+        }
+    }
+
+    private record Key(Integer brandId, String productPartNumber) {
+
+    }
+}
@@ -0,0 +1,159 @@
+package com.inditex.product.offer.adapter.outbound.memory;
+
+import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferH2Repository;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
+import com.inditex.product.offer.port.repository.OfferRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Implementation of the OfferRepository interface writing through to the database, enabled by the
+ * {@value OfferInMemoryDao#PROFILE} profile.
+ * <p>
+ * Every change is first committed by the {@link OfferH2Repository} and then applied to the {@link OfferInMemoryDao}, so
+ * the offers in memory never get ahead of the database and a failed write leaves them untouched.
+ * </p>
+ * <p>
+ * The write to the database and its application in memory are held under a lock striped by offer identifier, so
+ * concurrent writes of the same offer reach memory in the order they were committed: a write of an offer locks its
+ * stripe, a batch the stripes of its offers, in ascending order, and the deletions of many offers every stripe.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Primary
+@Repository
+@Profile(OfferInMemoryDao.PROFILE)
+public class OfferInMemoryRepository implements OfferRepository {
+
+    private final OfferRepository offerRepository;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final OfferInMemoryDao offerInMemoryDao;
+
+    private final ReentrantLock[] locks = IntStream.range(0, LOCK_STRIPES)
+      .mapToObj(stripe -> new ReentrantLock())
+      .toArray(ReentrantLock[]::new);
+
+    /**
+     * Constructor for OfferInMemoryRepository.
+     *
+     * @param offerH2Repository of type {@link OfferH2Repository}
+     * @param offerInMemoryDao  of type {@link OfferInMemoryDao}
+     */
+    public OfferInMemoryRepository(OfferH2Repository offerH2Repository, OfferInMemoryDao offerInMemoryDao) {
+        this.offerRepository = offerH2Repository;
+        this.offerInMemoryDao = offerInMemoryDao;
+    }
+
+    @Override
+    public Offer create(Offer offer) {
+        return locked(List.of(offer.getOfferId()), () -> {
+            var createdOffer = offerRepository.create(offer);
+            offerInMemoryDao.put(createdOffer);
+            return createdOffer;
+        });
+    }
+
+    @Override
+    public List<Offer> createAll(List<Offer> offers) {
+        return locked(offers.stream().map(Offer::getOfferId).toList(), () -> {
+            var createdOffers = offerRepository.createAll(offers);
+            createdOffers.forEach(offerInMemoryDao::put);
+            return createdOffers;
+        });
+    }
+
+    @Override
+    public List<Offer> upsertAll(List<Offer> offers) {
+        return locked(offers.stream().map(Offer::getOfferId).toList(), () -> {
+            var savedOffers = offerRepository.upsertAll(offers);
+            savedOffers.forEach(offerInMemoryDao::put);
+            return savedOffers;
+        });
+    }
+
+    @Override
+    public Offer update(Long id, OfferUpdate offerUpdate) {
+        return locked(List.of(id), () -> {
+            var updatedOffer = offerRepository.update(id, offerUpdate);
+            offerInMemoryDao.put(updatedOffer);
+            return updatedOffer;
+        });
+    }
+
+    @Override
+    public int deleteById(Long id) {
+        return locked(List.of(id), () -> {
+            var deleted = offerRepository.deleteById(id);
+            offerInMemoryDao.remove(id);
+            return deleted;
+        });
+    }
+
+    @Override
+    public int deleteByBrandId(Integer brandId) {
+        return lockedAll(() -> {
+            var deleted = offerRepository.deleteByBrandId(brandId);
+            offerInMemoryDao.removeByBrandId(brandId);
+            return deleted;
+        });
+    }
+
+    @Override
+    public int deleteByCriteria(Integer brandId, String productPartNumber) {
+        return lockedAll(() -> {
+            var deleted = offerRepository.deleteByCriteria(brandId, productPartNumber);
+            offerInMemoryDao.removeByCriteria(brandId, productPartNumber);
+            return deleted;
+        });
+    }
+
+    @Override
+    public void deleteAll() {
+        lockedAll(() -> {
+            offerRepository.deleteAll();
+            offerInMemoryDao.clear();
+            return null;
+        });
+        LOGGER.info("Cleared the offers in memory");
+    }
+
+    private <T> T locked(Collection<Long> ids, Supplier<T> write) {
+        return locked(ids.stream().mapToInt(OfferInMemoryRepository::stripeOf).distinct().sorted().toArray(), write);
+    }
+
+    private <T> T lockedAll(Supplier<T> write) {
+        return locked(IntStream.range(0, LOCK_STRIPES).toArray(), write);
+    }
+
+    private <T> T locked(int[] stripes, Supplier<T> write) {
+        int locked = 0;
+        try {
+            for (int stripe : stripes) {
+                locks[stripe].lock();
+                locked++;
+            }
+            return write.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    private static int stripeOf(Long id) {
+        return Math.floorMod(Long.hashCode(id), LOCK_STRIPES);
+    }
+}
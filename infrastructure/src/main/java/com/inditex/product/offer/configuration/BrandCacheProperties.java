@@ -0,0 +1,28 @@
+package com.inditex.product.offer.configuration;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * BrandCacheProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.brand-cache`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = BrandCacheProperties.BRAND_CACHE_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BrandCacheProperties {
+
+    public static final String BRAND_CACHE_PREFIX = "offer.brand-cache";
+
+    @Builder.Default
+    private Duration refreshInterval = Duration.ofMinutes(5);
+}
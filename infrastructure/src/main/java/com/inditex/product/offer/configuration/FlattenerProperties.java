@@ -0,0 +1,28 @@
+package com.inditex.product.offer.configuration;
+
+import com.inditex.product.offer.adapter.inbound.utils.FlattenerEngine;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * FlattenerProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.flattener`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = FlattenerProperties.FLATTENER_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlattenerProperties {
+
+    public static final String FLATTENER_PREFIX = "offer.flattener";
+
+    @Builder.Default
+    private FlattenerEngine engine = FlattenerEngine.CLASSIC;
+}
@@ -0,0 +1,27 @@
+package com.inditex.product.offer.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * OfferBatchProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.batch`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = OfferBatchProperties.BATCH_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferBatchProperties {
+
+    public static final String BATCH_PREFIX = "offer.batch";
+
+    @Builder.Default
+    private int size = 500;
+}
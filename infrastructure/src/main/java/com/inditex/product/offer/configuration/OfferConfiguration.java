@@ -1,21 +1,33 @@
 package com.inditex.product.offer.configuration;
 
+import com.inditex.product.offer.port.dao.BrandDao;
 import com.inditex.product.offer.port.dao.OfferDao;
+import com.inditex.product.offer.port.listener.OfferChangeListener;
 import com.inditex.product.offer.port.repository.OfferRepository;
+import com.inditex.product.offer.service.BrandGetService;
+import com.inditex.product.offer.service.OfferChangePublisher;
 import com.inditex.product.offer.service.OfferCreateService;
 import com.inditex.product.offer.service.OfferDeleteService;
 import com.inditex.product.offer.service.OfferGetService;
+import com.inditex.product.offer.service.OfferUpdateService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Configuration class for defining beans related to offer services.
  * <p>
  * This class provides Spring-managed beans for the service layer, including {@link OfferGetService},
- * {@link OfferCreateService}, and {@link OfferDeleteService}. It ensures the proper wiring of dependencies such as
- * {@link OfferDao} and {@link OfferRepository}.
+ * {@link OfferCreateService}, {@link OfferUpdateService}, {@link OfferDeleteService}, {@link OfferChangePublisher} and
+ * {@link BrandGetService}. It ensures the proper wiring of dependencies such as {@link OfferDao}, {@link OfferRepository},
+ * {@link BrandDao} and the {@link OfferChangeListener} beans, and loads the {@link FlattenerProperties},
+ * {@link OfferDaoCacheProperties}, {@link OfferTimelineCacheProperties}, {@link OfferBatchProperties},
+ * {@link OfferPageProperties}, {@link OfferImportProperties}, {@link BrandCacheProperties} and
+ * {@link OfferShardingProperties}. Scheduling is enabled for the periodic refresh of the brands.
  * </p>
  *
  * @author [product-offers@inditex.es]
@@ -23,6 +35,10 @@ import org.springframework.context.annotation.Lazy;
  */
 @Slf4j
 @Configuration
+@EnableScheduling
+@EnableConfigurationProperties({FlattenerProperties.class, OfferDaoCacheProperties.class,
+  OfferTimelineCacheProperties.class, OfferBatchProperties.class, OfferPageProperties.class, OfferImportProperties.class,
+  BrandCacheProperties.class, OfferShardingProperties.class})
 public class OfferConfiguration {
 
     /**
@@ -37,28 +53,70 @@ public class OfferConfiguration {
         return new OfferGetService(offerDao);
     }
 
+    /**
+     * Provides a bean for {@link OfferChangePublisher}.
+     *
+     * @param offerChangeListeners the listeners notified on every offer change
+     * @return an instance of {@link OfferChangePublisher}
+     */
+    @Bean
+    public OfferChangePublisher offerChangePublisher(ObjectProvider<OfferChangeListener> offerChangeListeners) {
+        LOGGER.info("[offerChangePublisher] Creating OfferChangePublisher bean");
+        return new OfferChangePublisher(offerChangeListeners.orderedStream().toList());
+    }
+
     /**
      * Provides a bean for {@link OfferCreateService}.
      *
-     * @param offerRepository the repository used for persisting offers
+     * @param offerRepository      the repository used for persisting offers
+     * @param offerChangePublisher the publisher used to notify the created offers
      * @return an instance of {@link OfferCreateService}
      */
     @Bean
-    public OfferCreateService offerCreateService(@Lazy OfferRepository offerRepository) {
+    public OfferCreateService offerCreateService(@Lazy OfferRepository offerRepository,
+      OfferChangePublisher offerChangePublisher) {
         LOGGER.info("[offerCreateService] Creating OfferCreateService bean");
-        return new OfferCreateService(offerRepository);
+        return new OfferCreateService(offerRepository, offerChangePublisher);
+    }
+
+    /**
+     * Provides a bean for {@link OfferUpdateService}.
+     *
+     * @param offerRepository      the repository used for updating offers
+     * @param offerChangePublisher the publisher used to notify the updated offers
+     * @return an instance of {@link OfferUpdateService}
+     */
+    @Bean
+    public OfferUpdateService offerUpdateService(@Lazy OfferRepository offerRepository,
+      OfferChangePublisher offerChangePublisher) {
+        LOGGER.info("[offerUpdateService] Creating OfferUpdateService bean");
+        return new OfferUpdateService(offerRepository, offerChangePublisher);
     }
 
     /**
      * Provides a bean for {@link OfferDeleteService}.
      *
-     * @param offerRepository the repository used for deleting offers
+     * @param offerRepository      the repository used for deleting offers
+     * @param offerChangePublisher the publisher used to notify the deleted offers
      * @return an instance of {@link OfferDeleteService}
      */
     @Bean
-    public OfferDeleteService offerDeleteService(@Lazy OfferRepository offerRepository) {
+    public OfferDeleteService offerDeleteService(@Lazy OfferRepository offerRepository,
+      OfferChangePublisher offerChangePublisher) {
         LOGGER.info("[offerDeleteService] Creating OfferDeleteService bean");
-        return new OfferDeleteService(offerRepository);
+        return new OfferDeleteService(offerRepository, offerChangePublisher);
+    }
+
+    /**
+     * Provides a bean for {@link BrandGetService}.
+     *
+     * @param brandDao the DAO used for checking brands
+     * @return an instance of {@link BrandGetService}
+     */
+    @Bean
+    public BrandGetService brandGetService(@Lazy BrandDao brandDao) {
+        LOGGER.info("[brandGetService] Creating BrandGetService bean");
+        return new BrandGetService(brandDao);
     }
 
 }
\ No newline at end of file
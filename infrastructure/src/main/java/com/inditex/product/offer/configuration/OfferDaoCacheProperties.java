@@ -0,0 +1,31 @@
+package com.inditex.product.offer.configuration;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * OfferDaoCacheProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.dao-cache`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = OfferDaoCacheProperties.DAO_CACHE_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferDaoCacheProperties {
+
+    public static final String DAO_CACHE_PREFIX = "offer.dao-cache";
+
+    @Builder.Default
+    private long maximumSize = 10_000;
+
+    @Builder.Default
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,116 @@
+package com.inditex.product.offer.configuration;
+
+import com.inditex.product.offer.adapter.inbound.controller.filter.OfferWriteTokenFilter;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Configuration class for routing the reads of the offers to a read replica.
+ * <p>
+ * It is enabled by setting {@code offer.datasource.replica.url}. The primary pool is built from the
+ * {@code spring.datasource} properties and the replica pool from the {@link OfferDataSourceProperties}, and both are
+ * exposed through an {@link OfferRoutingDataSource} behind a {@link LazyConnectionDataSourceProxy}. When the replica is an
+ * embedded database, such as a second H2 instance standing in for it locally, it is initialized with the same scripts as
+ * the primary. An {@link OfferWriteTokenFilter} hands every write back to its client, so only the client that wrote
+ * reads from the primary afterwards.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = OfferDataSourceProperties.REPLICA_PREFIX, name = "url")
+@EnableConfigurationProperties(OfferDataSourceProperties.class)
+public class OfferDataSourceConfiguration {
+
+    /**
+     * Provides the pool of the primary.
+     *
+     * @param dataSourceProperties the {@code spring.datasource} properties
+     * @return the DataSource of the primary
+     */
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        LOGGER.info("[primaryDataSource] Creating primary DataSource for [{}]", dataSourceProperties.getUrl());
+        return dataSourceProperties.initializeDataSourceBuilder()
+          .type(HikariDataSource.class)
+          .build();
+    }
+
+    /**
+     * Provides the pool of the read replica.
+     *
+     * @param offerDataSourceProperties the properties of the replica
+     * @return the DataSource of the replica
+     */
+    @Bean
+    public HikariDataSource replicaDataSource(OfferDataSourceProperties offerDataSourceProperties) {
+        var replica = offerDataSourceProperties.getReplica();
+        LOGGER.info("[replicaDataSource] Creating replica DataSource for [{}]", replica.getUrl());
+        return DataSourceBuilder.create()
+          .type(HikariDataSource.class)
+          .url(replica.getUrl())
+          .username(replica.getUsername())
+          .password(replica.getPassword())
+          .build();
+    }
+
+    /**
+     * Provides the DataSource used by the application, routing the read-only transactions to the replica.
+     *
+     * @param primaryDataSource         the DataSource of the primary
+     * @param replicaDataSource         the DataSource of the replica
+     * @param offerDataSourceProperties the properties with the lag tolerated from the replica
+     * @return the routing DataSource, fetching its connections lazily
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+      @Qualifier("replicaDataSource") DataSource replicaDataSource, OfferDataSourceProperties offerDataSourceProperties) {
+        LOGGER.info("[dataSource] Routing reads to the replica, tolerating a lag of [{}]",
+          offerDataSourceProperties.getMaxReplicaLag());
+        var offerRoutingDataSource = new OfferRoutingDataSource(primaryDataSource, replicaDataSource,
+          offerDataSourceProperties.getMaxReplicaLag(), offerDataSourceProperties.isGlobalReadYourWrites());
+        offerRoutingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(offerRoutingDataSource);
+    }
+
+    /**
+     * Provides the filter binding every request to the read-your-writes session of its client.
+     *
+     * @return the {@link OfferWriteTokenFilter}
+     */
+    @Bean
+    public OfferWriteTokenFilter offerWriteTokenFilter() {
+        return new OfferWriteTokenFilter();
+    }
+
+    /**
+     * Provides the initializer of the replica, running the scripts of the primary when the replica is embedded.
+     *
+     * @param replicaDataSource            the DataSource of the replica
+     * @param sqlInitializationProperties the {@code spring.sql.init} properties
+     * @return the initializer of the replica
+     */
+    @Bean
+    public DataSourceScriptDatabaseInitializer replicaDataSourceInitializer(
+      @Qualifier("replicaDataSource") DataSource replicaDataSource, SqlInitializationProperties sqlInitializationProperties) {
+        return new DataSourceScriptDatabaseInitializer(replicaDataSource,
+          SqlDataSourceScriptDatabaseInitializer.getSettings(sqlInitializationProperties));
+    }
+}
@@ -0,0 +1,52 @@
+package com.inditex.product.offer.configuration;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * OfferDataSourceProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.datasource`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = OfferDataSourceProperties.DATASOURCE_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferDataSourceProperties {
+
+    public static final String DATASOURCE_PREFIX = "offer.datasource";
+
+    public static final String REPLICA_PREFIX = DATASOURCE_PREFIX + ".replica";
+
+    @Builder.Default
+    private Duration maxReplicaLag = Duration.ofSeconds(1);
+
+    @Builder.Default
+    private boolean globalReadYourWrites = false;
+
+    @Builder.Default
+    private Replica replica = new Replica();
+
+    /**
+     * Connection settings of the read replica.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
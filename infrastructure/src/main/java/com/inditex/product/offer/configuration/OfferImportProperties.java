@@ -0,0 +1,33 @@
+package com.inditex.product.offer.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * OfferImportProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.import`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = OfferImportProperties.IMPORT_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferImportProperties {
+
+    public static final String IMPORT_PREFIX = "offer.import";
+
+    @Builder.Default
+    private String startupLocation = "";
+
+    @Builder.Default
+    private int maxErrors = 100;
+
+    @Builder.Default
+    private int retainedImports = 100;
+}
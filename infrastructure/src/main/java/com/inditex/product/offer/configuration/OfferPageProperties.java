@@ -0,0 +1,30 @@
+package com.inditex.product.offer.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * OfferPageProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.page`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = OfferPageProperties.PAGE_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferPageProperties {
+
+    public static final String PAGE_PREFIX = "offer.page";
+
+    @Builder.Default
+    private int defaultSize = 100;
+
+    @Builder.Default
+    private int maxSize = 1000;
+}
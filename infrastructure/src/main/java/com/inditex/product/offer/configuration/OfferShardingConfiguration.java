@@ -0,0 +1,97 @@
+package com.inditex.product.offer.configuration;
+
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferShardRoutingDataSource;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferShards;
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.init.DataSourceScriptDatabaseInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+/**
+ * Configuration class for splitting the offers in shards by brand.
+ * <p>
+ * It is enabled by setting {@code offer.sharding.shards}, which replace the {@code spring.datasource}. A pool is built for
+ * every shard and all of them are exposed through an {@link OfferShardRoutingDataSource} behind a
+ * {@link LazyConnectionDataSourceProxy}, routed by {@link OfferShards}. The first shard is the default target, initialized
+ * by Spring Boot, and the other shards are initialized with the same scripts when they are embedded databases, such as
+ * the in-memory H2 instances standing in for the shards locally. It cannot be combined with the read replica of
+ * {@link OfferDataSourceConfiguration}, which would wire a second DataSource, so the startup fails if both are set.
+ * </p>
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = OfferShardingProperties.FIRST_SHARD_PREFIX, name = "url")
+public class OfferShardingConfiguration {
+
+    /**
+     * Builds the configuration, rejecting a read replica configured together with the shards.
+     *
+     * @param environment the {@link Environment} of the application
+     */
+    public OfferShardingConfiguration(Environment environment) {
+        if (StringUtils.hasText(environment.getProperty(OfferDataSourceProperties.REPLICA_PREFIX + ".url"))) {
+            throw new IllegalStateException("Sharding cannot be combined with a read replica, unset either ["
+              + OfferShardingProperties.FIRST_SHARD_PREFIX + ".url] or [" + OfferDataSourceProperties.REPLICA_PREFIX
+              + ".url]");
+        }
+    }
+
+    /**
+     * Provides the pools of the shards, routed by the shard bound to the current thread, initializing every shard but the
+     * first one.
+     *
+     * @param offerShardingProperties     the properties of the shards
+     * @param sqlInitializationProperties the {@code spring.sql.init} properties
+     * @return the routing DataSource of the shards
+     */
+    @Bean
+    public OfferShardRoutingDataSource offerShardRoutingDataSource(OfferShardingProperties offerShardingProperties,
+      SqlInitializationProperties sqlInitializationProperties) {
+        var shards = offerShardingProperties.getShards().stream()
+          .map(shard -> {
+              LOGGER.info("[offerShardRoutingDataSource] Creating shard DataSource for [{}]", shard.getUrl());
+              return DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+          })
+          .toList();
+
+        var settings = SqlDataSourceScriptDatabaseInitializer.getSettings(sqlInitializationProperties);
+        shards.stream()
+          .skip(1)
+          .forEach(shard -> new DataSourceScriptDatabaseInitializer(shard, settings).initializeDatabase());
+
+        var offerShardRoutingDataSource = new OfferShardRoutingDataSource(shards);
+        offerShardRoutingDataSource.afterPropertiesSet();
+        return offerShardRoutingDataSource;
+    }
+
+    /**
+     * Provides the DataSource used by the application, routing every connection to the shard of its brand.
+     *
+     * @param offerShardRoutingDataSource the routing DataSource of the shards
+     * @return the routing DataSource, fetching its connections lazily
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(OfferShardRoutingDataSource offerShardRoutingDataSource) {
+        LOGGER.info("[dataSource] Routing offers to [{}] shards", offerShardRoutingDataSource.getShards().size());
+        return new LazyConnectionDataSourceProxy(offerShardRoutingDataSource);
+    }
+}
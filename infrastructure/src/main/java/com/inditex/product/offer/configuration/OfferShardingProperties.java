@@ -0,0 +1,47 @@
+package com.inditex.product.offer.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * OfferShardingProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.sharding`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = OfferShardingProperties.SHARDING_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferShardingProperties {
+
+    public static final String SHARDING_PREFIX = "offer.sharding";
+
+    public static final String FIRST_SHARD_PREFIX = SHARDING_PREFIX + ".shards[0]";
+
+    @Builder.Default
+    private List<Shard> shards = new ArrayList<>();
+
+    /**
+     * Connection settings of a shard.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Shard {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inditex.product.offer.configuration;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * OfferTimelineCacheProperties class.
+ * It is used to load properties values defined in `application.yml` under the prefix `offer.timeline-cache`
+ *
+ * @since 1.0.0
+ * @author [product-offers@inditex.es]
+ */
+@ConfigurationProperties(prefix = OfferTimelineCacheProperties.TIMELINE_CACHE_PREFIX)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OfferTimelineCacheProperties {
+
+    public static final String TIMELINE_CACHE_PREFIX = "offer.timeline-cache";
+
+    @Builder.Default
+    private long maximumSize = 10_000;
+}
@@ -2,13 +2,10 @@ DROP TABLE IF EXISTS BRAND CASCADE;
 DROP TABLE IF EXISTS OFFER CASCADE;
 
 CREATE TABLE BRAND (ID int not null, BRAND_NAME varchar(25), primary key (ID));
-CREATE TABLE OFFER (ID bigint not null, BRAND_ID int not null, START_DATE timestamp with time zone, END_DATE timestamp with time zone, PRICE_LIST bigint, PART_NUMBER varchar(7), PRIORITY integer, PRICE decimal(4,2), CURR varchar(3), primary key (ID));
+CREATE TABLE OFFER (ID bigint not null, BRAND_ID int not null, START_DATE timestamp with time zone, END_DATE timestamp with time zone, PRICE_LIST bigint, PART_NUMBER varchar(7), PRIORITY integer, PRICE decimal(4,2), CURR varchar(3), VERSION bigint default 0 not null, primary key (ID));
+
+CREATE INDEX IDX_OFFER_BRAND_PART_START ON OFFER (BRAND_ID, PART_NUMBER, START_DATE);
 
 ALTER TABLE OFFER ADD FOREIGN KEY (BRAND_ID) REFERENCES BRAND(ID);
 
 INSERT INTO BRAND (ID, BRAND_NAME) VALUES (1, 'HIBERUS');
-
-INSERT INTO OFFER (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PART_NUMBER, PRIORITY, PRICE, CURR) VALUES (1, 1, '2020-06-14T00.00.00Z', '2020-12-31T23.59.59Z', 1, '0001002', 0, 35.50, 'EUR');
-INSERT INTO OFFER (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PART_NUMBER, PRIORITY, PRICE, CURR) VALUES (2, 1, '2020-06-14T15.00.00Z', '2020-06-14T18.30.00Z', 2, '0001002', 1, 25.45, 'EUR');
-INSERT INTO OFFER (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PART_NUMBER, PRIORITY, PRICE, CURR) VALUES (3, 1, '2020-06-15T00.00.00Z', '2020-06-15T11.00.00Z', 3, '0001002', 1, 30.50, 'EUR');
-INSERT INTO OFFER (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PART_NUMBER, PRIORITY, PRICE, CURR) VALUES (4, 1, '2020-06-15T16.00.00Z', '2020-12-31T23.59.59Z', 4, '0001002', 1, 38.95, 'EUR');
@@ -1,44 +1,64 @@
 package com.inditex.product.offer.adapter.inbound.controller;
 
-import static com.inditex.product.offer.adapter.inbound.utils.OfferDateRangeFlattener.flatten;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static util.FileLoader.getObjectFromJsonFile;
 import static util.FileLoader.objectMapper;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inditex.product.offer.adapter.inbound.controller.advice.OfferControllerAdvice;
 import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
-import com.inditex.product.offer.adapter.inbound.dto.OfferDateRangeFlattenedResponseDTO;
 import com.inditex.product.offer.adapter.inbound.dto.OfferResponseDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferUpdateRequestDTO;
 import com.inditex.product.offer.adapter.inbound.mapper.OfferDtoMapper;
-import com.inditex.product.offer.adapter.inbound.utils.OfferDateRangeFlattener;
+import com.inditex.product.offer.adapter.inbound.timeline.OfferTimeline;
+import com.inditex.product.offer.adapter.inbound.timeline.OfferTimelineCache;
 import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
+import com.inditex.product.offer.configuration.OfferPageProperties;
 import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
+import com.inditex.product.offer.service.BrandGetService;
 import com.inditex.product.offer.service.OfferCreateService;
 import com.inditex.product.offer.service.OfferDeleteService;
 import com.inditex.product.offer.service.OfferGetService;
+import com.inditex.product.offer.service.OfferUpdateService;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -63,6 +83,10 @@ class OfferControllerTest {
 
     private static final String OFFER_CREATE_REQUEST_PATH = "src/test/resources/OfferCreateRequestDTO.json";
     private static final String OFFER_URI_TEMPLATE = "/offer";
+    private static final String BATCH_URI_TEMPLATE = "/offer/batch";
+    private static final String OFFERS_PATH = "src/test/resources/Offers.json";
+    private static final String FLATTENED_URI_TEMPLATE = "/brand/{brandId}/partnumber/{partNumber}/offer";
+    private static final String PRICE_URI_TEMPLATE = "/brand/{brandId}/partnumber/{partNumber}/price";
     private static final String FATAL_ERROR = "Fatal Error";
 
     private MockMvc mockMvc;
@@ -79,12 +103,28 @@ class OfferControllerTest {
     @Mock
     private OfferDtoMapper offerDtoMapper;
 
+    @Mock
+    private OfferTimelineCache offerTimelineCache;
+
+    @Mock
+    private BrandGetService brandGetService;
+
+    @Mock
+    private OfferUpdateService offerUpdateService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private OfferPageProperties offerPageProperties = OfferPageProperties.builder().defaultSize(2).maxSize(10).build();
+
     @InjectMocks
     private OfferController offerController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(brandGetService.existsBrand(1)).thenReturn(true);
         mockMvc = MockMvcBuilders.standaloneSetup(offerController)
           .setControllerAdvice(new OfferControllerAdvice())
           .build();
@@ -109,6 +149,125 @@ class OfferControllerTest {
         verify(offerCreateService, only()).createOffer(any(Offer.class));
     }
 
+    @Test
+    @DisplayName("Test Create Offers in batch reporting the rejected offers")
+    void testCreateOffersInBatch() throws Exception {
+
+        final var offerCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH, OfferCreateRequestDTO.class);
+        final var invalidOfferCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH,
+          OfferCreateRequestDTO.class);
+        invalidOfferCreateRequestDTO.setOfferId(2L);
+        invalidOfferCreateRequestDTO.setStartDate("2025-05-14 00:00:00");
+        final var offer = mock(Offer.class);
+
+        when(offer.getOfferId()).thenReturn(1L);
+        when(offerDtoMapper.toOfferDomain(offerCreateRequestDTO)).thenReturn(offer);
+        when(offerCreateService.createOffers(List.of(offer))).thenReturn(List.of(offer));
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(
+              List.of(offerCreateRequestDTO, invalidOfferCreateRequestDTO, offerCreateRequestDTO))))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.created").value(1))
+          .andExpect(jsonPath("$.errors.length()").value(2))
+          .andExpect(jsonPath("$.errors[0].index").value(1))
+          .andExpect(jsonPath("$.errors[0].offerId").value(2))
+          .andExpect(jsonPath("$.errors[0].errors[0]").value("The startDate is invalid"))
+          .andExpect(jsonPath("$.errors[1].index").value(2))
+          .andExpect(jsonPath("$.errors[1].errors[0]").value("The offerId is duplicated in the batch"));
+
+        verify(offerCreateService, only()).createOffers(List.of(offer));
+    }
+
+    @Test
+    @DisplayName("Test Create Offers in batch from NDJSON")
+    void testCreateOffersInBatchFromNdjson() throws Exception {
+
+        final var offerCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH, OfferCreateRequestDTO.class);
+        final var otherOfferCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH,
+          OfferCreateRequestDTO.class);
+        otherOfferCreateRequestDTO.setOfferId(2L);
+        final var offer = mock(Offer.class);
+        final var otherOffer = mock(Offer.class);
+
+        when(offer.getOfferId()).thenReturn(1L);
+        when(otherOffer.getOfferId()).thenReturn(2L);
+        when(offerDtoMapper.toOfferDomain(offerCreateRequestDTO)).thenReturn(offer);
+        when(offerDtoMapper.toOfferDomain(otherOfferCreateRequestDTO)).thenReturn(otherOffer);
+        when(offerCreateService.createOffers(List.of(offer, otherOffer))).thenReturn(List.of(offer, otherOffer));
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(objectMapper.writeValueAsString(offerCreateRequestDTO) + "\n"
+              + objectMapper.writeValueAsString(otherOfferCreateRequestDTO) + "\n"))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.created").value(2))
+          .andExpect(jsonPath("$.errors").isEmpty());
+
+        verify(offerCreateService, only()).createOffers(List.of(offer, otherOffer));
+    }
+
+    @Test
+    @DisplayName("Test Create Offers in batch reporting the offers that already exist")
+    void testCreateOffersInBatchWithExistingOffers() throws Exception {
+
+        final var existingOfferCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH,
+          OfferCreateRequestDTO.class);
+        final var offerCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH, OfferCreateRequestDTO.class);
+        offerCreateRequestDTO.setOfferId(2L);
+        final var existingOffer = mock(Offer.class);
+        final var offer = mock(Offer.class);
+
+        when(existingOffer.getOfferId()).thenReturn(1L);
+        when(offer.getOfferId()).thenReturn(2L);
+        when(offerDtoMapper.toOfferDomain(existingOfferCreateRequestDTO)).thenReturn(existingOffer);
+        when(offerDtoMapper.toOfferDomain(offerCreateRequestDTO)).thenReturn(offer);
+        when(offerCreateService.createOffers(List.of(existingOffer, offer))).thenReturn(List.of(offer));
+        when(offerCreateService.createOffers(List.of(existingOffer))).thenReturn(List.of());
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(List.of(existingOfferCreateRequestDTO, offerCreateRequestDTO))))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.created").value(1))
+          .andExpect(jsonPath("$.errors.length()").value(1))
+          .andExpect(jsonPath("$.errors[0].index").value(0))
+          .andExpect(jsonPath("$.errors[0].offerId").value(1))
+          .andExpect(jsonPath("$.errors[0].errors[0]").value("The offerId already exists"));
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(List.of(existingOfferCreateRequestDTO))))
+          .andExpect(status().isConflict())
+          .andExpect(jsonPath("$.created").value(0))
+          .andExpect(jsonPath("$.errors[0].index").value(0));
+    }
+
+    @Test
+    @DisplayName("Test Create Offers in batch without valid offers")
+    void testCreateOffersInBatchWithoutValidOffers() throws Exception {
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(List.of(new OfferCreateRequestDTO()))))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.created").value(0))
+          .andExpect(jsonPath("$.errors[0].index").value(0));
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]"))
+          .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("{\"offerId\": 1}\n{"))
+          .andExpect(status().isBadRequest());
+
+        verify(offerCreateService, never()).createOffers(any());
+    }
+
     @Test
     @DisplayName("Test Create invalid Offer with result KO")
     void testCreateInvalidOfferWithResultKO() throws Exception {
@@ -124,6 +283,22 @@ class OfferControllerTest {
         verify(offerCreateService, never()).createOffer(any(Offer.class));
     }
 
+    @Test
+    @DisplayName("Test Create Offer of an unknown brand with result KO")
+    void testCreateOfferOfUnknownBrandWithResultKO() throws Exception {
+
+        final var offerCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH, OfferCreateRequestDTO.class);
+        offerCreateRequestDTO.setBrandId(2);
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(offerCreateRequestDTO)))
+          .andExpect(status().isBadRequest());
+
+        verify(brandGetService).existsBrand(2);
+        verify(offerCreateService, never()).createOffer(any(Offer.class));
+    }
+
     @Test
     @DisplayName("Test Create Offer with service error")
     void testCreateOfferWithServiceError() throws Exception {
@@ -177,6 +352,97 @@ class OfferControllerTest {
         verify(offerDtoMapper, never()).toOfferResponseDTO(any(Offer.class));
     }
 
+    @Test
+    @DisplayName("Test Get Offers by ids reports the missing ids")
+    void testGetOffersByIds() throws Exception {
+
+        final var offers = List.of(Offer.builder().offerId(1L).build(), Offer.builder().offerId(3L).build());
+        final var offerResponseDTO = OfferResponseDTO.builder().offerId(3L).build();
+
+        when(offerGetService.getOffersByIds(List.of(3L, 2L, 1L))).thenReturn(offers);
+        when(offerDtoMapper.toOfferResponseDTO(any(Offer.class))).thenReturn(offerResponseDTO);
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE).param("ids", "3,2,1,3"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.offers.length()").value(2))
+          .andExpect(jsonPath("$.missingIds[0]").value(2))
+          .andExpect(jsonPath("$.missingIds.length()").value(1));
+
+        verify(offerGetService, only()).getOffersByIds(List.of(3L, 2L, 1L));
+        verify(offerDtoMapper, times(2)).toOfferResponseDTO(any(Offer.class));
+    }
+
+    @Test
+    @DisplayName("Test Get Offers by invalid ids")
+    void testGetOffersByInvalidIds() throws Exception {
+
+        final var invalidIds = List.of("0", "1,-2", "1,2,3,4,5,6,7,8,9,10,11");
+
+        for (String ids : invalidIds) {
+            mockMvc.perform(get(OFFER_URI_TEMPLATE).param("ids", ids))
+              .andExpect(status().isBadRequest());
+        }
+
+        verify(offerGetService, never()).getOffersByIds(any());
+    }
+
+    @Test
+    @DisplayName("Test Update Offer OK")
+    void testUpdateOfferOK() throws Exception {
+
+        final var offerId = 1L;
+        final var offerUpdateRequestDTO = OfferUpdateRequestDTO.builder()
+          .price(new BigDecimal("30.50"))
+          .version(0L)
+          .build();
+        final var offerUpdate = OfferUpdate.builder().price(new BigDecimal("30.50")).version(0L).build();
+        final var offer = mock(Offer.class);
+
+        when(offerDtoMapper.toOfferUpdate(offerUpdateRequestDTO)).thenReturn(offerUpdate);
+        when(offerUpdateService.updateOffer(offerId, offerUpdate)).thenReturn(offer);
+        when(offerDtoMapper.toOfferResponseDTO(offer)).thenReturn(OfferResponseDTO.builder().version(1L).build());
+
+        mockMvc.perform(patch(OFFER_URI_TEMPLATE + "/{offerId}", offerId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(offerUpdateRequestDTO)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.version").value(1));
+
+        verify(offerUpdateService, only()).updateOffer(offerId, offerUpdate);
+    }
+
+    @Test
+    @DisplayName("Test Update Offer without fields to update")
+    void testUpdateOfferWithoutFields() throws Exception {
+
+        mockMvc.perform(patch(OFFER_URI_TEMPLATE + "/{offerId}", 1L)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"version\":0}"))
+          .andExpect(status().isBadRequest());
+
+        verify(offerUpdateService, never()).updateOffer(anyLong(), any(OfferUpdate.class));
+    }
+
+    @Test
+    @DisplayName("Test Update Offer with stale version")
+    void testUpdateOfferWithStaleVersion() throws Exception {
+
+        final var offerId = 1L;
+        final var offerUpdateRequestDTO = OfferUpdateRequestDTO.builder().priority(2).version(3L).build();
+        final var offerUpdate = OfferUpdate.builder().priority(2).version(3L).build();
+
+        when(offerDtoMapper.toOfferUpdate(offerUpdateRequestDTO)).thenReturn(offerUpdate);
+        when(offerUpdateService.updateOffer(offerId, offerUpdate)).thenThrow(
+          new OfferException("Offer version has changed", HttpStatus.CONFLICT));
+
+        mockMvc.perform(patch(OFFER_URI_TEMPLATE + "/{offerId}", offerId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(offerUpdateRequestDTO)))
+          .andExpect(status().isConflict());
+
+        verify(offerDtoMapper, never()).toOfferResponseDTO(any(Offer.class));
+    }
+
     @Test
     @DisplayName("Test Get All Offers")
     void testGetAllOffers() throws Exception {
@@ -184,26 +450,60 @@ class OfferControllerTest {
         final var offer = mock(Offer.class);
         final var offerResponseDTO = mock(OfferResponseDTO.class);
 
-        when(offerGetService.getAllOffers()).thenReturn(List.of(offer, offer));
+        when(offerGetService.getOffersPage(0L, 3)).thenReturn(List.of(offer, offer));
         when(offerDtoMapper.toOfferResponseDTO(offer)).thenReturn(offerResponseDTO);
 
         mockMvc.perform(get(OFFER_URI_TEMPLATE))
-          .andExpect(status().isOk());
+          .andExpect(status().isOk())
+          .andExpect(header().doesNotExist(HttpHeaders.LINK));
 
-        verify(offerGetService, only()).getAllOffers();
+        verify(offerGetService, only()).getOffersPage(0L, 3);
         verify(offerDtoMapper, times(2)).toOfferResponseDTO(any(Offer.class));
     }
 
+    @Test
+    @DisplayName("Test Get All Offers with a next page")
+    void testGetAllOffersWithNextPage() throws Exception {
+
+        final var offers = List.of(Offer.builder().offerId(11L).build(), Offer.builder().offerId(12L).build(),
+          Offer.builder().offerId(13L).build());
+
+        when(offerGetService.getOffersPage(10L, 3)).thenReturn(offers);
+        when(offerDtoMapper.toOfferResponseDTO(any(Offer.class))).thenReturn(mock(OfferResponseDTO.class));
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE).param("after", "10").param("limit", "2"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(2))
+          .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/offer?after=12&limit=2>; rel=\"next\""));
+
+        verify(offerGetService, only()).getOffersPage(10L, 3);
+        verify(offerDtoMapper, times(2)).toOfferResponseDTO(any(Offer.class));
+    }
+
+    @Test
+    @DisplayName("Test Get All Offers with invalid cursor or limit")
+    void testGetAllOffersWithInvalidPage() throws Exception {
+
+        final var invalidParams = List.of(List.of("after", "-1"), List.of("limit", "0"), List.of("limit", "11"));
+
+        for (List<String> invalidParam : invalidParams) {
+            mockMvc.perform(get(OFFER_URI_TEMPLATE).param(invalidParam.get(0), invalidParam.get(1)))
+              .andExpect(status().isBadRequest());
+        }
+
+        verify(offerGetService, never()).getOffersPage(any(), anyInt());
+    }
+
     @Test
     @DisplayName("Test Get All Offers with service error")
     void testGetAllOfferWithServiceError() throws Exception {
 
-        when(offerGetService.getAllOffers()).thenThrow(new RuntimeException(FATAL_ERROR));
+        when(offerGetService.getOffersPage(0L, 3)).thenThrow(new RuntimeException(FATAL_ERROR));
 
         mockMvc.perform(get(OFFER_URI_TEMPLATE))
           .andExpect(status().is5xxServerError());
 
-        verify(offerGetService, only()).getAllOffers();
+        verify(offerGetService, only()).getOffersPage(0L, 3);
         verify(offerDtoMapper, never()).toOfferResponseDTO(any(Offer.class));
     }
 
@@ -213,26 +513,168 @@ class OfferControllerTest {
 
         final var brandId = 1;
         final var partNumber = "0001002";
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+
+        when(offerTimelineCache.getTimeline(brandId, partNumber)).thenReturn(OfferTimeline.of(offers));
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+          .andExpect(jsonPath("$.length()").value(6))
+          .andExpect(jsonPath("$[0].startDate").value("2020-06-14T00.00.00Z"))
+          .andExpect(jsonPath("$[0].endDate").value("2020-06-14T14.59.59Z"))
+          .andExpect(jsonPath("$[0].price").value(35.50))
+          .andExpect(jsonPath("$[0].currencyIso").value("EUR"));
+
+        verify(offerTimelineCache, only()).getTimeline(brandId, partNumber);
+        verify(offerGetService, never()).getOffersByCriteria(brandId, partNumber);
+    }
 
-        final var offer = mock(Offer.class);
-        final var offerDateRangeFlattenedResponseDTO = mock(OfferDateRangeFlattenedResponseDTO.class);
+    @Test
+    @DisplayName("Test Get All Offers by criteria with ETag")
+    void testGetAllOffersByCriteriaWithETag() throws Exception {
 
-        final var mockOffers = List.of(offer, offer);
-        final var mockResponse = List.of(offerDateRangeFlattenedResponseDTO, offerDateRangeFlattenedResponseDTO);
+        final var brandId = 1;
+        final var partNumber = "0001002";
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+
+        when(offerTimelineCache.getTimeline(brandId, partNumber)).thenReturn(OfferTimeline.of(offers));
 
-        when(offerGetService.getOffersByCriteria(brandId, partNumber)).thenReturn(mockOffers);
+        final var eTag = mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber))
+          .andExpect(status().isOk())
+          .andExpect(header().exists(HttpHeaders.ETAG))
+          .andReturn()
+          .getResponse()
+          .getHeader(HttpHeaders.ETAG);
 
-        try (MockedStatic<OfferDateRangeFlattener> mockedStatic = mockStatic(OfferDateRangeFlattener.class)) {
-            mockedStatic.when(() -> flatten(mockOffers)).thenReturn(mockResponse);
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber).header(HttpHeaders.IF_NONE_MATCH, eTag))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string(HttpHeaders.ETAG, eTag))
+          .andExpect(content().bytes(new byte[0]));
 
-            mockMvc.perform(get("/brand/{brandId}/partnumber/{partNumber}/offer", brandId, partNumber))
-              .andExpect(status().isOk())
-              .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber).header(HttpHeaders.IF_NONE_MATCH, "\"other\""))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(6));
 
-            mockedStatic.verify(() -> flatten(mockOffers), times(1));
+        verify(objectMapper, times(1)).writeValueAsBytes(any());
+    }
+
+    @Test
+    @DisplayName("Test Get All Offers by criteria within a date window")
+    void testGetAllOffersByCriteriaWithinWindow() throws Exception {
+
+        final var brandId = 1;
+        final var partNumber = "0001002";
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+
+        when(offerTimelineCache.getTimeline(brandId, partNumber)).thenReturn(OfferTimeline.of(offers));
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber)
+            .param("from", "2020-06-14T16.00.00Z")
+            .param("to", "2020-06-15T12.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(4))
+          .andExpect(jsonPath("$[0].startDate").value("2020-06-14T16.00.00Z"))
+          .andExpect(jsonPath("$[0].endDate").value("2020-06-14T18.29.59Z"))
+          .andExpect(jsonPath("$[0].price").value(25.45))
+          .andExpect(jsonPath("$[3].startDate").value("2020-06-15T11.00.00Z"))
+          .andExpect(jsonPath("$[3].endDate").value("2020-06-15T12.00.00Z"))
+          .andExpect(jsonPath("$[3].price").value(35.50));
+    }
+
+    @Test
+    @DisplayName("Test Export Offers as NDJSON, plain and gzip-compressed")
+    void testExportOffers() throws Exception {
+
+        final var offers = List.of(Offer.builder().offerId(1L).build(), Offer.builder().offerId(2L).build());
+        final var offerResponseDTOS = List.of(OfferResponseDTO.builder().offerId(1L).brandId(1).build(),
+          OfferResponseDTO.builder().offerId(2L).brandId(1).build());
+        final var expectedBody = objectMapper.writeValueAsString(offerResponseDTOS.get(0)) + "\n"
+          + objectMapper.writeValueAsString(offerResponseDTOS.get(1)) + "\n";
+
+        doAnswer(invocation -> {
+            Consumer<Offer> action = invocation.getArgument(0);
+            offers.forEach(action);
+            return null;
+        }).when(offerGetService).exportOffers(any());
+        when(offerDtoMapper.toOfferResponseDTO(offers.get(0))).thenReturn(offerResponseDTOS.get(0));
+        when(offerDtoMapper.toOfferResponseDTO(offers.get(1))).thenReturn(offerResponseDTOS.get(1));
+
+        final var plainResult = mockMvc.perform(get(OFFER_URI_TEMPLATE + "/export"))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+        mockMvc.perform(asyncDispatch(plainResult))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+          .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+          .andExpect(content().string(expectedBody));
+
+        final var gzipResult = mockMvc.perform(get(OFFER_URI_TEMPLATE + "/export")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+        final var gzipBody = mockMvc.perform(asyncDispatch(gzipResult))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+          .andReturn()
+          .getResponse()
+          .getContentAsByteArray();
+
+        try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipBody))) {
+            assertEquals(expectedBody, new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
         }
+        verify(offerGetService, times(2)).exportOffers(any());
+    }
 
-        verify(offerGetService, only()).getOffersByCriteria(brandId, partNumber);
+    @Test
+    @DisplayName("Test Stream All Offers by criteria within a date window")
+    void testStreamAllOffersByCriteriaWithinWindow() throws Exception {
+
+        final var brandId = 1;
+        final var partNumber = "0001002";
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+
+        when(offerTimelineCache.getTimeline(brandId, partNumber)).thenReturn(OfferTimeline.of(offers));
+
+        final var mvcResult = mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber)
+            .param("stream", "true")
+            .param("from", "2020-06-14T16.00.00Z")
+            .param("to", "2020-06-15T12.00.00Z"))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+          .andExpect(status().isOk())
+          .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+          .andExpect(jsonPath("$.length()").value(4))
+          .andExpect(jsonPath("$[0].startDate").value("2020-06-14T16.00.00Z"))
+          .andExpect(jsonPath("$[0].price").value(25.45))
+          .andExpect(jsonPath("$[3].endDate").value("2020-06-15T12.00.00Z"))
+          .andExpect(jsonPath("$[3].currencyIso").value("EUR"));
+    }
+
+    @Test
+    @DisplayName("Test Get All Offers by criteria with invalid date window")
+    void testGetAllOffersByCriteriaWithInvalidWindow() throws Exception {
+
+        final var brandId = 1;
+        final var partNumber = "0001002";
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber).param("from", "2020-06-14 16:00:00"))
+          .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber)
+            .param("from", "2020-06-15T00.00.00Z")
+            .param("to", "2020-06-14T00.00.00Z"))
+          .andExpect(status().isBadRequest());
+
+        verify(offerTimelineCache, never()).getTimeline(brandId, partNumber);
     }
 
     @Test
@@ -242,16 +684,12 @@ class OfferControllerTest {
         final var brandId = 1;
         final var partNumber = "0001002";
 
-        when(offerGetService.getOffersByCriteria(brandId, partNumber)).thenThrow(new RuntimeException(FATAL_ERROR));
+        when(offerTimelineCache.getTimeline(brandId, partNumber)).thenThrow(new RuntimeException(FATAL_ERROR));
 
-        try (MockedStatic<OfferDateRangeFlattener> mockedStatic = mockStatic(OfferDateRangeFlattener.class)) {
-            mockMvc.perform(get("/brand/{brandId}/partnumber/{partNumber}/offer", brandId, partNumber))
-              .andExpect(status().is5xxServerError());
-
-            mockedStatic.verifyNoInteractions();
-        }
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, brandId, partNumber))
+          .andExpect(status().is5xxServerError());
 
-        verify(offerGetService, only()).getOffersByCriteria(brandId, partNumber);
+        verify(offerTimelineCache, only()).getTimeline(brandId, partNumber);
     }
 
     @Test
@@ -282,15 +720,13 @@ class OfferControllerTest {
     void testDeleteOfferByIdOK() throws Exception {
 
         final var offerId = 1L;
-        final var offer = mock(Offer.class);
 
-        when(offerGetService.getOfferById(offerId)).thenReturn(offer);
-        doNothing().when(offerDeleteService).deleteOfferById(offerId);
+        when(offerDeleteService.deleteOfferById(offerId)).thenReturn(true);
 
         mockMvc.perform(delete(OFFER_URI_TEMPLATE + "/{offerId}", offerId))
           .andExpect(status().isOk());
 
-        verify(offerGetService, only()).getOfferById(offerId);
+        verify(offerGetService, never()).getOfferById(anyLong());
         verify(offerDeleteService, only()).deleteOfferById(offerId);
     }
 
@@ -299,15 +735,12 @@ class OfferControllerTest {
     void testDeleteOfferByIdWithErrorService() throws Exception {
 
         final var offerId = 1L;
-        final var offer = mock(Offer.class);
 
-        when(offerGetService.getOfferById(offerId)).thenReturn(offer);
         doThrow(new RuntimeException(FATAL_ERROR)).when(offerDeleteService).deleteOfferById(offerId);
 
         mockMvc.perform(delete(OFFER_URI_TEMPLATE + "/{offerId}", offerId))
           .andExpect(status().is5xxServerError());
 
-        verify(offerGetService, only()).getOfferById(offerId);
         verify(offerDeleteService, only()).deleteOfferById(offerId);
     }
 
@@ -317,13 +750,13 @@ class OfferControllerTest {
 
         final var offerId = 1L;
 
-        when(offerGetService.getOfferById(offerId)).thenReturn(null);
+        when(offerDeleteService.deleteOfferById(offerId)).thenReturn(false);
 
         mockMvc.perform(delete(OFFER_URI_TEMPLATE + "/{offerId}", offerId))
           .andExpect(status().isNotFound());
 
-        verify(offerGetService, only()).getOfferById(offerId);
-        verify(offerDeleteService, never()).deleteOfferById(offerId);
+        verify(offerGetService, never()).getOfferById(anyLong());
+        verify(offerDeleteService, only()).deleteOfferById(offerId);
     }
 
     @Test
@@ -339,5 +772,92 @@ class OfferControllerTest {
         verify(offerDeleteService, never()).deleteOfferById(anyLong());
     }
 
+    @Test
+    @DisplayName("Test Delete Offers by brand and by part number OK")
+    void testDeleteOffersByBrandAndPartNumberOK() throws Exception {
+
+        final var brandId = 1;
+        final var partNumber = "0001002";
+
+        when(offerDeleteService.deleteOffersByBrand(brandId)).thenReturn(3);
+        when(offerDeleteService.deleteOffersByCriteria(brandId, partNumber)).thenReturn(2);
+
+        mockMvc.perform(delete("/brand/{brandId}/offer", brandId))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(delete(FLATTENED_URI_TEMPLATE, brandId, partNumber))
+          .andExpect(status().isOk());
+
+        verify(offerDeleteService).deleteOffersByBrand(brandId);
+        verify(offerDeleteService).deleteOffersByCriteria(brandId, partNumber);
+    }
+
+    @Test
+    @DisplayName("Test Delete Offers by invalid brand")
+    void testDeleteOffersByInvalidBrand() throws Exception {
+
+        mockMvc.perform(delete("/brand/{brandId}/offer", 0))
+          .andExpect(status().isBadRequest());
+
+        mockMvc.perform(delete(FLATTENED_URI_TEMPLATE, -1, "0001002"))
+          .andExpect(status().isBadRequest());
+
+        verify(offerDeleteService, never()).deleteOffersByBrand(any());
+        verify(offerDeleteService, never()).deleteOffersByCriteria(any(), any());
+    }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Test Get price by part number at date OK")
+    void testGetPriceByPartNumberOK() throws Exception {
+
+        final var brandId = 1;
+        final var partNumber = "0001002";
+        final var offer = Offer.builder()
+          .offerId(1L)
+          .brandId(brandId)
+          .productPartNumber(partNumber)
+          .startDate(ZonedDateTime.parse("2020-06-14T00:00:00Z"))
+          .endDate(ZonedDateTime.parse("2020-12-31T23:59:59Z"))
+          .priority(0)
+          .price(new BigDecimal("35.50"))
+          .currencyIso("EUR")
+          .build();
+
+        when(offerTimelineCache.getTimeline(brandId, partNumber)).thenReturn(OfferTimeline.of(List.of(offer)));
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, brandId, partNumber).param("date", "2020-06-14T16.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.startDate").value("2020-06-14T00.00.00Z"))
+          .andExpect(jsonPath("$.endDate").value("2020-12-31T23.59.58Z"))
+          .andExpect(jsonPath("$.price").value(35.50))
+          .andExpect(jsonPath("$.currencyIso").value("EUR"));
+
+        verify(offerTimelineCache, only()).getTimeline(brandId, partNumber);
+        verify(offerGetService, never()).getOffersByCriteria(any(), any());
+    }
+
+    @Test
+    @DisplayName("Test Get price by part number at date without offers")
+    void testGetPriceByPartNumberNotFound() throws Exception {
+
+        final var brandId = 1;
+        final var partNumber = "0001002";
+
+        when(offerTimelineCache.getTimeline(brandId, partNumber)).thenReturn(OfferTimeline.of(List.of()));
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, brandId, partNumber).param("date", "2020-06-14T16.00.00Z"))
+          .andExpect(status().isNotFound());
+
+        verify(offerTimelineCache, only()).getTimeline(brandId, partNumber);
+    }
+
+    @Test
+    @DisplayName("Test Get price by part number with invalid date")
+    void testGetPriceByPartNumberWithInvalidDate() throws Exception {
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2020-06-14 16:00:00"))
+          .andExpect(status().isBadRequest());
+
+        verify(offerTimelineCache, never()).getTimeline(any(), any());
+    }
+}
@@ -0,0 +1,133 @@
+package com.inditex.product.offer.adapter.inbound.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.inditex.product.offer.adapter.inbound.controller.advice.OfferControllerAdvice;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportFormat;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportJob;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportJob.RecordError;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportJob.Status;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImporter;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * This class test {@link OfferImportController}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferImportControllerTest {
+
+    private static final String IMPORT_URI_TEMPLATE = "/offer/import";
+
+    private static final String IMPORT_ID = "0f8fad5b-d9cb-469f-a165-70867728950e";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private OfferImporter offerImporter;
+
+    @InjectMocks
+    private OfferImportController offerImportController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(offerImportController)
+          .setControllerAdvice(new OfferControllerAdvice())
+          .build();
+    }
+
+    @Test
+    @DisplayName("Test Import Offers accepted")
+    void testImportOffersAccepted() throws Exception {
+
+        final var job = getJob(Status.RUNNING);
+        when(offerImporter.submit(eq("offers.csv"), eq(OfferImportFormat.CSV), any(Path.class))).thenReturn(job);
+
+        mockMvc.perform(post(IMPORT_URI_TEMPLATE)
+            .param("source", "offers.csv")
+            .contentType("text/csv")
+            .content("offerId,brandId\n"))
+          .andExpect(status().isAccepted())
+          .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/offer/import/" + IMPORT_ID))
+          .andExpect(jsonPath("$.importId").value(IMPORT_ID))
+          .andExpect(jsonPath("$.status").value("RUNNING"))
+          .andExpect(jsonPath("$.finishedAt").doesNotExist());
+
+        verify(offerImporter).submit(eq("offers.csv"), eq(OfferImportFormat.CSV), any(Path.class));
+    }
+
+    @Test
+    @DisplayName("Test Import Offers with unsupported content type")
+    void testImportOffersUnsupportedContentType() throws Exception {
+
+        mockMvc.perform(post(IMPORT_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_XML)
+            .content("<offers/>"))
+          .andExpect(status().isUnsupportedMediaType());
+
+        verify(offerImporter, never()).submit(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test Get Import OK and not found")
+    void testGetImport() throws Exception {
+
+        final var job = getJob(Status.COMPLETED);
+        when(offerImporter.getJob(IMPORT_ID)).thenReturn(Optional.of(job));
+        when(offerImporter.getJob("unknown")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get(IMPORT_URI_TEMPLATE + "/{importId}", IMPORT_ID))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.status").value("COMPLETED"))
+          .andExpect(jsonPath("$.format").value("CSV"))
+          .andExpect(jsonPath("$.imported").value(3))
+          .andExpect(jsonPath("$.rejected").value(1))
+          .andExpect(jsonPath("$.errors[0].line").value(4))
+          .andExpect(jsonPath("$.errors[0].errors[0]").value("The startDate is invalid"))
+          .andExpect(jsonPath("$.startedAt").value("2020-06-14T00.00.00Z"))
+          .andExpect(jsonPath("$.finishedAt").value("2020-06-14T00.01.00Z"));
+
+        mockMvc.perform(get(IMPORT_URI_TEMPLATE + "/{importId}", "unknown"))
+          .andExpect(status().isNotFound());
+    }
+
+    private static OfferImportJob getJob(Status status) {
+        final var job = mock(OfferImportJob.class);
+        when(job.getImportId()).thenReturn(IMPORT_ID);
+        when(job.getSource()).thenReturn("offers.csv");
+        when(job.getFormat()).thenReturn(OfferImportFormat.CSV);
+        when(job.getStatus()).thenReturn(status);
+        when(job.getRead()).thenReturn(4L);
+        when(job.getImported()).thenReturn(3L);
+        when(job.getRejected()).thenReturn(1L);
+        when(job.getErrors()).thenReturn(List.of(new RecordError(4, 3L, List.of("The startDate is invalid"))));
+        when(job.getStartedAt()).thenReturn(Instant.parse("2020-06-14T00:00:00Z"));
+        when(job.getFinishedAt()).thenReturn(status == Status.RUNNING ? null : Instant.parse("2020-06-14T00:01:00Z"));
+        return job;
+    }
+}
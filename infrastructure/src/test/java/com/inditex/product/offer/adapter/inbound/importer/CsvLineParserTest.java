@@ -0,0 +1,41 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class test {@link CsvLineParser}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class CsvLineParserTest {
+
+    @Test
+    @DisplayName("Test parse - Plain, empty and quoted fields")
+    void testParse() {
+        final var cases = Map.of(
+          "1,1,0001002", List.of("1", "1", "0001002"),
+          ",", List.of("", ""),
+          "1,,EUR", List.of("1", "", "EUR"),
+          "\"1\",\"a,b\",\"say \"\"hi\"\"\"", List.of("1", "a,b", "say \"hi\""),
+          "\"\",x", List.of("", "x"));
+
+        for (Map.Entry<String, List<String>> testCase : cases.entrySet()) {
+            assertThat(CsvLineParser.parse(testCase.getKey())).as(testCase.getKey()).isEqualTo(testCase.getValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Test parse - Malformed quoted fields")
+    void testParseMalformed() {
+        for (String line : List.of("\"1,2", "\"1\"2,3")) {
+            assertThatThrownBy(() -> CsvLineParser.parse(line)).as(line).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportJob.Status;
+import com.inditex.product.offer.adapter.inbound.mapper.OfferDtoMapper;
+import com.inditex.product.offer.configuration.OfferBatchProperties;
+import com.inditex.product.offer.configuration.OfferImportProperties;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.service.BrandGetService;
+import com.inditex.product.offer.service.OfferCreateService;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.SyncTaskExecutor;
+
+/**
+ * This class test {@link OfferImporter}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferImporterTest {
+
+    private static final String CSV_HEADER =
+      "offerId,brandId,startDate,endDate,priceListId,productPartnumber,priority,price,currencyIso\n";
+
+    @Mock
+    private OfferCreateService offerCreateService;
+
+    @Mock
+    private BrandGetService brandGetService;
+
+    @Captor
+    private ArgumentCaptor<List<Offer>> offersCaptor;
+
+    private OfferImporter offerImporter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(brandGetService.existsBrand(1)).thenReturn(true);
+        offerImporter = getOfferImporter(OfferImportProperties.builder().maxErrors(1).build());
+    }
+
+    @Test
+    @DisplayName("Test importOffers - CSV records are validated and written in batches")
+    void testImportCsv() {
+        final var csv = CSV_HEADER
+          + "1,1,2020-06-14T00.00.00Z,2020-12-31T23.59.59Z,1,0001002,0,35.50,EUR\n"
+          + "\n"
+          + "2,1,2020-06-14T15.00.00Z,2020-06-14T18.30.00Z,2,0001002,1,25.45,EUR\n"
+          + "3,1,invalid,2020-06-15T11.00.00Z,3,0001002,1,30.50,EUR\n"
+          + "4,1,2020-06-15T16.00.00Z\n"
+          + "\"5\",1,2020-06-15T16.00.00Z,2020-12-31T23.59.59Z,4,\"0001002\",1,38.95,EUR\n";
+
+        final var job = offerImporter.importOffers("offers.csv", OfferImportFormat.CSV, toInputStream(csv));
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getRead()).isEqualTo(5);
+        assertThat(job.getImported()).isEqualTo(3);
+        assertThat(job.getRejected()).isEqualTo(2);
+        assertThat(job.getErrors()).containsExactly(
+          new OfferImportJob.RecordError(5, 3L, List.of("The startDate is invalid")));
+        assertThat(job.getFinishedAt()).isNotNull();
+
+        verify(offerCreateService, times(2)).upsertOffers(offersCaptor.capture());
+        assertThat(offersCaptor.getAllValues())
+          .extracting(offers -> offers.stream().map(Offer::getOfferId).toList())
+          .containsExactly(List.of(1L, 2L), List.of(5L));
+        assertThat(offersCaptor.getAllValues().getFirst().getFirst().getPrice()).isEqualByComparingTo("35.50");
+    }
+
+    @Test
+    @DisplayName("Test importOffers - NDJSON records, invalid lines are rejected")
+    void testImportNdjson() {
+        offerImporter = getOfferImporter(new OfferImportProperties());
+        final var ndjson = """
+          {"offerId":1,"brandId":1,"startDate":"2020-06-14T00.00.00Z","endDate":"2020-12-31T23.59.59Z",\
+          "priceListId":1,"productPartnumber":"0001002","priority":0,"price":35.50,"currencyIso":"EUR"}
+          {"offerId":2,
+          null
+          {"offerId":3,"unknown":1}
+          {"offerId":4,"brandId":2,"startDate":"2020-06-14T00.00.00Z","endDate":"2020-12-31T23.59.59Z",\
+          "priceListId":1,"productPartnumber":"0001002","priority":0,"price":35.50,"currencyIso":"EUR"}
+          """;
+
+        final var job = offerImporter.importOffers("offers.ndjson", OfferImportFormat.NDJSON, toInputStream(ndjson));
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getImported()).isEqualTo(1);
+        assertThat(job.getErrors()).extracting(OfferImportJob.RecordError::line).containsExactly(2L, 3L, 4L, 5L);
+        assertThat(job.getErrors()).extracting(OfferImportJob.RecordError::errors).containsExactly(
+          List.of("The record is not valid JSON"), List.of("The offer is required"), List.of("The record is not valid JSON"),
+          List.of("The brandId is unknown"));
+    }
+
+    @Test
+    @DisplayName("Test importOffers - A repeated offer is written after the previous one")
+    void testImportRepeatedOffer() {
+        final var csv = CSV_HEADER
+          + "1,1,2020-06-14T00.00.00Z,2020-12-31T23.59.59Z,1,0001002,0,35.50,EUR\n"
+          + "1,1,2020-06-14T00.00.00Z,2020-12-31T23.59.59Z,1,0001002,0,30.00,EUR\n";
+
+        final var job = offerImporter.importOffers("offers.csv", OfferImportFormat.CSV, toInputStream(csv));
+
+        assertThat(job.getImported()).isEqualTo(2);
+        verify(offerCreateService, times(2)).upsertOffers(offersCaptor.capture());
+        assertThat(offersCaptor.getAllValues().getLast().getFirst().getPrice()).isEqualByComparingTo("30.00");
+    }
+
+    @Test
+    @DisplayName("Test importOffers - Unknown CSV column or write error fail the import")
+    void testImportFailures() {
+        var job = offerImporter.importOffers("offers.csv", OfferImportFormat.CSV,
+          toInputStream("offerId,discount\n1,10\n"));
+
+        assertThat(job.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(job.getFailure()).contains("[discount]");
+        verify(offerCreateService, never()).upsertOffers(anyList());
+
+        when(offerCreateService.upsertOffers(anyList())).thenThrow(new IllegalStateException("Database error"));
+        job = offerImporter.importOffers("offers.csv", OfferImportFormat.CSV, toInputStream(CSV_HEADER
+          + "1,1,2020-06-14T00.00.00Z,2020-12-31T23.59.59Z,1,0001002,0,35.50,EUR\n"));
+
+        assertThat(job.getStatus()).isEqualTo(Status.FAILED);
+        assertThat(job.getFailure()).isEqualTo("Database error");
+        assertThat(job.getImported()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test submit - The file is imported, deleted and its progress retained")
+    void testSubmit() throws IOException {
+        final var file = Files.createTempFile("offers-", ".csv");
+        Files.writeString(file, CSV_HEADER + "1,1,2020-06-14T00.00.00Z,2020-12-31T23.59.59Z,1,0001002,0,35.50,EUR\n");
+
+        final var job = offerImporter.submit("offers.csv", OfferImportFormat.CSV, file);
+
+        assertThat(job.getStatus()).isEqualTo(Status.COMPLETED);
+        assertThat(job.getImported()).isEqualTo(1);
+        assertThat(Files.exists(file)).isFalse();
+        assertThat(offerImporter.getJob(job.getImportId())).containsSame(job);
+        assertThat(offerImporter.getJob("unknown")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test getJob - Only the last imports are retained")
+    void testRetainedImports() {
+        offerImporter = getOfferImporter(OfferImportProperties.builder().retainedImports(1).build());
+
+        final var firstJob = offerImporter.importOffers("first.csv", OfferImportFormat.CSV, toInputStream(CSV_HEADER));
+        final var secondJob = offerImporter.importOffers("second.csv", OfferImportFormat.CSV, toInputStream(CSV_HEADER));
+
+        assertThat(offerImporter.getJob(firstJob.getImportId())).isEmpty();
+        assertThat(offerImporter.getJob(secondJob.getImportId())).containsSame(secondJob);
+    }
+
+    private OfferImporter getOfferImporter(OfferImportProperties offerImportProperties) {
+        return new OfferImporter(offerCreateService, brandGetService, Mappers.getMapper(OfferDtoMapper.class),
+          new ObjectMapper(),
+          new SyncTaskExecutor(), OfferBatchProperties.builder().size(2).build(), offerImportProperties);
+    }
+
+    private static ByteArrayInputStream toInputStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.inditex.product.offer.adapter.inbound.importer;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.adapter.inbound.importer.OfferImportJob.Status;
+import com.inditex.product.offer.configuration.OfferImportProperties;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * This class test {@link OfferStartupImporter}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferStartupImporterTest {
+
+    private static final String STARTUP_LOCATION = "classpath:offers.csv";
+
+    @Mock
+    private OfferImporter offerImporter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Test run - The startup file is imported")
+    void testRunImportsStartupFile() throws Exception {
+        final var job = mock(OfferImportJob.class);
+        when(job.getStatus()).thenReturn(Status.COMPLETED);
+        when(offerImporter.importOffers(eq(STARTUP_LOCATION), eq(OfferImportFormat.CSV), any())).thenReturn(job);
+
+        getOfferStartupImporter(STARTUP_LOCATION).run(new DefaultApplicationArguments());
+
+        verify(offerImporter).importOffers(eq(STARTUP_LOCATION), eq(OfferImportFormat.CSV), any());
+    }
+
+    @Test
+    @DisplayName("Test run - Nothing is imported without a startup file")
+    void testRunWithoutStartupFile() throws Exception {
+        for (String startupLocation : List.of("", " ")) {
+            getOfferStartupImporter(startupLocation).run(new DefaultApplicationArguments());
+        }
+
+        verify(offerImporter, never()).importOffers(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test run - A failed or unsupported startup file stops the application")
+    void testRunFails() {
+        final var job = mock(OfferImportJob.class);
+        when(job.getStatus()).thenReturn(Status.FAILED);
+        when(offerImporter.importOffers(eq(STARTUP_LOCATION), eq(OfferImportFormat.CSV), any())).thenReturn(job);
+
+        assertThatThrownBy(() -> getOfferStartupImporter(STARTUP_LOCATION).run(new DefaultApplicationArguments()))
+          .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> getOfferStartupImporter("classpath:offers.xml").run(new DefaultApplicationArguments()))
+          .isInstanceOf(IllegalStateException.class);
+    }
+
+    private OfferStartupImporter getOfferStartupImporter(String startupLocation) {
+        return new OfferStartupImporter(offerImporter, new DefaultResourceLoader(),
+          OfferImportProperties.builder().startupLocation(startupLocation).build());
+    }
+}
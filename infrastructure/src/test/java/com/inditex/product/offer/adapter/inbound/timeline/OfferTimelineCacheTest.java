@@ -0,0 +1,222 @@
+package com.inditex.product.offer.adapter.inbound.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.configuration.FlattenerProperties;
+import com.inditex.product.offer.configuration.OfferTimelineCacheProperties;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.service.OfferGetService;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+/**
+ * This class test {@link OfferTimelineCache}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferTimelineCacheTest {
+
+    private static final Integer BRAND_ID = 1;
+
+    private static final String PART_NUMBER = "0001002";
+
+    @Mock
+    private OfferGetService offerGetService;
+
+    @Spy
+    private FlattenerProperties flattenerProperties = new FlattenerProperties();
+
+    @Spy
+    private OfferTimelineCacheProperties offerTimelineCacheProperties = new OfferTimelineCacheProperties();
+
+    @InjectMocks
+    private OfferTimelineCache offerTimelineCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(offerGetService.getOffersByCriteria(BRAND_ID, PART_NUMBER)).thenReturn(List.of(getOffer(1L, PART_NUMBER)));
+    }
+
+    @Test
+    @DisplayName("Test getTimeline - Timeline is loaded only once")
+    void testGetTimelineIsCached() {
+
+        final var timeline = offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER)).isSameAs(timeline);
+        assertThat(timeline.size()).isEqualTo(1);
+        verify(offerGetService, times(1)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test getTimeline - Product without offers is not cached")
+    void testGetTimelineWithoutOffersIsNotCached() {
+        when(offerGetService.getOffersByCriteria(BRAND_ID, "0001003")).thenReturn(List.of());
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, "0001003").size()).isZero();
+        offerTimelineCache.getTimeline(BRAND_ID, "0001003");
+
+        assertThat(offerTimelineCache.size()).isZero();
+        verify(offerGetService, times(2)).getOffersByCriteria(BRAND_ID, "0001003");
+    }
+
+    @Test
+    @DisplayName("Test getTimeline - Least recently used timeline and its offers are evicted")
+    void testGetTimelineEvictsLeastRecentlyUsed() {
+        offerTimelineCache = new OfferTimelineCache(offerGetService, flattenerProperties,
+          OfferTimelineCacheProperties.builder().maximumSize(1).build());
+        when(offerGetService.getOffersByCriteria(BRAND_ID, "0001003")).thenReturn(List.of(getOffer(2L, "0001003")));
+
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        final var otherTimeline = offerTimelineCache.getTimeline(BRAND_ID, "0001003");
+        offerTimelineCache.offerCreated(getOffer(1L, "0001003", "2021-01-01T00:00:00Z", "2021-01-31T23:59:59Z"));
+
+        assertThat(offerTimelineCache.size()).isEqualTo(1);
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, "0001003")).isNotSameAs(otherTimeline)
+          .satisfies(timeline -> assertThat(timeline.size()).isEqualTo(2));
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        verify(offerGetService, times(2)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test offerCreated - Timeline of the same product is patched")
+    void testOfferCreatedPatchesTimeline() {
+
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        offerTimelineCache.offerCreated(getOffer(2L, PART_NUMBER, "2021-01-01T00:00:00Z", "2021-01-31T23:59:59Z"));
+
+        final var timeline = offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+
+        assertThat(timeline.size()).isEqualTo(2);
+        assertThat(timeline.segmentAt(ZonedDateTime.parse("2021-01-15T00:00:00Z").toEpochSecond())).isPresent();
+        verify(offerGetService, times(1)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test offerCreated - Existing offer moved to other product is removed from its timeline")
+    void testOfferCreatedReplacesExistingOffer() {
+
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        offerTimelineCache.offerCreated(getOffer(1L, "0001003"));
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER).size()).isZero();
+        verify(offerGetService, times(1)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test offerCreated - Timeline of other product is kept")
+    void testOfferCreatedKeepsOtherTimelines() {
+
+        final var timeline = offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        offerTimelineCache.offerCreated(getOffer(2L, "0001003"));
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER)).isSameAs(timeline);
+        verify(offerGetService, times(1)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test offersCreated - Timelines of every product are patched once")
+    void testOffersCreatedPatchesTimelines() {
+        when(offerGetService.getOffersByCriteria(BRAND_ID, "0001003")).thenReturn(List.of(getOffer(2L, "0001003")));
+
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        offerTimelineCache.getTimeline(BRAND_ID, "0001003");
+        final var offers = List.of(getOffer(2L, PART_NUMBER, "2021-01-01T00:00:00Z", "2021-01-31T23:59:59Z"),
+          getOffer(3L, PART_NUMBER, "2021-02-01T00:00:00Z", "2021-02-28T23:59:59Z"),
+          getOffer(4L, "0001003"));
+        offerTimelineCache.offersCreated(offers);
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER).segments()).isEqualTo(
+          OfferTimeline.of(List.of(getOffer(1L, PART_NUMBER), offers.get(0), offers.get(1))).segments());
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, "0001003").segments()).isEqualTo(
+          OfferTimeline.of(List.of(offers.get(2))).segments());
+        verify(offerGetService, times(1)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+        verify(offerGetService, times(1)).getOffersByCriteria(BRAND_ID, "0001003");
+    }
+
+    @Test
+    @DisplayName("Test offerDeleted - Timeline containing the offer is patched")
+    void testOfferDeletedPatchesTimeline() {
+
+        final var timeline = offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        offerTimelineCache.offerDeleted(2L);
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER)).isSameAs(timeline);
+
+        offerTimelineCache.offerDeleted(1L);
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER).size()).isZero();
+        verify(offerGetService, times(1)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test productOffersDeleted - Only the timeline of the product is reloaded")
+    void testProductOffersDeletedInvalidatesTimeline() {
+        when(offerGetService.getOffersByCriteria(BRAND_ID, "0001003")).thenReturn(List.of(getOffer(2L, "0001003")));
+
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        final var otherTimeline = offerTimelineCache.getTimeline(BRAND_ID, "0001003");
+        offerTimelineCache.productOffersDeleted(BRAND_ID, PART_NUMBER);
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+
+        assertThat(offerTimelineCache.getTimeline(BRAND_ID, "0001003")).isSameAs(otherTimeline);
+        verify(offerGetService, times(2)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test brandOffersDeleted - Timelines of the brand are reloaded")
+    void testBrandOffersDeletedInvalidatesTimelines() {
+        final var otherOffer = getOffer(2L, PART_NUMBER);
+        otherOffer.setBrandId(2);
+        when(offerGetService.getOffersByCriteria(2, PART_NUMBER)).thenReturn(List.of(otherOffer));
+
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        final var otherTimeline = offerTimelineCache.getTimeline(2, PART_NUMBER);
+        offerTimelineCache.brandOffersDeleted(BRAND_ID);
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+
+        assertThat(offerTimelineCache.getTimeline(2, PART_NUMBER)).isSameAs(otherTimeline);
+        verify(offerGetService, times(2)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test allOffersDeleted - All timelines are reloaded")
+    void testAllOffersDeletedInvalidatesTimelines() {
+
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+        offerTimelineCache.allOffersDeleted();
+        offerTimelineCache.getTimeline(BRAND_ID, PART_NUMBER);
+
+        verify(offerGetService, times(2)).getOffersByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    private static Offer getOffer(Long offerId, String partNumber) {
+        return getOffer(offerId, partNumber, "2020-06-14T00:00:00Z", "2020-12-31T23:59:59Z");
+    }
+
+    private static Offer getOffer(Long offerId, String partNumber, String startDate, String endDate) {
+        return Offer.builder()
+          .offerId(offerId)
+          .brandId(BRAND_ID)
+          .productPartNumber(partNumber)
+          .startDate(ZonedDateTime.parse(startDate))
+          .endDate(ZonedDateTime.parse(endDate))
+          .priority(0)
+          .price(new BigDecimal("35.50"))
+          .currencyIso("EUR")
+          .build();
+    }
+}
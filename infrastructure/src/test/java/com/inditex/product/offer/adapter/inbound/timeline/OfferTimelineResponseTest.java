@@ -0,0 +1,90 @@
+package com.inditex.product.offer.adapter.inbound.timeline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.inditex.product.offer.model.Offer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+/**
+ * This class test {@link OfferTimelineResponse} and the responses held by {@link OfferTimeline}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferTimelineResponseTest {
+
+    private static final Integer BRAND_ID = 1;
+
+    private static final String PART_NUMBER = "0001002";
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    private final Function<OfferTimeline, byte[]> renderer = timeline -> {
+        renders.incrementAndGet();
+        return String.valueOf(timeline.size()).getBytes(StandardCharsets.UTF_8);
+    };
+
+    @Test
+    @DisplayName("Test getResponse - Response is rendered once per timeline")
+    void testGetResponseIsCachedPerTimeline() {
+        final var timeline = OfferTimeline.of(List.of(getOffer(1L)));
+
+        final var response = getResponse(timeline, MediaType.APPLICATION_JSON);
+
+        assertThat(getResponse(timeline, MediaType.APPLICATION_JSON)).isSameAs(response);
+        assertThat(response.eTag()).startsWith("\"").endsWith("\"").hasSize(34);
+        assertThat(renders).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Test getResponse - Response is rendered again for a new timeline")
+    void testGetResponseIsRenderedForNewTimeline() {
+        final var timeline = OfferTimeline.of(List.of(getOffer(1L)));
+        final var response = getResponse(timeline, MediaType.APPLICATION_JSON);
+
+        final var sameContent = getResponse(OfferTimeline.of(List.of(getOffer(1L))), MediaType.APPLICATION_JSON);
+        final var otherContent = getResponse(timeline.withOffer(getOffer(2L)), MediaType.APPLICATION_JSON);
+
+        assertThat(sameContent).isNotSameAs(response);
+        assertThat(sameContent.eTag()).isEqualTo(response.eTag());
+        assertThat(otherContent.eTag()).isNotEqualTo(response.eTag());
+        assertThat(renders).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Test getResponse - Response is cached per content type")
+    void testGetResponseIsCachedPerContentType() {
+        final var timeline = OfferTimeline.of(List.of(getOffer(1L)));
+
+        getResponse(timeline, MediaType.APPLICATION_JSON);
+        getResponse(timeline, MediaType.APPLICATION_NDJSON);
+        getResponse(timeline, MediaType.APPLICATION_JSON);
+
+        assertThat(renders).hasValue(2);
+    }
+
+    private OfferTimelineResponse getResponse(OfferTimeline timeline, MediaType contentType) {
+        return timeline.getResponse(contentType, renderer);
+    }
+
+    private static Offer getOffer(Long offerId) {
+        return Offer.builder()
+          .offerId(offerId)
+          .brandId(BRAND_ID)
+          .productPartNumber(PART_NUMBER)
+          .startDate(ZonedDateTime.parse("2020-06-14T00:00:00Z").plusDays(offerId))
+          .endDate(ZonedDateTime.parse("2020-12-31T23:59:59Z"))
+          .priority(0)
+          .price(new BigDecimal("35.50"))
+          .currencyIso("EUR")
+          .build();
+    }
+}
@@ -0,0 +1,229 @@
+package com.inditex.product.offer.adapter.inbound.timeline;
+
+import static com.inditex.product.offer.adapter.inbound.utils.ZonedDateTimeUtils.dateFormatter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static util.FileLoader.getObjectFromJsonFile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.inditex.product.offer.adapter.inbound.dto.OfferDateRangeFlattenedResponseDTO;
+import com.inditex.product.offer.adapter.inbound.utils.FlattenerEngine;
+import com.inditex.product.offer.model.Offer;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class test {@link OfferTimeline}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferTimelineTest {
+
+    private static final String OFFERS_PATH = "src/test/resources/Offers.json";
+
+    private static final String OFFERS_DATE_RANGE_FLATTENED_RESPONSE_PATH = "src/test/resources/OffersDateRangeFlattenedResponseDTO.json";
+
+    private static final ZonedDateTime BASE_DATE = ZonedDateTime.parse("2020-06-14T00:00:00Z");
+
+    private static final List<BigDecimal> PRICES = List.of(new BigDecimal("35.50"), new BigDecimal("35.5"),
+      new BigDecimal("25.45"), new BigDecimal("30"));
+
+    @Test
+    @DisplayName("Test segmentAt - Every flattened range is resolved at its bounds")
+    void testSegmentAtFlattenedRangeBounds() throws IOException {
+
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+        final List<OfferDateRangeFlattenedResponseDTO> flattenedRanges = getObjectFromJsonFile(
+          OFFERS_DATE_RANGE_FLATTENED_RESPONSE_PATH, new TypeReference<>() {
+          });
+
+        final var timeline = OfferTimeline.of(offers);
+
+        assertThat(timeline.size()).isEqualTo(flattenedRanges.size());
+        flattenedRanges.forEach(flattenedRange -> {
+            final var expected = new OfferTimeline.Segment(toEpochSecond(flattenedRange.getStartDate()),
+              toEpochSecond(flattenedRange.getEndDate()), flattenedRange.getPrice(), flattenedRange.getCurrencyIso());
+
+            assertThat(timeline.segmentAt(expected.startEpochSecond())).contains(expected);
+            assertThat(timeline.segmentAt(expected.endEpochSecond())).contains(expected);
+        });
+    }
+
+    @Test
+    @DisplayName("Test segmentAt - Instants outside the offers have no segment")
+    void testSegmentAtOutsideOffers() throws IOException {
+
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+
+        final var timeline = OfferTimeline.of(offers);
+
+        assertThat(timeline.segmentAt(toEpochSecond("2020-06-13T23.59.59Z"))).isEmpty();
+        assertThat(timeline.segmentAt(toEpochSecond("2020-12-31T23.59.59Z"))).isEmpty();
+        assertThat(timeline.segmentAt(toEpochSecond("2021-01-01T00.00.00Z"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test segmentAt - Empty timeline")
+    void testSegmentAtEmptyTimeline() {
+
+        final var timeline = OfferTimeline.of(List.of());
+
+        assertThat(timeline.size()).isZero();
+        assertThat(timeline.segmentAt(toEpochSecond("2020-06-14T00.00.00Z"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test segments - Segments match the flattened ranges")
+    void testSegmentsMatchFlattenedRanges() throws IOException {
+
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+        final List<OfferDateRangeFlattenedResponseDTO> flattenedRanges = getObjectFromJsonFile(
+          OFFERS_DATE_RANGE_FLATTENED_RESPONSE_PATH, new TypeReference<>() {
+          });
+
+        final var segments = OfferTimeline.of(offers).segments();
+
+        assertThat(segments).hasSameSizeAs(flattenedRanges);
+        for (int i = 0; i < segments.size(); i++) {
+            assertThat(segments.get(i).startEpochSecond()).isEqualTo(toEpochSecond(flattenedRanges.get(i).getStartDate()));
+            assertThat(segments.get(i).endEpochSecond()).isEqualTo(toEpochSecond(flattenedRanges.get(i).getEndDate()));
+            assertThat(segments.get(i).price()).isEqualTo(flattenedRanges.get(i).getPrice());
+        }
+    }
+
+    @Test
+    @DisplayName("Test withOffer and withoutOffer - Patched timeline matches a rebuilt timeline")
+    void testPatchedTimelineMatchesRebuiltTimeline() {
+
+        for (FlattenerEngine flattenerEngine : FlattenerEngine.values()) {
+            final var random = new Random(7);
+            final List<Offer> offers = new ArrayList<>();
+            var timeline = OfferTimeline.of(offers, flattenerEngine);
+
+            for (int change = 0; change < 300; change++) {
+                if (!offers.isEmpty() && random.nextInt(3) == 0) {
+                    timeline = timeline.withoutOffer(offers.remove(random.nextInt(offers.size())));
+                } else {
+                    final var startDate = BASE_DATE.plusMinutes(random.nextInt(600));
+                    final var offer = getOffer(random.nextLong(1000), startDate,
+                      startDate.plusMinutes(random.nextInt(45)), random.nextInt(3), PRICES.get(random.nextInt(PRICES.size())));
+                    for (Offer existingOffer : List.copyOf(offers)) {
+                        if (existingOffer.getOfferId().equals(offer.getOfferId())) {
+                            offers.remove(existingOffer);
+                            timeline = timeline.withoutOffer(existingOffer);
+                        }
+                    }
+                    offers.add(offer);
+                    timeline = timeline.withOffer(offer);
+                }
+
+                assertThat(timeline.segments()).isEqualTo(OfferTimeline.of(offers, flattenerEngine).segments());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test withOffers and withoutOffers - Timeline patched in batches matches a rebuilt timeline")
+    void testBatchPatchedTimelineMatchesRebuiltTimeline() {
+
+        for (FlattenerEngine flattenerEngine : FlattenerEngine.values()) {
+            final var random = new Random(11);
+            final List<Offer> offers = new ArrayList<>();
+            var timeline = OfferTimeline.of(offers, flattenerEngine);
+
+            for (int change = 0; change < 100; change++) {
+                final List<Offer> removedOffers = new ArrayList<>();
+                while (!offers.isEmpty() && random.nextInt(3) != 0) {
+                    removedOffers.add(offers.remove(random.nextInt(offers.size())));
+                }
+                timeline = timeline.withoutOffers(removedOffers);
+
+                final List<Offer> addedOffers = new ArrayList<>();
+                for (int i = random.nextInt(6); i > 0; i--) {
+                    final var startDate = BASE_DATE.plusMinutes(random.nextInt(600));
+                    addedOffers.add(getOffer(1000L * change + i, startDate, startDate.plusMinutes(random.nextInt(45)),
+                      random.nextInt(3), PRICES.get(random.nextInt(PRICES.size()))));
+                }
+                offers.addAll(addedOffers);
+                timeline = timeline.withOffers(addedOffers);
+
+                assertThat(timeline.segments()).isEqualTo(OfferTimeline.of(offers, flattenerEngine).segments());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test segmentsOverlapping - Segments are clipped to the window")
+    void testSegmentsOverlappingClipsToWindow() throws IOException {
+
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+        final var timeline = OfferTimeline.of(offers);
+
+        final var segments = timeline.segmentsOverlapping(toEpochSecond("2020-06-14T16.00.00Z"),
+          toEpochSecond("2020-06-15T12.00.00Z"));
+
+        assertThat(segments).hasSize(4);
+        assertThat(segments.getFirst().startEpochSecond()).isEqualTo(toEpochSecond("2020-06-14T16.00.00Z"));
+        assertThat(segments.getFirst().endEpochSecond()).isEqualTo(toEpochSecond("2020-06-14T18.29.59Z"));
+        assertThat(segments.getLast().startEpochSecond()).isEqualTo(toEpochSecond("2020-06-15T11.00.00Z"));
+        assertThat(segments.getLast().endEpochSecond()).isEqualTo(toEpochSecond("2020-06-15T12.00.00Z"));
+        assertThat(timeline.segmentsOverlapping(Long.MIN_VALUE, Long.MAX_VALUE)).isEqualTo(timeline.segments());
+        assertThat(timeline.segmentsOverlapping(toEpochSecond("2021-01-01T00.00.00Z"), Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test segmentIterator - Segments are iterated lazily across clusters")
+    void testSegmentIterator() {
+
+        final var timeline = OfferTimeline.of(List.of(
+          getOffer(1L, BASE_DATE, BASE_DATE.plusHours(2), 0, PRICES.get(0)),
+          getOffer(2L, BASE_DATE.plusHours(1), BASE_DATE.plusHours(2), 1, PRICES.get(2)),
+          getOffer(3L, BASE_DATE.plusDays(1), BASE_DATE.plusDays(2), 0, PRICES.get(3))));
+
+        final var iterator = timeline.segmentIterator(BASE_DATE.plusMinutes(90).toEpochSecond(), Long.MAX_VALUE);
+
+        assertThat(iterator.next()).isEqualTo(new OfferTimeline.Segment(BASE_DATE.plusMinutes(90).toEpochSecond(),
+          BASE_DATE.plusHours(2).toEpochSecond() - 1, PRICES.get(2), "USD"));
+        assertThat(iterator.next().price()).isEqualTo(PRICES.get(3));
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Test withoutOffer - Unknown offer keeps the timeline")
+    void testWithoutUnknownOffer() {
+
+        final var timeline = OfferTimeline.of(List.of(getOffer(1L, BASE_DATE, BASE_DATE.plusDays(1), 0, PRICES.get(0))));
+
+        assertThat(timeline.withoutOffer(getOffer(2L, BASE_DATE, BASE_DATE.plusDays(1), 0, PRICES.get(0))))
+          .isSameAs(timeline);
+    }
+
+    private static Offer getOffer(Long offerId, ZonedDateTime startDate, ZonedDateTime endDate, Integer priority,
+      BigDecimal price) {
+        return Offer.builder()
+          .offerId(offerId)
+          .startDate(startDate)
+          .endDate(endDate)
+          .priority(priority)
+          .price(price)
+          .currencyIso(offerId % 2 == 0 ? "EUR" : "USD")
+          .build();
+    }
+
+    private static long toEpochSecond(String date) {
+        return ZonedDateTime.parse(date, dateFormatter).toEpochSecond();
+    }
+}
@@ -8,7 +8,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.inditex.product.offer.adapter.inbound.dto.OfferDateRangeFlattenedResponseDTO;
 import com.inditex.product.offer.model.Offer;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +23,11 @@ class OfferDateRangeFlattenerTest {
 
     private static final String OFFERS_DATE_RANGE_FLATTENED_RESPONSE_PATH = "src/test/resources/OffersDateRangeFlattenedResponseDTO.json";
 
+    private static final ZonedDateTime BASE_DATE = ZonedDateTime.parse("2020-06-14T00:00:00Z");
+
+    private static final List<BigDecimal> PRICES = List.of(new BigDecimal("35.50"), new BigDecimal("35.5"),
+      new BigDecimal("25.45"), new BigDecimal("30"), new BigDecimal("38.95"));
+
     @Test
     @DisplayName("Test flatten - Resolves overlapping date ranges")
     void testFlattenOverlappingDateRanges() throws IOException {
@@ -38,4 +48,75 @@ class OfferDateRangeFlattenerTest {
         assertThat(result).usingRecursiveComparison().isEqualTo(offerDateRangeFlattenedResponseDTOS);
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test flatten - Primitive engine resolves overlapping date ranges")
+    void testFlattenPrimitiveEngineOverlappingDateRanges() throws IOException {
+
+        final List<Offer> offers = getObjectFromJsonFile(OFFERS_PATH, new TypeReference<>() {
+        });
+
+        final List<OfferDateRangeFlattenedResponseDTO> offerDateRangeFlattenedResponseDTOS = getObjectFromJsonFile(
+          OFFERS_DATE_RANGE_FLATTENED_RESPONSE_PATH, new TypeReference<>() {
+          });
+
+        List<OfferDateRangeFlattenedResponseDTO> result = flatten(offers, FlattenerEngine.PRIMITIVE);
+
+        assertThat(result).usingRecursiveComparison().isEqualTo(offerDateRangeFlattenedResponseDTOS);
+    }
+
+    @Test
+    @DisplayName("Test flatten - Primitive engine matches the classic engine")
+    void testFlattenPrimitiveEngineMatchesClassicEngine() {
+
+        final var random = new Random(42);
+
+        for (int iteration = 0; iteration < 500; iteration++) {
+            final var offers = new ArrayList<Offer>();
+            final var size = 1 + random.nextInt(40);
+            for (int i = 0; i < size; i++) {
+                final var startDate = BASE_DATE.plusMinutes(random.nextInt(120));
+                offers.add(getOffer(startDate, startDate.plusMinutes(random.nextInt(60)), random.nextInt(3),
+                  PRICES.get(random.nextInt(PRICES.size())), random.nextBoolean() ? "EUR" : "USD"));
+            }
+
+            assertThat(flatten(offers, FlattenerEngine.PRIMITIVE))
+              .usingRecursiveComparison()
+              .isEqualTo(flatten(offers, FlattenerEngine.CLASSIC));
+        }
+    }
+
+    @Test
+    @DisplayName("Test flatten - Primitive engine falls back to the classic engine")
+    void testFlattenPrimitiveEngineFallsBackToClassicEngine() {
+
+        final var offers = List.of(
+          getOffer(BASE_DATE, BASE_DATE.plusHours(2).plusNanos(500), 0, PRICES.get(0), "EUR"),
+          getOffer(BASE_DATE.withZoneSameInstant(ZoneId.of("Europe/Madrid")).plusHours(1), BASE_DATE.plusHours(3), 1,
+            PRICES.get(2), "EUR"));
+
+        assertThat(flatten(offers, FlattenerEngine.PRIMITIVE))
+          .hasSize(3)
+          .usingRecursiveComparison()
+          .isEqualTo(flatten(offers, FlattenerEngine.CLASSIC));
+    }
+
+    @Test
+    @DisplayName("Test flatten - Empty offers")
+    void testFlattenEmptyOffers() {
+
+        assertThat(flatten(List.of(), FlattenerEngine.PRIMITIVE)).isEmpty();
+        assertThat(flatten(List.of(), FlattenerEngine.CLASSIC)).isEmpty();
+    }
+
+    private static Offer getOffer(ZonedDateTime startDate, ZonedDateTime endDate, Integer priority, BigDecimal price,
+      String currencyIso) {
+        return Offer.builder()
+          .startDate(startDate)
+          .endDate(endDate)
+          .priority(priority)
+          .price(price)
+          .currencyIso(currencyIso)
+          .build();
+    }
+}
@@ -11,6 +11,7 @@ import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateReq
 import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.START_DATE;
 import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.TEXT_FIELD_IS_INVALID;
 import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.TEXT_FIELD_IS_REQUIRED;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.TEXT_FIELD_IS_UNKNOWN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static util.FileLoader.getObjectFromJsonFile;
@@ -92,4 +93,25 @@ class OfferCreateRequestValidatorTest extends AbstractOfferValidator {
         assertField(errors, START_DATE, String.format(TEXT_FIELD_IS_INVALID, START_DATE));
         assertField(errors, END_DATE, String.format(TEXT_FIELD_IS_INVALID, END_DATE));
     }
+
+    @DisplayName("Test valid Offer Create Request dto of an unknown brand")
+    @Test
+    void testValidOfferCreateRequestOfUnknownBrand() throws IOException {
+
+        final var offerCreateRequestDTO = getObjectFromJsonFile(OFFER_CREATE_REQUEST_PATH,
+          OfferCreateRequestDTO.class);
+        final var knownBrandValidator = new OfferCreateRequestValidator(brandId -> brandId == 1);
+
+        var errors = new BeanPropertyBindingResult(offerCreateRequestDTO, OFFERS);
+        knownBrandValidator.validate(offerCreateRequestDTO, errors);
+
+        assertThat(errors.getFieldErrorCount()).isZero();
+
+        offerCreateRequestDTO.setBrandId(2);
+        errors = new BeanPropertyBindingResult(offerCreateRequestDTO, OFFERS);
+        knownBrandValidator.validate(offerCreateRequestDTO, errors);
+
+        assertThat(errors.getFieldErrorCount()).isEqualTo(1);
+        assertField(errors, BRAND_ID, String.format(TEXT_FIELD_IS_UNKNOWN, BRAND_ID));
+    }
 }
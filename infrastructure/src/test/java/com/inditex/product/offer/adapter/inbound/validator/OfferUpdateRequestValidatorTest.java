@@ -0,0 +1,90 @@
+package com.inditex.product.offer.adapter.inbound.validator;
+
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.END_DATE;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.PRICE;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.PRIORITY;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.START_DATE;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferCreateRequestValidator.TEXT_FIELD_IS_INVALID;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferUpdateRequestValidator.TEXT_NOTHING_TO_UPDATE;
+import static com.inditex.product.offer.adapter.inbound.validator.OfferUpdateRequestValidator.VERSION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.inditex.product.offer.adapter.inbound.dto.OfferUpdateRequestDTO;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+
+/**
+ * This class test {@link OfferUpdateRequestValidator}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferUpdateRequestValidatorTest extends AbstractOfferValidator {
+
+    private static final String OFFER = "offer";
+
+    private final OfferUpdateRequestValidator offerUpdateRequestValidator = new OfferUpdateRequestValidator();
+
+    @DisplayName("Test valid class")
+    @Test
+    void testClassIsSupport() {
+        assertTrue(offerUpdateRequestValidator.supports(OfferUpdateRequestDTO.class));
+    }
+
+    @DisplayName("Test empty Offer Update Request dto with result KO")
+    @Test
+    void testEmptyOfferUpdateRequestDtoResultKO() {
+        var offerUpdateRequestDTO = OfferUpdateRequestDTO.builder().version(0L).build();
+
+        var errors = new BeanPropertyBindingResult(offerUpdateRequestDTO, OFFER);
+        offerUpdateRequestValidator.validate(offerUpdateRequestDTO, errors);
+
+        assertThat(errors.getGlobalErrorCount()).isEqualTo(1);
+        assertThat(errors.getGlobalError()).isNotNull();
+        assertThat(errors.getGlobalError().getDefaultMessage()).isEqualTo(TEXT_NOTHING_TO_UPDATE);
+    }
+
+    @DisplayName("Test valid Offer Update Request dto with result OK")
+    @Test
+    void testValidOfferUpdateRequestResultOk() {
+        var offerUpdateRequestDTO = OfferUpdateRequestDTO.builder()
+          .startDate("2020-06-14T00.00.00Z")
+          .endDate("2020-12-31T23.59.59Z")
+          .priority(1)
+          .price(new BigDecimal("30.50"))
+          .version(0L)
+          .build();
+
+        var errors = new BeanPropertyBindingResult(offerUpdateRequestDTO, OFFER);
+        offerUpdateRequestValidator.validate(offerUpdateRequestDTO, errors);
+
+        assertThat(errors.hasErrors()).isFalse();
+    }
+
+    @DisplayName("Test invalid Offer Update Request dto with result KO")
+    @Test
+    void testInvalidOfferUpdateRequestResultKO() {
+        var offerUpdateRequestDTO = OfferUpdateRequestDTO.builder()
+          .startDate("2020-06-14 00:00:00")
+          .endDate("2020-12-31")
+          .priority(-1)
+          .price(new BigDecimal("-1"))
+          .version(-1L)
+          .build();
+
+        var errors = new BeanPropertyBindingResult(offerUpdateRequestDTO, OFFER);
+        offerUpdateRequestValidator.validate(offerUpdateRequestDTO, errors);
+
+        assertThat(errors.getFieldErrorCount()).isEqualTo(5);
+        assertThat(errors.getGlobalErrorCount()).isZero();
+
+        assertField(errors, START_DATE, String.format(TEXT_FIELD_IS_INVALID, START_DATE));
+        assertField(errors, END_DATE, String.format(TEXT_FIELD_IS_INVALID, END_DATE));
+        assertField(errors, PRIORITY, String.format(TEXT_FIELD_IS_INVALID, PRIORITY));
+        assertField(errors, PRICE, String.format(TEXT_FIELD_IS_INVALID, PRICE));
+        assertField(errors, VERSION, String.format(TEXT_FIELD_IS_INVALID, VERSION));
+    }
+}
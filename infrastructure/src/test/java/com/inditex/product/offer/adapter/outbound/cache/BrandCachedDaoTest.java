@@ -0,0 +1,86 @@
+package com.inditex.product.offer.adapter.outbound.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.adapter.outbound.entity.BrandEntity;
+import com.inditex.product.offer.adapter.outbound.jpa.repository.BrandJpaAdapterRepository;
+import com.inditex.product.offer.configuration.BrandCacheProperties;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * This class test {@link BrandCachedDao}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class BrandCachedDaoTest {
+
+    @Mock
+    private BrandJpaAdapterRepository brandJpaAdapterRepository;
+
+    private BrandCachedDao brandCachedDao;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(brandJpaAdapterRepository.findAll()).thenReturn(List.of(new BrandEntity(1, "HIBERUS")));
+        brandCachedDao = new BrandCachedDao(brandJpaAdapterRepository,
+          BrandCacheProperties.builder().refreshInterval(Duration.ofMinutes(1)).build());
+        brandCachedDao.refresh();
+    }
+
+    @Test
+    @DisplayName("Test exists - Brands are answered from memory")
+    void testExists() {
+
+        assertThat(brandCachedDao.exists(1)).isTrue();
+        assertThat(brandCachedDao.exists(2)).isFalse();
+        assertThat(brandCachedDao.exists(1)).isTrue();
+        verify(brandJpaAdapterRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Test refresh - Changed brands replace the previous ones")
+    void testRefresh() {
+        when(brandJpaAdapterRepository.findAll()).thenReturn(List.of(new BrandEntity(2, "OTHER"), new BrandEntity(3, null)));
+
+        brandCachedDao.refresh();
+
+        assertThat(brandCachedDao.size()).isEqualTo(2);
+        assertThat(brandCachedDao.exists(1)).isFalse();
+        assertThat(brandCachedDao.exists(2)).isTrue();
+        assertThat(brandCachedDao.exists(3)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test configureTasks - Brands are refreshed at the configured interval")
+    void testConfigureTasks() {
+        final var taskRegistrar = mock(ScheduledTaskRegistrar.class);
+        final var taskCaptor = ArgumentCaptor.forClass(FixedDelayTask.class);
+
+        brandCachedDao.configureTasks(taskRegistrar);
+
+        verify(taskRegistrar).addFixedDelayTask(taskCaptor.capture());
+        assertThat(taskCaptor.getValue().getIntervalDuration()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(taskCaptor.getValue().getInitialDelayDuration()).isEqualTo(Duration.ofMinutes(1));
+
+        when(brandJpaAdapterRepository.findAll()).thenReturn(List.of());
+        taskCaptor.getValue().getRunnable().run();
+
+        assertThat(brandCachedDao.exists(1)).isFalse();
+        verify(brandJpaAdapterRepository, times(2)).findAll();
+    }
+}
@@ -0,0 +1,209 @@
+package com.inditex.product.offer.adapter.outbound.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
+import com.inditex.product.offer.configuration.OfferDaoCacheProperties;
+import com.inditex.product.offer.model.Offer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * This class test {@link OfferCachedDao}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferCachedDaoTest {
+
+    private static final Integer BRAND_ID = 1;
+
+    private static final String PART_NUMBER = "0001002";
+
+    private static final String OTHER_PART_NUMBER = "0001003";
+
+    @Mock
+    private OfferH2Dao offerH2Dao;
+
+    private OfferCachedDao offerCachedDao;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(offerH2Dao.getByCriteria(BRAND_ID, PART_NUMBER)).thenReturn(List.of(getOffer(1L, PART_NUMBER)));
+        when(offerH2Dao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER)).thenReturn(List.of(getOffer(2L, OTHER_PART_NUMBER)));
+        offerCachedDao = new OfferCachedDao(offerH2Dao, new OfferDaoCacheProperties());
+    }
+
+    @Test
+    @DisplayName("Test getByCriteria - Offers are loaded only once")
+    void testGetByCriteriaIsCached() {
+
+        final var offers = offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+
+        assertThat(offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER)).isSameAs(offers);
+        assertThat(offerCachedDao.hitRatio()).isEqualTo(0.5);
+        verify(offerH2Dao, times(1)).getByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test getById, getByIds, getAll and getPage - Calls are delegated")
+    void testGetByIdAndGetAllAreDelegated() {
+        final var offer = getOffer(1L, PART_NUMBER);
+        when(offerH2Dao.getById(1L)).thenReturn(offer);
+        when(offerH2Dao.getByIds(List.of(1L))).thenReturn(List.of(offer));
+        when(offerH2Dao.getAll()).thenReturn(List.of(offer));
+        when(offerH2Dao.getPage(0L, 10)).thenReturn(List.of(offer));
+
+        assertThat(offerCachedDao.getById(1L)).isSameAs(offer);
+        assertThat(offerCachedDao.getByIds(List.of(1L))).containsExactly(offer);
+        assertThat(offerCachedDao.getAll()).containsExactly(offer);
+        assertThat(offerCachedDao.getPage(0L, 10)).containsExactly(offer);
+        assertThat(offerCachedDao.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test getByCriteria - Least recently used product is evicted")
+    void testGetByCriteriaEvictsLeastRecentlyUsed() {
+        offerCachedDao = new OfferCachedDao(offerH2Dao, OfferDaoCacheProperties.builder().maximumSize(1).build());
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+
+        assertThat(offerCachedDao.size()).isEqualTo(1);
+        verify(offerH2Dao, times(2)).getByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test getByCriteria - Expired product is reloaded")
+    void testGetByCriteriaReloadsExpired() {
+        offerCachedDao = new OfferCachedDao(offerH2Dao,
+          OfferDaoCacheProperties.builder().expireAfterWrite(Duration.ZERO).build());
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+
+        verify(offerH2Dao, times(2)).getByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test offerCreated - Only the product of the offer is invalidated")
+    void testOfferCreatedInvalidatesProduct() {
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+        offerCachedDao.offerCreated(getOffer(3L, PART_NUMBER));
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+
+        verify(offerH2Dao, times(2)).getByCriteria(BRAND_ID, PART_NUMBER);
+        verify(offerH2Dao, times(1)).getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test offerCreated - Previous product of an updated offer is invalidated")
+    void testOfferCreatedInvalidatesPreviousProduct() {
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.offerCreated(getOffer(1L, "0001004"));
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+
+        verify(offerH2Dao, times(2)).getByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test offerDeleted - Only the product containing the offer is invalidated")
+    void testOfferDeletedInvalidatesProduct() {
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+        offerCachedDao.offerDeleted(2L);
+
+        assertThat(offerCachedDao.size()).isEqualTo(1);
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+
+        verify(offerH2Dao, times(1)).getByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test productOffersDeleted - Only the deleted product is invalidated")
+    void testProductOffersDeletedInvalidatesProduct() {
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+        offerCachedDao.productOffersDeleted(BRAND_ID, PART_NUMBER);
+
+        assertThat(offerCachedDao.size()).isEqualTo(1);
+
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+
+        verify(offerH2Dao, times(1)).getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test brandOffersDeleted - Products of the brand are invalidated")
+    void testBrandOffersDeletedInvalidatesBrand() {
+        when(offerH2Dao.getByCriteria(2, PART_NUMBER)).thenReturn(List.of());
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+        offerCachedDao.getByCriteria(2, PART_NUMBER);
+        offerCachedDao.brandOffersDeleted(BRAND_ID);
+
+        assertThat(offerCachedDao.size()).isEqualTo(1);
+
+        offerCachedDao.getByCriteria(2, PART_NUMBER);
+
+        verify(offerH2Dao, times(1)).getByCriteria(2, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test allOffersDeleted - All products are reloaded")
+    void testAllOffersDeletedInvalidatesAll() {
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.allOffersDeleted();
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+
+        verify(offerH2Dao, times(2)).getByCriteria(BRAND_ID, PART_NUMBER);
+    }
+
+    @Test
+    @DisplayName("Test bindTo - Cache metrics are registered")
+    void testBindToRegistersMetrics() {
+        final var registry = new SimpleMeterRegistry();
+        offerCachedDao = new OfferCachedDao(offerH2Dao, OfferDaoCacheProperties.builder().maximumSize(1).build());
+        offerCachedDao.bindTo(registry);
+
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, PART_NUMBER);
+        offerCachedDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER);
+
+        final var search = registry.find("cache.gets").tag("cache", OfferCachedDao.CACHE_NAME);
+        assertThat(search.tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.evictions").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("cache.hit.ratio").gauge().value()).isEqualTo(1.0 / 3);
+        assertThat(registry.get("cache.load.duration").functionTimer().count()).isEqualTo(2);
+    }
+
+    private static Offer getOffer(Long offerId, String partNumber) {
+        return Offer.builder()
+          .offerId(offerId)
+          .brandId(BRAND_ID)
+          .productPartNumber(partNumber)
+          .build();
+    }
+}
@@ -1,23 +1,29 @@
 package com.inditex.product.offer.adapter.outbound.jpa.dao;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
-import com.inditex.product.offer.adapter.outbound.entity.OfferEntity;
 import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
 import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferJpaAdapterRepository;
-import com.inditex.product.offer.adapter.outbound.mapper.OfferDboMapper;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferShards;
+import com.inditex.product.offer.configuration.OfferShardingProperties;
 import com.inditex.product.offer.model.Offer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -31,8 +37,8 @@ class OfferH2DaoTest {
     @Mock
     private OfferJpaAdapterRepository offerJpaAdapterRepository;
 
-    @Mock
-    private OfferDboMapper offerDboMapper;
+    @Spy
+    private OfferShards offerShards = new OfferShards(new OfferShardingProperties(), null);
 
     @InjectMocks
     private OfferH2Dao offerH2Dao;
@@ -46,44 +52,80 @@ class OfferH2DaoTest {
     @DisplayName("Test getById - Success")
     void testGetByIdSuccess() {
         final Long offerId = 1L;
-        var mockEntity = new OfferEntity();
         var mockOffer = new Offer();
-        when(offerJpaAdapterRepository.findById(offerId)).thenReturn(Optional.of(mockEntity));
-        when(offerDboMapper.toOfferDomain(mockEntity)).thenReturn(mockOffer);
+        when(offerJpaAdapterRepository.findOfferById(offerId)).thenReturn(Optional.of(mockOffer));
 
         final var result = offerH2Dao.getById(offerId);
 
-        assertEquals(mockOffer, result);
-        verify(offerJpaAdapterRepository).findById(offerId);
-        verify(offerDboMapper).toOfferDomain(mockEntity);
+        assertSame(mockOffer, result);
+        verify(offerJpaAdapterRepository).findOfferById(offerId);
+        verify(offerJpaAdapterRepository, never()).findById(offerId);
     }
 
     @Test
     @DisplayName("Test getById - Not Found")
     void testGetByIdNotFound() {
         final Long offerId = 1L;
-        when(offerJpaAdapterRepository.findById(offerId)).thenReturn(Optional.empty());
+        when(offerJpaAdapterRepository.findOfferById(offerId)).thenReturn(Optional.empty());
 
         var exception = assertThrows(OfferException.class, () -> offerH2Dao.getById(offerId));
         assertEquals("Offer not found with id: " + offerId, exception.getErrorMessage());
         assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
-        verify(offerJpaAdapterRepository).findById(offerId);
-        verifyNoInteractions(offerDboMapper);
+        verify(offerJpaAdapterRepository).findOfferById(offerId);
+    }
+
+    @Test
+    @DisplayName("Test getByIds - Offers are read with a single query")
+    void testGetByIdsSuccess() {
+        final var ids = List.of(1L, 2L);
+        final List<Offer> mockOffers = List.of(new Offer());
+        when(offerJpaAdapterRepository.findOffersByIds(ids)).thenReturn(mockOffers);
+
+        assertSame(mockOffers, offerH2Dao.getByIds(ids));
+        assertTrue(offerH2Dao.getByIds(List.of()).isEmpty());
+        verify(offerJpaAdapterRepository, times(1)).findOffersByIds(any());
+        verify(offerJpaAdapterRepository, never()).findOfferById(any());
     }
 
     @Test
     @DisplayName("Test getAll - Success")
     void testGetAllSuccess() {
-        final List<OfferEntity> mockEntities = List.of(new OfferEntity());
         final List<Offer> mockOffers = Collections.singletonList(new Offer());
-        when(offerJpaAdapterRepository.findAll()).thenReturn(mockEntities);
-        when(offerDboMapper.toOfferDomain(any(OfferEntity.class))).thenReturn(mockOffers.getFirst());
+        when(offerJpaAdapterRepository.findAllOffers()).thenReturn(mockOffers);
 
         final List<Offer> result = offerH2Dao.getAll();
 
         assertEquals(mockOffers, result);
-        verify(offerJpaAdapterRepository).findAll();
-        verify(offerDboMapper, times(mockEntities.size())).toOfferDomain(any(OfferEntity.class));
+        verify(offerJpaAdapterRepository).findAllOffers();
+        verify(offerJpaAdapterRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Test getPage - Success")
+    void testGetPageSuccess() {
+        final List<Offer> mockOffers = List.of(new Offer());
+        when(offerJpaAdapterRepository.findOffersAfterId(10L, Limit.of(5))).thenReturn(mockOffers);
+
+        final List<Offer> result = offerH2Dao.getPage(10L, 5);
+
+        assertEquals(mockOffers, result);
+        verify(offerJpaAdapterRepository).findOffersAfterId(10L, Limit.of(5));
+    }
+
+    @Test
+    @DisplayName("Test forEach - Every offer is passed and the stream is closed")
+    void testForEachSuccess() {
+        final List<Offer> mockOffers = List.of(new Offer(), new Offer());
+        final var closed = new AtomicBoolean();
+        when(offerJpaAdapterRepository.streamAllOffers())
+          .thenReturn(mockOffers.stream().onClose(() -> closed.set(true)));
+
+        final List<Offer> result = new ArrayList<>();
+        offerH2Dao.forEach(result::add);
+
+        assertEquals(mockOffers, result);
+        assertTrue(closed.get());
+        verify(offerJpaAdapterRepository).streamAllOffers();
     }
 
     @Test
@@ -91,16 +133,13 @@ class OfferH2DaoTest {
     void testGetByCriteriaSuccess() {
         final Integer brandId = 1;
         final String productPartNumber = "0001005";
-        List<OfferEntity> mockEntities = List.of(new OfferEntity());
         List<Offer> mockOffers = List.of(new Offer());
-        when(offerJpaAdapterRepository.findByBrandIdAndProductPartNumber(brandId, productPartNumber))
-          .thenReturn(mockEntities);
-        when(offerDboMapper.toOfferDomain(any(OfferEntity.class))).thenReturn(mockOffers.getFirst());
+        when(offerJpaAdapterRepository.findOffersByBrandIdAndProductPartNumber(brandId, productPartNumber))
+          .thenReturn(mockOffers);
 
         final List<Offer> result = offerH2Dao.getByCriteria(brandId, productPartNumber);
 
         assertEquals(mockOffers, result);
-        verify(offerJpaAdapterRepository).findByBrandIdAndProductPartNumber(brandId, productPartNumber);
-        verify(offerDboMapper, times(mockEntities.size())).toOfferDomain(any(OfferEntity.class));
+        verify(offerJpaAdapterRepository).findOffersByBrandIdAndProductPartNumber(brandId, productPartNumber);
     }
 }
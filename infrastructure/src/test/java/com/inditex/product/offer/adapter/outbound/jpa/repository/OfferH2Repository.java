@@ -1,19 +1,37 @@
 package com.inditex.product.offer.adapter.outbound.jpa.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.inditex.product.offer.adapter.outbound.entity.BrandEntity;
 import com.inditex.product.offer.adapter.outbound.entity.OfferEntity;
+import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferShards;
 import com.inditex.product.offer.adapter.outbound.mapper.OfferDboMapper;
+import com.inditex.product.offer.configuration.OfferBatchProperties;
+import com.inditex.product.offer.configuration.OfferShardingProperties;
 import com.inditex.product.offer.model.Offer;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.exception.ConstraintViolationException.ConstraintKind;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 
 /**
  * This class test {@link OfferH2Repository}
@@ -29,6 +47,15 @@ class OfferH2RepositoryTest {
     @Mock
     private OfferDboMapper offerDboMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private OfferBatchProperties offerBatchProperties = OfferBatchProperties.builder().size(2).build();
+
+    @Spy
+    private OfferShards offerShards = new OfferShards(new OfferShardingProperties(), null);
+
     @InjectMocks
     private OfferH2Repository offerH2Repository;
 
@@ -54,18 +81,155 @@ class OfferH2RepositoryTest {
         verify(offerDboMapper).toOfferDomain(mockEntity);
     }
 
+    @Test
+    @DisplayName("Test create - New offer is persisted with a brand reference")
+    void testCreatePersistsNewOffer() {
+        final var offer = getOffer(1L);
+        final var offerEntity = getOfferEntity(1L);
+        final var brandEntity = new BrandEntity();
+        when(offerDboMapper.toOfferEntity(offer)).thenReturn(offerEntity);
+        when(entityManager.getReference(BrandEntity.class, 1)).thenReturn(brandEntity);
+        when(offerJpaAdapterRepository.saveAndFlush(offerEntity)).thenReturn(offerEntity);
+        when(offerDboMapper.toOfferDomain(offerEntity)).thenReturn(offer);
+
+        assertEquals(offer, offerH2Repository.create(offer));
+        assertTrue(offerEntity.isNew());
+        assertSame(brandEntity, offerEntity.getBrandEntity());
+        verify(entityManager, never()).find(any(), any());
+    }
+
+    @Test
+    @DisplayName("Test create - Existing offer is a conflict")
+    void testCreateConflict() {
+        final var offer = getOffer(1L);
+        final var offerEntity = getOfferEntity(1L);
+        when(offerDboMapper.toOfferEntity(offer)).thenReturn(offerEntity);
+        when(offerJpaAdapterRepository.saveAndFlush(offerEntity)).thenThrow(new DataIntegrityViolationException("OFFER",
+          new ConstraintViolationException("Unique index or primary key violation", null, ConstraintKind.UNIQUE,
+            "PRIMARY_KEY")));
+
+        final var exception = assertThrows(OfferException.class, () -> offerH2Repository.create(offer));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("Test create - Other integrity violations are not a conflict")
+    void testCreateOtherIntegrityViolation() {
+        final var offer = getOffer(1L);
+        final var offerEntity = getOfferEntity(1L);
+        final var violation = new DataIntegrityViolationException("OFFER",
+          new ConstraintViolationException("Referential integrity constraint violation", null, ConstraintKind.OTHER,
+            "CONSTRAINT_48"));
+        when(offerDboMapper.toOfferEntity(offer)).thenReturn(offerEntity);
+        when(offerJpaAdapterRepository.saveAndFlush(offerEntity)).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> offerH2Repository.create(offer)));
+    }
+
+    @Test
+    @DisplayName("Test upsertAll - New offers are persisted and existing ones merged, in slices")
+    void testUpsertAllSuccess() {
+        final var offers = List.of(getOffer(1L), getOffer(2L), getOffer(3L));
+        final var entities = offers.stream().map(offer -> getOfferEntity(offer.getOfferId())).toList();
+        final var brandEntity = new BrandEntity();
+        for (int i = 0; i < offers.size(); i++) {
+            when(offerDboMapper.toOfferEntity(offers.get(i))).thenReturn(entities.get(i));
+            when(offerDboMapper.toOfferDomain(entities.get(i))).thenReturn(offers.get(i));
+        }
+        when(entityManager.getReference(BrandEntity.class, 1)).thenReturn(brandEntity);
+        final var existingEntity = getOfferEntity(2L);
+        existingEntity.setVersion(3L);
+        when(offerJpaAdapterRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(existingEntity));
+        when(entityManager.merge(entities.get(1))).thenReturn(entities.get(1));
+
+        final var result = offerH2Repository.upsertAll(offers);
+
+        assertEquals(offers, result);
+        verify(offerJpaAdapterRepository).findAllById(List.of(1L, 2L));
+        verify(offerJpaAdapterRepository).findAllById(List.of(3L));
+        verify(entityManager).persist(entities.get(0));
+        verify(entityManager).merge(entities.get(1));
+        verify(entityManager).persist(entities.get(2));
+        verify(entityManager, never()).persist(entities.get(1));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(offerJpaAdapterRepository, never()).saveAndFlush(any());
+        assertEquals(brandEntity, entities.get(0).getBrandEntity());
+        assertEquals(3L, entities.get(1).getVersion());
+    }
+
+    @Test
+    @DisplayName("Test createAll - New offers are persisted and existing ones skipped, in slices")
+    void testCreateAllSkipsExisting() {
+        final var offers = List.of(getOffer(1L), getOffer(2L), getOffer(3L));
+        final var entities = offers.stream().map(offer -> getOfferEntity(offer.getOfferId())).toList();
+        for (int i = 0; i < offers.size(); i++) {
+            when(offerDboMapper.toOfferEntity(offers.get(i))).thenReturn(entities.get(i));
+            when(offerDboMapper.toOfferDomain(entities.get(i))).thenReturn(offers.get(i));
+        }
+        final var existingEntity = getOfferEntity(2L);
+        existingEntity.setVersion(0L);
+        when(offerJpaAdapterRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(existingEntity));
+
+        final var result = offerH2Repository.createAll(offers);
+
+        assertEquals(List.of(offers.get(0), offers.get(2)), result);
+        verify(entityManager).persist(entities.get(0));
+        verify(entityManager).persist(entities.get(2));
+        verify(entityManager, never()).persist(entities.get(1));
+        verify(entityManager, never()).merge(any());
+        verify(offerDboMapper, never()).toOfferEntity(offers.get(1));
+        verify(entityManager, times(2)).flush();
+    }
+
     @Test
     @DisplayName("Test deleteById - Success")
     void testDeleteByIdSuccess() {
         final Long offerId = 1L;
-        offerH2Repository.deleteById(offerId);
-        verify(offerJpaAdapterRepository).deleteById(offerId);
+        when(offerJpaAdapterRepository.deleteOfferById(offerId)).thenReturn(1);
+
+        assertEquals(1, offerH2Repository.deleteById(offerId));
+        verify(offerJpaAdapterRepository).deleteOfferById(offerId);
+        verify(offerJpaAdapterRepository, never()).findById(offerId);
+    }
+
+    @Test
+    @DisplayName("Test deleteByBrandId - Success")
+    void testDeleteByBrandIdSuccess() {
+        when(offerJpaAdapterRepository.deleteByBrandId(1)).thenReturn(3);
+
+        assertEquals(3, offerH2Repository.deleteByBrandId(1));
+        verify(offerJpaAdapterRepository).deleteByBrandId(1);
+    }
+
+    @Test
+    @DisplayName("Test deleteByCriteria - Success")
+    void testDeleteByCriteriaSuccess() {
+        when(offerJpaAdapterRepository.deleteByBrandIdAndProductPartNumber(1, "0001002")).thenReturn(2);
+
+        assertEquals(2, offerH2Repository.deleteByCriteria(1, "0001002"));
+        verify(offerJpaAdapterRepository).deleteByBrandIdAndProductPartNumber(1, "0001002");
     }
 
     @Test
-    @DisplayName("Test deleteAll - Success")
+    @DisplayName("Test deleteAll - Success with a single bulk statement")
     void testDeleteAllSuccess() {
         offerH2Repository.deleteAll();
-        verify(offerJpaAdapterRepository).deleteAll();
+        verify(offerJpaAdapterRepository).deleteAllInBatch();
+        verify(offerJpaAdapterRepository, never()).deleteAll();
+    }
+
+    private static Offer getOffer(Long offerId) {
+        return Offer.builder()
+          .offerId(offerId)
+          .brandId(1)
+          .build();
+    }
+
+    private static OfferEntity getOfferEntity(Long offerId) {
+        var offerEntity = new OfferEntity();
+        offerEntity.setId(offerId);
+        return offerEntity;
     }
 }
\ No newline at end of file
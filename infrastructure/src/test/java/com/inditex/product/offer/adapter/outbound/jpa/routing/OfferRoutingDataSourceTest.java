@@ -0,0 +1,197 @@
+package com.inditex.product.offer.adapter.outbound.jpa.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferRoutingDataSource.Route;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * This class test {@link OfferRoutingDataSource}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Test getConnection - Read-only transactions read from the replica")
+    void testReadOnlyTransactionUsesReplica() throws Exception {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ofHours(1), false);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(replicaConnection, offerRoutingDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("Test getConnection - Connections outside read-only transactions use the primary")
+    void testOtherConnectionsUsePrimary() throws Exception {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ofHours(1), false);
+
+        assertSame(primaryConnection, offerRoutingDataSource.getConnection());
+        assertEquals(Route.REPLICA, readOnlyRoute(offerRoutingDataSource));
+    }
+
+    @Test
+    @DisplayName("Test currentRoute - Reads of a session within the replica lag after its write use the primary")
+    void testReadAfterWriteOfSessionUsesPrimary() {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ofHours(1), false);
+        final List<Long> writes = new ArrayList<>();
+
+        try (var offerWriteSession = OfferWriteSession.open(0, writes::add)) {
+            write(offerRoutingDataSource);
+
+            assertEquals(Route.PRIMARY, readOnlyRoute(offerRoutingDataSource));
+            assertEquals(2, writes.size());
+            assertEquals(offerWriteSession.getLastWriteEpochMillis(), writes.getLast());
+        }
+    }
+
+    @Test
+    @DisplayName("Test currentRoute - Reads of a session sending back a recent write use the primary")
+    void testReadWithWriteTokenUsesPrimary() {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ofHours(1), false);
+
+        try (var offerWriteSession = OfferWriteSession.open(System.currentTimeMillis(), write -> {
+        })) {
+            assertEquals(Route.PRIMARY, readOnlyRoute(offerRoutingDataSource));
+        }
+        try (var offerWriteSession = OfferWriteSession.open(Long.MAX_VALUE, write -> {
+        })) {
+            assertTrue(offerWriteSession.getLastWriteEpochMillis() <= System.currentTimeMillis());
+        }
+    }
+
+    @Test
+    @DisplayName("Test currentRoute - Reads of other sessions after a write use the replica")
+    void testReadAfterWriteOfOtherSessionUsesReplica() {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ofHours(1), false);
+
+        try (var offerWriteSession = OfferWriteSession.open(0, write -> {
+        })) {
+            write(offerRoutingDataSource);
+        }
+
+        try (var offerWriteSession = OfferWriteSession.open(0, write -> {
+        })) {
+            assertEquals(Route.REPLICA, readOnlyRoute(offerRoutingDataSource));
+        }
+        assertEquals(Route.REPLICA, readOnlyRoute(offerRoutingDataSource));
+    }
+
+    @Test
+    @DisplayName("Test currentRoute - Every read within the replica lag after a write uses the primary when global")
+    void testReadAfterWriteOfNodeUsesPrimaryWhenGlobal() {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ofHours(1), true);
+
+        write(offerRoutingDataSource);
+
+        try (var offerWriteSession = OfferWriteSession.open(0, write -> {
+        })) {
+            assertEquals(Route.PRIMARY, readOnlyRoute(offerRoutingDataSource));
+        }
+        assertEquals(Route.PRIMARY, readOnlyRoute(offerRoutingDataSource));
+    }
+
+    @Test
+    @DisplayName("Test withSharedLoad - Shared loads within the replica lag after a write of the node use the primary")
+    void testSharedLoadAfterWriteOfNodeUsesPrimary() {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ofHours(1), false);
+
+        assertEquals(Route.REPLICA,
+          OfferRoutingDataSource.withSharedLoad(() -> readOnlyRoute(offerRoutingDataSource)));
+
+        try (var offerWriteSession = OfferWriteSession.open(0, write -> {
+        })) {
+            write(offerRoutingDataSource);
+        }
+
+        try (var offerWriteSession = OfferWriteSession.open(0, write -> {
+        })) {
+            assertEquals(Route.PRIMARY,
+              OfferRoutingDataSource.withSharedLoad(() -> readOnlyRoute(offerRoutingDataSource)));
+            assertEquals(Route.REPLICA, readOnlyRoute(offerRoutingDataSource));
+        }
+        assertEquals(Route.PRIMARY, OfferRoutingDataSource.withSharedLoad(
+          () -> OfferRoutingDataSource.withSharedLoad(() -> readOnlyRoute(offerRoutingDataSource))));
+        assertEquals(Route.REPLICA, readOnlyRoute(offerRoutingDataSource));
+    }
+
+    @Test
+    @DisplayName("Test currentRoute - Reads after the replica lag use the replica")
+    void testReadAfterReplicaLagUsesReplica() {
+        final var offerRoutingDataSource = getOfferRoutingDataSource(Duration.ZERO, true);
+
+        try (var offerWriteSession = OfferWriteSession.open(0, write -> {
+        })) {
+            write(offerRoutingDataSource);
+
+            assertEquals(Route.REPLICA, readOnlyRoute(offerRoutingDataSource));
+        }
+    }
+
+    private OfferRoutingDataSource getOfferRoutingDataSource(Duration maxReplicaLag, boolean globalReadYourWrites) {
+        final var offerRoutingDataSource = new OfferRoutingDataSource(primary, replica, maxReplicaLag,
+          globalReadYourWrites);
+        offerRoutingDataSource.afterPropertiesSet();
+        return offerRoutingDataSource;
+    }
+
+    private static void write(OfferRoutingDataSource offerRoutingDataSource) {
+        TransactionSynchronizationManager.initSynchronization();
+        assertEquals(Route.PRIMARY, offerRoutingDataSource.currentRoute());
+        TransactionSynchronizationManager.getSynchronizations()
+          .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+    private static Route readOnlyRoute(OfferRoutingDataSource offerRoutingDataSource) {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            return offerRoutingDataSource.currentRoute();
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.inditex.product.offer.adapter.outbound.jpa.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
+import com.inditex.product.offer.configuration.OfferShardingProperties;
+import com.inditex.product.offer.configuration.OfferShardingProperties.Shard;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+/**
+ * This class test {@link OfferShards}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferShardsTest {
+
+    @Mock
+    private PlatformTransactionManager platformTransactionManager;
+
+    private OfferShards offerShards;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        offerShards = getOfferShards(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        offerShards.close();
+    }
+
+    @Test
+    @DisplayName("Test shardOf - Brands are spread by the remainder of their identifier")
+    void testShardOf() {
+
+        assertTrue(offerShards.isSharded());
+        assertEquals(0, offerShards.shardOf(3));
+        assertEquals(1, offerShards.shardOf(4));
+        assertEquals(2, offerShards.shardOf(-1));
+    }
+
+    @Test
+    @DisplayName("Test onShard - The shard of the brand is bound while the action runs")
+    void testOnShardBindsShard() {
+
+        assertEquals(2, offerShards.onShard(5, OfferShardRoutingDataSource::currentShard));
+        assertNull(OfferShardRoutingDataSource.currentShard());
+    }
+
+    @Test
+    @DisplayName("Test onEveryShard - Every shard runs in its own transaction and thread")
+    void testOnEveryShardRunsInParallel() {
+        final var caller = Thread.currentThread();
+
+        final var results = offerShards.onEveryShard(true, shard -> {
+            assertNotSame(caller, Thread.currentThread());
+            return OfferShardRoutingDataSource.currentShard();
+        });
+
+        assertEquals(List.of(0, 1, 2), results);
+        final var definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(platformTransactionManager, times(3)).getTransaction(definition.capture());
+        assertTrue(definition.getAllValues().stream().allMatch(TransactionDefinition::isReadOnly));
+    }
+
+    @Test
+    @DisplayName("Test onEveryShard - The failure of a shard is rethrown")
+    void testOnEveryShardRethrowsFailure() {
+        final var failure = new OfferException("Offer with id: 1 is not at version: 0", HttpStatus.CONFLICT);
+
+        final var exception = assertThrows(OfferException.class, () -> offerShards.onEveryShard(false, shard -> {
+            if (shard == 1) {
+                throw failure;
+            }
+            return shard;
+        }));
+
+        assertSame(failure, exception);
+        verify(platformTransactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Test onEveryShardAtomically - Every shard is committed once all of them succeeded")
+    void testOnEveryShardAtomicallyCommitsAll() {
+
+        final var results = offerShards.onEveryShardAtomically(shard -> shard);
+
+        assertEquals(List.of(0, 1, 2), results);
+        verify(platformTransactionManager, times(3)).commit(any());
+        verify(platformTransactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Test onEveryShardAtomically - Every shard is rolled back when one of them fails")
+    void testOnEveryShardAtomicallyRollsBackAll() {
+        final var failure = new OfferException("Offer already exists with id: 1", HttpStatus.CONFLICT);
+
+        final var exception = assertThrows(OfferException.class, () -> offerShards.onEveryShardAtomically(shard -> {
+            if (shard == 2) {
+                throw failure;
+            }
+            return shard;
+        }));
+
+        assertSame(failure, exception);
+        verify(platformTransactionManager, times(3)).rollback(any());
+        verify(platformTransactionManager, never()).commit(any());
+    }
+
+    @Test
+    @DisplayName("Test onEveryShard - A single shard runs on the calling thread")
+    void testOnEveryShardWithSingleShard() {
+        offerShards.close();
+        offerShards = getOfferShards(0);
+        final var caller = Thread.currentThread();
+
+        final var results = offerShards.onEveryShard(false, shard -> Thread.currentThread());
+
+        assertFalse(offerShards.isSharded());
+        assertEquals(0, offerShards.shardOf(5));
+        assertEquals(List.of(caller), results);
+        verify(platformTransactionManager, times(0)).getTransaction(any());
+    }
+
+    private OfferShards getOfferShards(int shardCount) {
+        final var shards = IntStream.range(0, shardCount)
+          .mapToObj(shard -> Shard.builder().url("jdbc:h2:mem:shard" + shard).build())
+          .toList();
+        return new OfferShards(OfferShardingProperties.builder().shards(shards).build(), platformTransactionManager);
+    }
+}
@@ -0,0 +1,162 @@
+package com.inditex.product.offer.adapter.outbound.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
+import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
+import com.inditex.product.offer.model.Offer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+/**
+ * This class test {@link OfferInMemoryDao}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferInMemoryDaoTest {
+
+    private static final Integer BRAND_ID = 1;
+
+    private static final String PART_NUMBER = "0001002";
+
+    private static final String OTHER_PART_NUMBER = "0001003";
+
+    @Mock
+    private OfferH2Dao offerH2Dao;
+
+    @InjectMocks
+    private OfferInMemoryDao offerInMemoryDao;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doAnswer(invocation -> {
+            Consumer<Offer> action = invocation.getArgument(0);
+            List.of(getOffer(1L, BRAND_ID, PART_NUMBER), getOffer(2L, BRAND_ID, OTHER_PART_NUMBER),
+              getOffer(3L, BRAND_ID, PART_NUMBER), getOffer(4L, 2, PART_NUMBER)).forEach(action);
+            return null;
+        }).when(offerH2Dao).forEach(any());
+        offerInMemoryDao.load();
+    }
+
+    @Test
+    @DisplayName("Test load - Offers are read once from the database")
+    void testLoad() {
+
+        assertEquals(4, offerInMemoryDao.size());
+        assertEquals(List.of(1L, 2L, 3L, 4L), getOfferIds(offerInMemoryDao.getAll()));
+        verify(offerH2Dao).forEach(any());
+    }
+
+    @Test
+    @DisplayName("Test getById - Success and Not Found")
+    void testGetById() {
+
+        assertEquals(PART_NUMBER, offerInMemoryDao.getById(3L).getProductPartNumber());
+
+        final var exception = assertThrows(OfferException.class, () -> offerInMemoryDao.getById(5L));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+    @Test
+    @DisplayName("Test getByIds - Found offers ordered by id, missing ids skipped")
+    void testGetByIds() {
+
+        assertEquals(List.of(1L, 3L), getOfferIds(offerInMemoryDao.getByIds(List.of(3L, 5L, 1L, 3L))));
+        assertThat(offerInMemoryDao.getByIds(List.of(5L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test getPage and forEach - Offers are ordered by id")
+    void testGetPageAndForEach() {
+
+        assertEquals(List.of(1L, 2L), getOfferIds(offerInMemoryDao.getPage(0L, 2)));
+        assertEquals(List.of(3L, 4L), getOfferIds(offerInMemoryDao.getPage(2L, 2)));
+        assertThat(offerInMemoryDao.getPage(4L, 2)).isEmpty();
+
+        final List<Offer> offers = new ArrayList<>();
+        offerInMemoryDao.forEach(offers::add);
+        assertEquals(List.of(1L, 2L, 3L, 4L), getOfferIds(offers));
+    }
+
+    @Test
+    @DisplayName("Test getByCriteria - Offers of the product ordered by id")
+    void testGetByCriteria() {
+
+        assertEquals(List.of(1L, 3L), getOfferIds(offerInMemoryDao.getByCriteria(BRAND_ID, PART_NUMBER)));
+        assertEquals(List.of(4L), getOfferIds(offerInMemoryDao.getByCriteria(2, PART_NUMBER)));
+        assertThat(offerInMemoryDao.getByCriteria(3, PART_NUMBER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test put - An updated offer moves to its new product")
+    void testPutMovesOffer() {
+
+        offerInMemoryDao.put(getOffer(1L, BRAND_ID, OTHER_PART_NUMBER));
+
+        assertEquals(4, offerInMemoryDao.size());
+        assertEquals(List.of(3L), getOfferIds(offerInMemoryDao.getByCriteria(BRAND_ID, PART_NUMBER)));
+        assertEquals(List.of(1L, 2L), getOfferIds(offerInMemoryDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER)));
+    }
+
+    @Test
+    @DisplayName("Test remove - Offers are removed from both maps")
+    void testRemove() {
+
+        offerInMemoryDao.remove(2L);
+        offerInMemoryDao.remove(5L);
+
+        assertEquals(List.of(1L, 3L, 4L), getOfferIds(offerInMemoryDao.getAll()));
+        assertThat(offerInMemoryDao.getByCriteria(BRAND_ID, OTHER_PART_NUMBER)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Test removeByBrandId and removeByCriteria - Only the matching offers are removed")
+    void testRemoveByBrandIdAndCriteria() {
+
+        offerInMemoryDao.removeByCriteria(BRAND_ID, PART_NUMBER);
+
+        assertEquals(List.of(2L, 4L), getOfferIds(offerInMemoryDao.getAll()));
+
+        offerInMemoryDao.removeByBrandId(BRAND_ID);
+
+        assertEquals(List.of(4L), getOfferIds(offerInMemoryDao.getAll()));
+        assertEquals(List.of(4L), getOfferIds(offerInMemoryDao.getByCriteria(2, PART_NUMBER)));
+    }
+
+    @Test
+    @DisplayName("Test clear - No offer is left")
+    void testClear() {
+
+        offerInMemoryDao.clear();
+
+        assertEquals(0, offerInMemoryDao.size());
+        assertThat(offerInMemoryDao.getByCriteria(BRAND_ID, PART_NUMBER)).isEmpty();
+    }
+
+    private static List<Long> getOfferIds(List<Offer> offers) {
+        return offers.stream().map(Offer::getOfferId).toList();
+    }
+
+    private static Offer getOffer(Long offerId, Integer brandId, String partNumber) {
+        return Offer.builder()
+          .offerId(offerId)
+          .brandId(brandId)
+          .productPartNumber(partNumber)
+          .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.inditex.product.offer.adapter.outbound.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
+import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferH2Repository;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * This class test {@link OfferInMemoryRepository}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferInMemoryRepositoryTest {
+
+    private static final Integer BRAND_ID = 1;
+
+    private static final String PART_NUMBER = "0001002";
+
+    @Mock
+    private OfferH2Repository offerH2Repository;
+
+    @Mock
+    private OfferH2Dao offerH2Dao;
+
+    private OfferInMemoryDao offerInMemoryDao;
+
+    private OfferInMemoryRepository offerInMemoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        offerInMemoryDao = new OfferInMemoryDao(offerH2Dao);
+        offerInMemoryRepository = new OfferInMemoryRepository(offerH2Repository, offerInMemoryDao);
+    }
+
+    @Test
+    @DisplayName("Test create and createAll - Created offers are written through")
+    void testCreateWritesThrough() {
+        final var offer = getOffer(1L, PART_NUMBER);
+        final var offers = List.of(getOffer(2L, PART_NUMBER), getOffer(3L, "0001003"));
+        when(offerH2Repository.create(offer)).thenReturn(offer);
+        when(offerH2Repository.createAll(offers)).thenReturn(offers);
+
+        assertSame(offer, offerInMemoryRepository.create(offer));
+        assertSame(offers, offerInMemoryRepository.createAll(offers));
+
+        assertSame(offer, offerInMemoryDao.getById(1L));
+        assertEquals(3, offerInMemoryDao.size());
+        assertEquals(2, offerInMemoryDao.getByCriteria(BRAND_ID, PART_NUMBER).size());
+    }
+
+    @Test
+    @DisplayName("Test createAll and upsertAll - Only the offers written to the database are put in memory")
+    void testCreateAllAndUpsertAllWriteThrough() {
+        final var offer = getOffer(1L, PART_NUMBER);
+        final var movedOffer = getOffer(1L, "0001003");
+        final var newOffer = getOffer(2L, PART_NUMBER);
+        when(offerH2Repository.createAll(List.of(offer))).thenReturn(List.of(offer));
+        when(offerH2Repository.createAll(List.of(movedOffer, newOffer))).thenReturn(List.of(newOffer));
+        when(offerH2Repository.upsertAll(List.of(movedOffer))).thenReturn(List.of(movedOffer));
+
+        offerInMemoryRepository.createAll(List.of(offer));
+        assertEquals(List.of(newOffer), offerInMemoryRepository.createAll(List.of(movedOffer, newOffer)));
+        assertSame(offer, offerInMemoryDao.getById(1L));
+
+        assertEquals(List.of(movedOffer), offerInMemoryRepository.upsertAll(List.of(movedOffer)));
+        assertSame(movedOffer, offerInMemoryDao.getById(1L));
+        assertEquals(List.of(newOffer), offerInMemoryDao.getByCriteria(BRAND_ID, PART_NUMBER));
+    }
+
+    @Test
+    @DisplayName("Test create - A failed write leaves the offers in memory untouched")
+    void testCreateFailure() {
+        final var offer = getOffer(1L, PART_NUMBER);
+        when(offerH2Repository.create(offer)).thenThrow(new IllegalStateException("Database error"));
+
+        assertThrows(IllegalStateException.class, () -> offerInMemoryRepository.create(offer));
+
+        assertEquals(0, offerInMemoryDao.size());
+    }
+
+    @Test
+    @DisplayName("Test update - The updated offer replaces the one in memory")
+    void testUpdateWritesThrough() {
+        final var offerUpdate = OfferUpdate.builder().price(BigDecimal.TEN).version(0L).build();
+        final var updatedOffer = getOffer(1L, PART_NUMBER);
+        updatedOffer.setPrice(BigDecimal.TEN);
+        updatedOffer.setVersion(1L);
+        offerInMemoryDao.put(getOffer(1L, PART_NUMBER));
+        when(offerH2Repository.update(1L, offerUpdate)).thenReturn(updatedOffer);
+
+        assertSame(updatedOffer, offerInMemoryRepository.update(1L, offerUpdate));
+
+        assertSame(updatedOffer, offerInMemoryDao.getById(1L));
+        assertEquals(List.of(updatedOffer), offerInMemoryDao.getByCriteria(BRAND_ID, PART_NUMBER));
+    }
+
+    @Test
+    @DisplayName("Test update - Concurrent writes of an offer reach memory in the order they were committed")
+    void testConcurrentUpdatesAreSerialized() throws Exception {
+        final var firstUpdate = OfferUpdate.builder().price(BigDecimal.ONE).version(0L).build();
+        final var secondUpdate = OfferUpdate.builder().price(BigDecimal.TEN).version(1L).build();
+        final var firstOffer = getOffer(1L, PART_NUMBER);
+        firstOffer.setVersion(1L);
+        final var secondOffer = getOffer(1L, PART_NUMBER);
+        secondOffer.setVersion(2L);
+        final var firstCommitted = new CountDownLatch(1);
+        final var releaseFirst = new CountDownLatch(1);
+        when(offerH2Repository.update(1L, firstUpdate)).thenAnswer(invocation -> {
+            firstCommitted.countDown();
+            releaseFirst.await();
+            return firstOffer;
+        });
+        when(offerH2Repository.update(1L, secondUpdate)).thenReturn(secondOffer);
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var first = executor.submit(() -> offerInMemoryRepository.update(1L, firstUpdate));
+            firstCommitted.await();
+            final var second = executor.submit(() -> offerInMemoryRepository.update(1L, secondUpdate));
+
+            verify(offerH2Repository, after(100).never()).update(1L, secondUpdate);
+            releaseFirst.countDown();
+            assertSame(firstOffer, first.get());
+            assertSame(secondOffer, second.get());
+        }
+
+        assertSame(secondOffer, offerInMemoryDao.getById(1L));
+    }
+
+    @Test
+    @DisplayName("Test deletes - Deleted offers are removed after the database")
+    void testDeletesWriteThrough() {
+        offerInMemoryDao.put(getOffer(1L, PART_NUMBER));
+        offerInMemoryDao.put(getOffer(2L, "0001003"));
+        offerInMemoryDao.put(getOffer(3L, "0001004"));
+        offerInMemoryDao.put(Offer.builder().offerId(4L).brandId(2).productPartNumber(PART_NUMBER).build());
+        when(offerH2Repository.deleteById(1L)).thenReturn(1);
+        when(offerH2Repository.deleteByCriteria(BRAND_ID, "0001003")).thenReturn(1);
+        when(offerH2Repository.deleteByBrandId(BRAND_ID)).thenReturn(1);
+
+        assertEquals(1, offerInMemoryRepository.deleteById(1L));
+        assertEquals(1, offerInMemoryRepository.deleteByCriteria(BRAND_ID, "0001003"));
+        assertEquals(List.of(3L, 4L), offerInMemoryDao.getAll().stream().map(Offer::getOfferId).toList());
+
+        assertEquals(1, offerInMemoryRepository.deleteByBrandId(BRAND_ID));
+        assertEquals(List.of(4L), offerInMemoryDao.getAll().stream().map(Offer::getOfferId).toList());
+
+        offerInMemoryRepository.deleteAll();
+
+        assertThat(offerInMemoryDao.getAll()).isEmpty();
+        verify(offerH2Repository).deleteById(1L);
+        verify(offerH2Repository).deleteByCriteria(BRAND_ID, "0001003");
+        verify(offerH2Repository).deleteByBrandId(BRAND_ID);
+        verify(offerH2Repository).deleteAll();
+    }
+
+    private static Offer getOffer(Long offerId, String partNumber) {
+        return Offer.builder()
+          .offerId(offerId)
+          .brandId(BRAND_ID)
+          .productPartNumber(partNumber)
+          .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.inditex.product.offer.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.inditex.product.offer.service.OfferChangePublisher;
 import com.inditex.product.offer.service.OfferCreateService;
 import com.inditex.product.offer.service.OfferDeleteService;
 import com.inditex.product.offer.service.OfferGetService;
@@ -37,6 +38,7 @@ class OfferConfigurationTest {
                 assertThat(context).hasSingleBean(OfferGetService.class);
                 assertThat(context).hasSingleBean(OfferCreateService.class);
                 assertThat(context).hasSingleBean(OfferDeleteService.class);
+                assertThat(context).hasSingleBean(OfferChangePublisher.class);
             });
     }
 
@@ -0,0 +1,48 @@
+package com.inditex.product.offer.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+/**
+ * This class test {@link OfferShardingConfiguration}
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+class OfferShardingConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner()
+        .withUserConfiguration(OfferShardingConfiguration.class);
+
+    @Test
+    @DisplayName("Should fail to start up when both the shards and the read replica are configured")
+    void shouldFailWithShardsAndReplica() {
+
+        contextRunner
+          .withPropertyValues("offer.sharding.shards[0].url=jdbc:h2:mem:shard0",
+            "offer.datasource.replica.url=jdbc:h2:mem:replicadb")
+          .run(
+            context -> assertThat(context).hasFailed()
+              .getFailure()
+              .rootCause()
+              .isInstanceOf(IllegalStateException.class)
+              .hasMessageContaining("Sharding cannot be combined with a read replica"));
+    }
+
+    @Test
+    @DisplayName("Should not route to shards when only the read replica is configured")
+    void shouldSkipShardingWithReplicaOnly() {
+
+        contextRunner
+          .withPropertyValues("offer.datasource.replica.url=jdbc:h2:mem:replicadb")
+          .run(
+            context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).doesNotHaveBean(OfferShardingConfiguration.class);
+            });
+    }
+}
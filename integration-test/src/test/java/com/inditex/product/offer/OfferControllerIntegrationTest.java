@@ -1,32 +1,54 @@
 package com.inditex.product.offer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.inditex.product.offer.adapter.inbound.controller.OfferController;
 import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferResponseDTO;
+import com.inditex.product.offer.adapter.inbound.dto.OfferUpdateRequestDTO;
 import com.inditex.product.offer.adapter.outbound.entity.BrandEntity;
 import com.inditex.product.offer.adapter.outbound.entity.OfferEntity;
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
 import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferJpaAdapterRepository;
 import com.inditex.product.offer.service.OfferCreateService;
 import com.inditex.product.offer.service.OfferDeleteService;
 import com.inditex.product.offer.service.OfferGetService;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Integration tests for the {@link OfferController}
@@ -53,6 +75,12 @@ class OfferControllerIntegrationTest {
 
     private static final String OFFER_URI_TEMPLATE = "/offer";
 
+    private static final String FLATTENED_URI_TEMPLATE = "/brand/{brandId}/partnumber/{partNumber}/offer";
+
+    private static final String BATCH_URI_TEMPLATE = "/offer/batch";
+
+    private static final String PRICE_URI_TEMPLATE = "/brand/{brandId}/partnumber/{partNumber}/price";
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -62,6 +90,15 @@ class OfferControllerIntegrationTest {
     @Autowired
     private OfferJpaAdapterRepository offerJpaAdapterRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OfferH2Dao offerH2Dao;
+
     @Autowired
     private OfferCreateService offerCreateService;
 
@@ -89,6 +126,116 @@ class OfferControllerIntegrationTest {
     }
 
 
+    @Test
+    @DisplayName("Integration Test: Create Offer with a single INSERT and reject an existing one")
+    void testCreateOfferSingleInsert() throws Exception {
+
+        final var requestDTO = getOfferCreateRequestDTO();
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            mockMvc.perform(post(OFFER_URI_TEMPLATE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requestDTO)))
+              .andExpect(status().isCreated());
+
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(1, statistics.getEntityInsertCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Integration Test: Offers are read in read-only transactions that never flush")
+    void testReadOffersReadOnly() throws Exception {
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(getOfferCreateRequestDTO())))
+          .andExpect(status().isCreated());
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            assertEquals(1L, offerH2Dao.getById(1L).getOfferId());
+            assertEquals(1, offerH2Dao.getAll().size());
+            assertEquals(1, offerH2Dao.getPage(0L, 10).size());
+            assertEquals(1, offerH2Dao.getByCriteria(1, "0001002").size());
+            offerH2Dao.forEach(offer -> {
+                final var session = entityManager.unwrap(Session.class);
+                assertTrue(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                assertTrue(session.isDefaultReadOnly());
+                assertEquals(FlushMode.MANUAL, session.getHibernateFlushMode());
+            });
+
+            assertEquals(5, statistics.getSuccessfulTransactionCount());
+            assertEquals(0, statistics.getFlushCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("Integration Test: Update the price of an offer checking its version")
+    void testUpdateOffer() throws Exception {
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(getOfferCreateRequestDTO())))
+          .andExpect(status().isCreated());
+
+        final var requestDTO = OfferUpdateRequestDTO.builder().price(new BigDecimal("19.99")).version(0L).build();
+
+        mockMvc.perform(patch(OFFER_URI_TEMPLATE + "/{offerId}", 1L)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(19.99))
+          .andExpect(jsonPath("$.priority").value(1))
+          .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(patch(OFFER_URI_TEMPLATE + "/{offerId}", 1L)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isConflict());
+
+        mockMvc.perform(patch(OFFER_URI_TEMPLATE + "/{offerId}", 2L)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isNotFound());
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE + "/{offerId}", 1L))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(19.99))
+          .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("Integration Test: Create Offer of an unknown brand is rejected before the database")
+    void testCreateOfferOfUnknownBrand() throws Exception {
+
+        final var requestDTO = getOfferCreateRequestDTO();
+        requestDTO.setBrandId(2);
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isBadRequest());
+
+        assertEquals(0, offerJpaAdapterRepository.count());
+    }
+
     @Test
     @DisplayName("Integration Test: Get All Offers")
     void testGetAllOffers() throws Exception {
@@ -101,6 +248,21 @@ class OfferControllerIntegrationTest {
           .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @DisplayName("Integration Test: Get Offers by ids in one request, reporting the missing ids")
+    void testGetOffersByIds() throws Exception {
+
+        final var offerEntity = getOfferEntity();
+        offerJpaAdapterRepository.save(offerEntity);
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE).param("ids", "2,1"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.offers.length()").value(1))
+          .andExpect(jsonPath("$.offers[0].offerId").value(1))
+          .andExpect(jsonPath("$.missingIds.length()").value(1))
+          .andExpect(jsonPath("$.missingIds[0]").value(2));
+    }
+
     @Test
     @DisplayName("Integration Test: Delete All Offers")
     void testDeleteAllOffers() throws Exception {
@@ -116,16 +278,285 @@ class OfferControllerIntegrationTest {
           .andExpect(jsonPath("$").isEmpty());
     }
 
+    @Test
+    @DisplayName("Integration Test: Get price at date follows the offer writes")
+    void testGetPriceAtDate() throws Exception {
+
+        final var requestDTO = getOfferCreateRequestDTO();
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isNotFound());
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isCreated());
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.startDate").value("2025-05-14T00.00.00Z"))
+          .andExpect(jsonPath("$.price").value(25.50));
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE + "/{offerId}", requestDTO.getOfferId()))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE + "/{offerId}", requestDTO.getOfferId()))
+          .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Integration Test: Get and stream flattened offers within a date window")
+    void testGetFlattenedOffersWithinWindow() throws Exception {
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(getOfferCreateRequestDTO())))
+          .andExpect(status().isCreated());
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, 1, "0001002")
+            .param("from", "2025-05-14T12.00.00Z")
+            .param("to", "2025-05-15T12.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].startDate").value("2025-05-14T12.00.00Z"))
+          .andExpect(jsonPath("$[0].endDate").value("2025-05-14T23.59.58Z"));
+
+        final var mvcResult = mockMvc.perform(get(FLATTENED_URI_TEMPLATE, 1, "0001002")
+            .param("stream", "true")
+            .param("from", "2025-05-14T12.00.00Z"))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].startDate").value("2025-05-14T12.00.00Z"))
+          .andExpect(jsonPath("$[0].price").value(25.50));
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, 1, "0001002").param("from", "2025-05-15T00.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(0));
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, 1, "0001002")
+            .param("from", "2025-05-15T00.00.00Z")
+            .param("to", "2025-05-14T00.00.00Z"))
+          .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Integration Test: Create a batch of offers as JSON and NDJSON")
+    void testCreateOffersInBatch() throws Exception {
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        final var firstOffer = getOfferCreateRequestDTO();
+        final var secondOffer = getOfferCreateRequestDTO(2L, 2, "2025-05-14T10.00.00Z");
+        secondOffer.setPrice(BigDecimal.valueOf(19.95));
+        final var invalidOffer = getOfferCreateRequestDTO(3L, 1, "2025-05-14 10:00:00");
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(Arrays.asList(firstOffer, secondOffer, invalidOffer, firstOffer))))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.created").value(2))
+          .andExpect(jsonPath("$.errors.length()").value(2))
+          .andExpect(jsonPath("$.errors[0].index").value(2))
+          .andExpect(jsonPath("$.errors[1].index").value(3));
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(19.95));
+
+        final var ndjsonWriter = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        final var existingOffer = getOfferCreateRequestDTO(2L, 0, "2025-05-14T10.00.00Z");
+        final var newOffer = getOfferCreateRequestDTO(4L, 0, "2025-05-14T10.00.00Z");
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(ndjsonWriter.writeValueAsString(existingOffer) + "\n" + ndjsonWriter.writeValueAsString(newOffer)))
+          .andExpect(status().isCreated())
+          .andExpect(jsonPath("$.created").value(1))
+          .andExpect(jsonPath("$.errors.length()").value(1))
+          .andExpect(jsonPath("$.errors[0].index").value(0))
+          .andExpect(jsonPath("$.errors[0].errors[0]").value("The offerId already exists"));
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(ndjsonWriter.writeValueAsString(existingOffer)))
+          .andExpect(status().isConflict())
+          .andExpect(jsonPath("$.created").value(0));
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(3));
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(19.95));
+    }
+
+    @Test
+    @DisplayName("Integration Test: Delete the offers of a product and of a brand")
+    void testDeleteOffersByCriteria() throws Exception {
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        final var otherProductOffer = getOfferCreateRequestDTO(2L, 1, "2025-05-14T00.00.00Z");
+        otherProductOffer.setProductPartnumber("0001003");
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(Arrays.asList(getOfferCreateRequestDTO(), otherProductOffer))))
+          .andExpect(status().isCreated());
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(delete(FLATTENED_URI_TEMPLATE, 1, "0001002"))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isNotFound());
+        mockMvc.perform(get(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].productPartnumber").value("0001003"));
+
+        mockMvc.perform(delete("/brand/{brandId}/offer", 1))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Integration Test: Page through the offers with the keyset cursor")
+    void testGetOffersByPage() throws Exception {
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(Arrays.asList(getOfferCreateRequestDTO(3L, 1, "2025-05-14T00.00.00Z"),
+              getOfferCreateRequestDTO(1L, 1, "2025-05-15T00.00.00Z"),
+              getOfferCreateRequestDTO(2L, 1, "2025-05-16T00.00.00Z")))))
+          .andExpect(status().isCreated());
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE).param("limit", "2"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(2))
+          .andExpect(jsonPath("$[0].offerId").value(1))
+          .andExpect(jsonPath("$[1].offerId").value(2))
+          .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/offer?after=2&limit=2>; rel=\"next\""));
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE).param("after", "2").param("limit", "2"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].offerId").value(3))
+          .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @Test
+    @DisplayName("Integration Test: Export the offers as gzip-compressed NDJSON")
+    void testExportOffers() throws Exception {
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(post(BATCH_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(Arrays.asList(getOfferCreateRequestDTO(2L, 1, "2025-05-14T00.00.00Z"),
+              getOfferCreateRequestDTO(1L, 1, "2025-05-15T00.00.00Z")))))
+          .andExpect(status().isCreated());
+
+        final var mvcResult = mockMvc.perform(get(OFFER_URI_TEMPLATE + "/export")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+          .andExpect(request().asyncStarted())
+          .andReturn();
+
+        final var body = mockMvc.perform(asyncDispatch(mvcResult))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+          .andReturn()
+          .getResponse()
+          .getContentAsByteArray();
+
+        try (var inputStream = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            final var lines = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+            assertEquals(2, lines.length);
+            assertEquals(1L, objectMapper.readValue(lines[0], OfferResponseDTO.class).getOfferId());
+            assertEquals(2L, objectMapper.readValue(lines[1], OfferResponseDTO.class).getOfferId());
+        }
+    }
+
+    @Test
+    @DisplayName("Integration Test: Import a CSV file and follow its progress")
+    void testImportOffers() throws Exception {
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        final var csv = """
+          offerId,brandId,startDate,endDate,priceListId,productPartnumber,priority,price,currencyIso
+          1,1,2020-06-14T00.00.00Z,2020-12-31T23.59.59Z,1,0001002,0,35.50,EUR
+          2,1,2020-06-14T15.00.00Z,invalid,2,0001002,1,25.45,EUR
+          3,1,2020-06-15T16.00.00Z,2020-12-31T23.59.59Z,4,0001002,1,38.95,EUR
+          """;
+
+        final var location = mockMvc.perform(post(OFFER_URI_TEMPLATE + "/import")
+            .param("source", "offers.csv")
+            .contentType("text/csv")
+            .content(csv))
+          .andExpect(status().isAccepted())
+          .andReturn()
+          .getResponse()
+          .getHeader(HttpHeaders.LOCATION);
+
+        var status = "RUNNING";
+        for (int attempt = 0; attempt < 100 && "RUNNING".equals(status); attempt++) {
+            Thread.sleep(50);
+            status = JsonPath.read(mockMvc.perform(get(location))
+              .andExpect(status().isOk())
+              .andReturn()
+              .getResponse()
+              .getContentAsString(), "$.status");
+        }
+
+        mockMvc.perform(get(location))
+          .andExpect(jsonPath("$.status").value("COMPLETED"))
+          .andExpect(jsonPath("$.read").value(3))
+          .andExpect(jsonPath("$.imported").value(2))
+          .andExpect(jsonPath("$.errors[0].line").value(3));
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2020-06-16T12.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(38.95));
+    }
 
     private static OfferCreateRequestDTO getOfferCreateRequestDTO() {
+        return getOfferCreateRequestDTO(1L, 1, "2025-05-14T00.00.00Z");
+    }
+
+    private static OfferCreateRequestDTO getOfferCreateRequestDTO(Long offerId, Integer priority, String startDate) {
         return OfferCreateRequestDTO.builder()
-          .offerId(1L)
+          .offerId(offerId)
           .brandId(1)
           .price(BigDecimal.valueOf(25.50))
           .currencyIso("EUR")
-          .startDate("2025-05-14T00.00.00Z")
+          .startDate(startDate)
           .endDate("2025-05-14T23.59.59Z")
-          .priority(1)
+          .priority(priority)
           .productPartnumber("0001002")
           .priceListId(1L)
           .build();
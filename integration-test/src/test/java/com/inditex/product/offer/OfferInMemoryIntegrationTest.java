@@ -0,0 +1,104 @@
+package com.inditex.product.offer;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
+import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferJpaAdapterRepository;
+import com.inditex.product.offer.adapter.outbound.memory.OfferInMemoryDao;
+import com.inditex.product.offer.adapter.outbound.memory.OfferInMemoryRepository;
+import com.inditex.product.offer.port.dao.OfferDao;
+import com.inditex.product.offer.port.repository.OfferRepository;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests of the offers served by the {@link OfferInMemoryDao}
+ * <p>
+ * The application is started with the {@value OfferInMemoryDao#PROFILE} profile on its own database, so the offers loaded
+ * at startup are read from memory and every write reaches both the database and the memory.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:inmemorydb")
+@AutoConfigureMockMvc
+@ActiveProfiles(OfferInMemoryDao.PROFILE)
+class OfferInMemoryIntegrationTest {
+
+    private static final String OFFER_URI_TEMPLATE = "/offer";
+
+    private static final String PRICE_URI_TEMPLATE = "/brand/{brandId}/partnumber/{partNumber}/price";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OfferJpaAdapterRepository offerJpaAdapterRepository;
+
+    @Autowired
+    private OfferDao offerDao;
+
+    @Autowired
+    private OfferRepository offerRepository;
+
+    @Test
+    @DisplayName("Integration Test: Offers are read from memory and written through to the database")
+    void testInMemoryOffers() throws Exception {
+
+        assertInstanceOf(OfferInMemoryDao.class, offerDao);
+        assertInstanceOf(OfferInMemoryRepository.class, offerRepository);
+
+        final var requestDTO = OfferCreateRequestDTO.builder()
+          .offerId(10L)
+          .brandId(1)
+          .price(BigDecimal.valueOf(25.50))
+          .currencyIso("EUR")
+          .startDate("2025-05-14T00.00.00Z")
+          .endDate("2025-05-14T23.59.59Z")
+          .priority(1)
+          .productPartnumber("0001002")
+          .priceListId(1L)
+          .build();
+
+        mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isCreated());
+
+        assertTrue(offerJpaAdapterRepository.existsById(10L));
+
+        // rows removed behind the adapter are still served, as no read reaches the database
+        offerJpaAdapterRepository.deleteAllInBatch();
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE + "/{offerId}", 1))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(35.50));
+
+        mockMvc.perform(get(PRICE_URI_TEMPLATE, 1, "0001002").param("date", "2025-05-14T12.00.00Z"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(25.50));
+
+        mockMvc.perform(delete(OFFER_URI_TEMPLATE))
+          .andExpect(status().isOk());
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE + "/{offerId}", 10))
+          .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,136 @@
+package com.inditex.product.offer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferJpaAdapterRepository;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Query plan regression tests of the offer statements
+ * <p>
+ * Every test calls a hot method of the {@link OfferJpaAdapterRepository}, captures the SQL that Hibernate sends to the
+ * database with a {@link StatementInspector}, and fails if H2 falls back to a table scan when running {@code EXPLAIN} on
+ * it. The reads of a product must seek {@value #CRITERIA_INDEX}; H2 plans the bulk deletes on the first index of the
+ * brand, either that one or the index of the foreign key. The deletes are rolled back.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@SpringBootTest
+class OfferQueryPlanIntegrationTest {
+
+    private static final String CRITERIA_INDEX = "IDX_OFFER_BRAND_PART_START";
+
+    private static final String TABLE_SCAN = "tableScan";
+
+    private static final Integer BRAND_ID = 1;
+
+    private static final String PART_NUMBER = "0001002";
+
+    @Autowired
+    private OfferJpaAdapterRepository offerJpaAdapterRepository;
+
+    @Autowired
+    private RecordingStatementInspector recordingStatementInspector;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Query Plan Test: Offers of a product use the criteria index")
+    void testFindOffersByCriteriaUsesIndex() {
+
+        final var sql = captureSql(
+          () -> offerJpaAdapterRepository.findOffersByBrandIdAndProductPartNumber(BRAND_ID, PART_NUMBER));
+
+        assertThat(explain(sql, BRAND_ID, PART_NUMBER))
+          .contains(CRITERIA_INDEX, "BRAND_ID = ?1", "PART_NUMBER = ?2")
+          .doesNotContain(TABLE_SCAN);
+    }
+
+    @Test
+    @DisplayName("Query Plan Test: Deletes by product and by brand use an index on the brand")
+    void testDeleteOffersByCriteriaUsesIndex() {
+
+        final var deleteByProductSql = captureSql(
+          () -> offerJpaAdapterRepository.deleteByBrandIdAndProductPartNumber(BRAND_ID, PART_NUMBER));
+        final var deleteByBrandSql = captureSql(() -> offerJpaAdapterRepository.deleteByBrandId(BRAND_ID));
+
+        assertThat(explain(deleteByProductSql, BRAND_ID, PART_NUMBER))
+          .contains("BRAND_ID = ?1 */")
+          .doesNotContain(TABLE_SCAN);
+        assertThat(explain(deleteByBrandSql, BRAND_ID))
+          .contains("BRAND_ID = ?1 */")
+          .doesNotContain(TABLE_SCAN);
+    }
+
+    /**
+     * Runs the call in a transaction that is always rolled back, and returns the only statement it sent to the database.
+     */
+    private String captureSql(Runnable call) {
+        recordingStatementInspector.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        });
+
+        assertThat(recordingStatementInspector.statements()).hasSize(1);
+        return recordingStatementInspector.statements().getFirst();
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    @TestConfiguration
+    static class StatementInspectorConfiguration {
+
+        @Bean
+        RecordingStatementInspector recordingStatementInspector() {
+            return new RecordingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(RecordingStatementInspector statementInspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementInspector);
+        }
+    }
+
+    /**
+     * {@link StatementInspector} keeping every statement prepared by Hibernate, unchanged.
+     */
+    static class RecordingStatementInspector implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        List<String> statements() {
+            return List.copyOf(statements);
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+}
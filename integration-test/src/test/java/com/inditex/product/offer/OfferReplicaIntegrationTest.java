@@ -0,0 +1,143 @@
+package com.inditex.product.offer;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.product.offer.adapter.inbound.controller.filter.OfferWriteTokenFilter;
+import com.inditex.product.offer.adapter.inbound.dto.OfferCreateRequestDTO;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferRoutingDataSource;
+import java.math.BigDecimal;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests of the reads routed to a read replica by the {@link OfferRoutingDataSource}
+ * <p>
+ * Two H2 instances stand in for the primary and the replica, both initialized by {@code data.sql} and not replicated, and
+ * no offers are imported at startup. An offer written only to the replica tells which of them served a read, and only
+ * the client sending back the write token of its write reads from the primary, while the caches shared by every client
+ * are filled from the primary after any write.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@SpringBootTest(properties = {
+  "spring.datasource.url=jdbc:h2:mem:primarydb",
+  "offer.datasource.replica.url=jdbc:h2:mem:replicadb",
+  "offer.datasource.replica.username=sa",
+  "offer.datasource.replica.password=password",
+  "offer.datasource.max-replica-lag=1h",
+  "offer.import.startup-location="})
+@AutoConfigureMockMvc
+class OfferReplicaIntegrationTest {
+
+    private static final String OFFER_URI_TEMPLATE = "/offer";
+
+    private static final String FLATTENED_URI_TEMPLATE = "/brand/{brandId}/partnumber/{partNumber}/offer";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Test
+    @DisplayName("Integration Test: Reads go to the replica, and to the primary for the client sending back its write")
+    void testReadsAreRoutedToReplica() throws Exception {
+
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO OFFER (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, "
+          + "PART_NUMBER, PRIORITY, PRICE, CURR) VALUES (1, 1, TIMESTAMP WITH TIME ZONE '2025-05-14 00:00:00+00', "
+          + "TIMESTAMP WITH TIME ZONE '2025-05-14 23:59:59+00', 1, '0001002', 0, 25.50, 'EUR')");
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE + "/{offerId}", 1L))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(25.50));
+
+        final var requestDTO = OfferCreateRequestDTO.builder()
+          .offerId(2L)
+          .brandId(1)
+          .price(BigDecimal.valueOf(19.99))
+          .currencyIso("EUR")
+          .startDate("2025-05-14T00.00.00Z")
+          .endDate("2025-05-14T23.59.59Z")
+          .priority(1)
+          .productPartnumber("0001002")
+          .priceListId(1L)
+          .build();
+
+        final var writeToken = mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isCreated())
+          .andExpect(header().exists(OfferWriteTokenFilter.WRITE_TOKEN_HEADER))
+          .andReturn().getResponse().getHeader(OfferWriteTokenFilter.WRITE_TOKEN_HEADER);
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE + "/{offerId}", 2L)
+            .header(OfferWriteTokenFilter.WRITE_TOKEN_HEADER, writeToken))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(19.99))
+          .andExpect(header().doesNotExist(OfferWriteTokenFilter.WRITE_TOKEN_HEADER));
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE + "/{offerId}", 1L)
+            .header(OfferWriteTokenFilter.WRITE_TOKEN_HEADER, writeToken))
+          .andExpect(status().isNotFound());
+
+        mockMvc.perform(get(OFFER_URI_TEMPLATE + "/{offerId}", 1L))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.price").value(25.50));
+    }
+
+    @Test
+    @DisplayName("Integration Test: Cached products are loaded from the primary after a write, whatever the client")
+    void testCachedReadsAfterWriteUsePrimary() throws Exception {
+
+        new JdbcTemplate(replicaDataSource).update("INSERT INTO OFFER (ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, "
+          + "PART_NUMBER, PRIORITY, PRICE, CURR) VALUES (3, 1, TIMESTAMP WITH TIME ZONE '2025-05-14 00:00:00+00', "
+          + "TIMESTAMP WITH TIME ZONE '2025-05-14 23:59:59+00', 1, '0001003', 0, 25.50, 'EUR')");
+
+        final var requestDTO = OfferCreateRequestDTO.builder()
+          .offerId(4L)
+          .brandId(1)
+          .price(BigDecimal.valueOf(19.99))
+          .currencyIso("EUR")
+          .startDate("2025-05-14T00.00.00Z")
+          .endDate("2025-05-14T23.59.59Z")
+          .priority(1)
+          .productPartnumber("0001003")
+          .priceListId(1L)
+          .build();
+
+        final var writeToken = mockMvc.perform(post(OFFER_URI_TEMPLATE)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(requestDTO)))
+          .andExpect(status().isCreated())
+          .andReturn().getResponse().getHeader(OfferWriteTokenFilter.WRITE_TOKEN_HEADER);
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, 1, "0001003"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].price").value(19.99));
+
+        mockMvc.perform(get(FLATTENED_URI_TEMPLATE, 1, "0001003")
+            .header(OfferWriteTokenFilter.WRITE_TOKEN_HEADER, writeToken))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.length()").value(1))
+          .andExpect(jsonPath("$[0].price").value(19.99));
+    }
+}
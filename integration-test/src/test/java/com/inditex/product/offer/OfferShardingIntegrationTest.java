@@ -0,0 +1,166 @@
+package com.inditex.product.offer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.inditex.product.offer.adapter.outbound.jpa.dao.OfferH2Dao;
+import com.inditex.product.offer.adapter.outbound.jpa.exception.OfferException;
+import com.inditex.product.offer.adapter.outbound.jpa.repository.OfferH2Repository;
+import com.inditex.product.offer.adapter.outbound.jpa.routing.OfferShardRoutingDataSource;
+import com.inditex.product.offer.model.Offer;
+import com.inditex.product.offer.model.OfferUpdate;
+import java.math.BigDecimal;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Integration tests of the offers split by brand across the shards of the {@link OfferShardRoutingDataSource}
+ * <p>
+ * Two H2 instances stand in for the shards, both initialized by {@code data.sql}, and no offers are imported at startup.
+ * The offers of brand 1 live in the second shard and those of brand 2 in the first one.
+ *
+ * @author [product-offers@inditex.es]
+ * @since 1.0.0
+ */
+@SpringBootTest(properties = {
+  "offer.sharding.shards[0].url=jdbc:h2:mem:shard0",
+  "offer.sharding.shards[0].username=sa",
+  "offer.sharding.shards[0].password=password",
+  "offer.sharding.shards[1].url=jdbc:h2:mem:shard1",
+  "offer.sharding.shards[1].username=sa",
+  "offer.sharding.shards[1].password=password",
+  "offer.import.startup-location="})
+class OfferShardingIntegrationTest {
+
+    private static final String PART_NUMBER = "0001002";
+
+    @Autowired
+    private OfferH2Repository offerH2Repository;
+
+    @Autowired
+    private OfferH2Dao offerH2Dao;
+
+    @Autowired
+    private OfferShardRoutingDataSource offerShardRoutingDataSource;
+
+    private List<JdbcTemplate> shards;
+
+    @BeforeEach
+    void setUp() {
+        shards = offerShardRoutingDataSource.getShards().stream().map(JdbcTemplate::new).toList();
+        shards.forEach(shard -> shard.update("MERGE INTO BRAND (ID, BRAND_NAME) VALUES (2, 'OTHER')"));
+        offerH2Repository.deleteAll();
+        offerH2Repository.createAll(List.of(getOffer(1L, 1), getOffer(2L, 2), getOffer(3L, 1), getOffer(4L, 2)));
+    }
+
+    @Test
+    @DisplayName("Integration Test: Offers are written to the shard of their brand")
+    void testOffersAreWrittenToTheirShard() {
+
+        assertEquals(List.of(2L, 4L), shards.get(0).queryForList("SELECT ID FROM OFFER ORDER BY ID", Long.class));
+        assertEquals(List.of(1L, 3L), shards.get(1).queryForList("SELECT ID FROM OFFER ORDER BY ID", Long.class));
+    }
+
+    @Test
+    @DisplayName("Integration Test: Reads across the shards are merged by id")
+    void testReadsAreMergedAcrossShards() {
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), offerIds(offerH2Dao.getAll()));
+        assertEquals(List.of(2L, 3L), offerIds(offerH2Dao.getPage(1L, 2)));
+        assertEquals(List.of(2L, 4L), offerIds(offerH2Dao.getByCriteria(2, PART_NUMBER)));
+        assertEquals(2, offerH2Dao.getById(2L).getBrandId());
+
+        final List<Long> exportedIds = new ArrayList<>();
+        offerH2Dao.forEach(offer -> exportedIds.add(offer.getOfferId()));
+        assertEquals(List.of(1L, 2L, 3L, 4L), exportedIds);
+    }
+
+    @Test
+    @DisplayName("Integration Test: Offers are updated and deleted on whichever shard holds them")
+    void testWritesByIdReachEveryShard() {
+
+        final var updated = offerH2Repository.update(3L, OfferUpdate.builder().price(new BigDecimal("12.34")).build());
+        assertEquals(new BigDecimal("12.34"), updated.getPrice());
+        assertEquals(1L, updated.getVersion());
+
+        final var missing = OfferUpdate.builder().price(BigDecimal.ONE).build();
+        final var exception = assertThrows(OfferException.class,
+          () -> offerH2Repository.update(5L, missing));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+
+        assertEquals(1, offerH2Repository.deleteById(4L));
+        assertEquals(2, offerH2Repository.deleteByBrandId(1));
+        assertEquals(List.of(2L), offerIds(offerH2Dao.getAll()));
+
+        offerH2Repository.deleteAll();
+        shards.forEach(shard -> assertEquals(0, shard.queryForObject("SELECT COUNT(*) FROM OFFER", Integer.class)));
+    }
+
+    @Test
+    @DisplayName("Integration Test: An offer id is unique across the shards, and an upsert moves it")
+    void testOfferIdIsUniqueAcrossShards() {
+
+        final var exception = assertThrows(OfferException.class, () -> offerH2Repository.create(getOffer(1L, 2)));
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        assertEquals(0, countOffers(0, 1L));
+        assertEquals(1, countOffers(1, 1L));
+
+        final var created = offerH2Repository.createAll(List.of(getOffer(1L, 2), getOffer(5L, 1)));
+        assertEquals(List.of(5L), offerIds(created));
+        assertEquals(0, countOffers(0, 1L));
+        assertEquals(1, countOffers(1, 1L));
+
+        final var moved = offerH2Repository.upsertAll(List.of(getOffer(1L, 2)));
+
+        assertEquals(List.of(1L), offerIds(moved));
+        assertEquals(1, countOffers(0, 1L));
+        assertEquals(0, countOffers(1, 1L));
+        assertEquals(2, offerH2Dao.getById(1L).getBrandId());
+        assertEquals(1L, offerH2Dao.getById(1L).getVersion());
+        assertEquals(5, offerH2Dao.getAll().size());
+    }
+
+    @Test
+    @DisplayName("Integration Test: A batch failing on a shard is written to none")
+    void testBatchIsWrittenToEveryShardOrNone() {
+
+        final var offers = List.of(getOffer(6L, 2), getOffer(7L, 3));
+
+        assertThrows(DataIntegrityViolationException.class, () -> offerH2Repository.createAll(offers));
+        assertEquals(0, countOffers(0, 6L));
+        assertEquals(List.of(1L, 2L, 3L, 4L), offerIds(offerH2Dao.getAll()));
+    }
+
+    private int countOffers(int shard, Long offerId) {
+        return shards.get(shard).queryForObject("SELECT COUNT(*) FROM OFFER WHERE ID = ?", Integer.class, offerId);
+    }
+
+    private static List<Long> offerIds(List<Offer> offers) {
+        return offers.stream().map(Offer::getOfferId).toList();
+    }
+
+    private static Offer getOffer(Long offerId, Integer brandId) {
+        final var startDate = ZonedDateTime.of(2025, 5, 14, 0, 0, 0, 0, ZoneOffset.UTC);
+        return Offer.builder()
+          .offerId(offerId)
+          .brandId(brandId)
+          .startDate(startDate)
+          .endDate(startDate.plusDays(1))
+          .priceListId(offerId)
+          .productPartNumber(PART_NUMBER)
+          .priority(0)
+          .price(new BigDecimal("25.50"))
+          .currencyIso("EUR")
+          .build();
+    }
+}